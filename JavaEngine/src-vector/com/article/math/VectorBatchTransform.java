@@ -0,0 +1,144 @@
+package com.article.math;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BatchTransform} that goes through {@code FloatVector} lanes of the widest
+ * size of the processor, the points left over at the end go through the plain loops
+ * <br>
+ * <br>
+ * Lives in the optional {@code src-vector} source root, as it needs
+ * {@code --add-modules jdk.incubator.vector} to compile and to run... it is compiled
+ * against {@code src} and only loaded by name from {@link BatchTransform#get()}
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+final class VectorBatchTransform extends BatchTransform {
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+	
+	VectorBatchTransform() {}
+	
+	@Override
+	public boolean isVectorized() {
+		// A single lane is slower than the plain loops
+		return SPECIES.length() > 1;
+	}
+	
+	@Override
+	public int getLanes() {
+		return SPECIES.length();
+	}
+	
+	@Override
+	void transformRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+						final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+						final int from, final int to) {
+		// Not enough points for a single pass
+		if(to - from < SPECIES.length()) {
+			super.transformRange(matrix, x, y, z, w, outX, outY, outZ, outW, from, to);
+			return;
+		}
+		
+		final FloatVector m00 = broadcast(matrix.m00), m01 = broadcast(matrix.m01), m02 = broadcast(matrix.m02), m03 = broadcast(matrix.m03);
+		final FloatVector m10 = broadcast(matrix.m10), m11 = broadcast(matrix.m11), m12 = broadcast(matrix.m12), m13 = broadcast(matrix.m13);
+		final FloatVector m20 = broadcast(matrix.m20), m21 = broadcast(matrix.m21), m22 = broadcast(matrix.m22), m23 = broadcast(matrix.m23);
+		final FloatVector m30 = broadcast(matrix.m30), m31 = broadcast(matrix.m31), m32 = broadcast(matrix.m32), m33 = broadcast(matrix.m33);
+		
+		final int lanes = SPECIES.length();
+		int i = from;
+		for(; i <= to - lanes; i += lanes) {
+			final FloatVector pointX = FloatVector.fromArray(SPECIES, x, i);
+			final FloatVector pointY = FloatVector.fromArray(SPECIES, y, i);
+			final FloatVector pointZ = FloatVector.fromArray(SPECIES, z, i);
+			final FloatVector pointW = FloatVector.fromArray(SPECIES, w, i);
+			
+			pointX.mul(m00).add(pointY.mul(m10)).add(pointZ.mul(m20)).add(pointW.mul(m30)).intoArray(outX, i);
+			pointX.mul(m01).add(pointY.mul(m11)).add(pointZ.mul(m21)).add(pointW.mul(m31)).intoArray(outY, i);
+			pointX.mul(m02).add(pointY.mul(m12)).add(pointZ.mul(m22)).add(pointW.mul(m32)).intoArray(outZ, i);
+			pointX.mul(m03).add(pointY.mul(m13)).add(pointZ.mul(m23)).add(pointW.mul(m33)).intoArray(outW, i);
+		}
+		
+		// Tail
+		super.transformRange(matrix, x, y, z, w, outX, outY, outZ, outW, i, to);
+	}
+	
+	@Override
+	void transformPointsRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z,
+							  final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+							  final int from, final int to) {
+		// Not enough points for a single pass
+		if(to - from < SPECIES.length()) {
+			super.transformPointsRange(matrix, x, y, z, outX, outY, outZ, outW, from, to);
+			return;
+		}
+		
+		final FloatVector m00 = broadcast(matrix.m00), m01 = broadcast(matrix.m01), m02 = broadcast(matrix.m02), m03 = broadcast(matrix.m03);
+		final FloatVector m10 = broadcast(matrix.m10), m11 = broadcast(matrix.m11), m12 = broadcast(matrix.m12), m13 = broadcast(matrix.m13);
+		final FloatVector m20 = broadcast(matrix.m20), m21 = broadcast(matrix.m21), m22 = broadcast(matrix.m22), m23 = broadcast(matrix.m23);
+		final FloatVector m30 = broadcast(matrix.m30), m31 = broadcast(matrix.m31), m32 = broadcast(matrix.m32), m33 = broadcast(matrix.m33);
+		
+		final int lanes = SPECIES.length();
+		int i = from;
+		for(; i <= to - lanes; i += lanes) {
+			final FloatVector pointX = FloatVector.fromArray(SPECIES, x, i);
+			final FloatVector pointY = FloatVector.fromArray(SPECIES, y, i);
+			final FloatVector pointZ = FloatVector.fromArray(SPECIES, z, i);
+			
+			pointX.mul(m00).add(pointY.mul(m10)).add(pointZ.mul(m20)).add(m30).intoArray(outX, i);
+			pointX.mul(m01).add(pointY.mul(m11)).add(pointZ.mul(m21)).add(m31).intoArray(outY, i);
+			pointX.mul(m02).add(pointY.mul(m12)).add(pointZ.mul(m22)).add(m32).intoArray(outZ, i);
+			pointX.mul(m03).add(pointY.mul(m13)).add(pointZ.mul(m23)).add(m33).intoArray(outW, i);
+		}
+		
+		// Tail
+		super.transformPointsRange(matrix, x, y, z, outX, outY, outZ, outW, i, to);
+	}
+	
+	@Override
+	void projectRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+					  final float[] screenX, final float[] screenY, final float[] depth,
+					  final int from, final int to,
+					  final float offsetX, final float offsetY, final float halfWidth, final float halfHeight) {
+		// Not enough points for a single pass
+		if(to - from < SPECIES.length()) {
+			super.projectRange(matrix, x, y, z, w, screenX, screenY, depth, from, to, offsetX, offsetY, halfWidth, halfHeight);
+			return;
+		}
+		
+		final FloatVector m00 = broadcast(matrix.m00), m01 = broadcast(matrix.m01), m02 = broadcast(matrix.m02), m03 = broadcast(matrix.m03);
+		final FloatVector m10 = broadcast(matrix.m10), m11 = broadcast(matrix.m11), m12 = broadcast(matrix.m12), m13 = broadcast(matrix.m13);
+		final FloatVector m20 = broadcast(matrix.m20), m21 = broadcast(matrix.m21), m22 = broadcast(matrix.m22), m23 = broadcast(matrix.m23);
+		final FloatVector m30 = broadcast(matrix.m30), m31 = broadcast(matrix.m31), m32 = broadcast(matrix.m32), m33 = broadcast(matrix.m33);
+		
+		final FloatVector offsetXs = broadcast(offsetX), offsetYs = broadcast(offsetY);
+		final FloatVector halfWidths = broadcast(halfWidth), halfHeights = broadcast(halfHeight);
+		
+		final int lanes = SPECIES.length();
+		int i = from;
+		for(; i <= to - lanes; i += lanes) {
+			final FloatVector pointX = FloatVector.fromArray(SPECIES, x, i);
+			final FloatVector pointY = FloatVector.fromArray(SPECIES, y, i);
+			final FloatVector pointZ = FloatVector.fromArray(SPECIES, z, i);
+			final FloatVector pointW = FloatVector.fromArray(SPECIES, w, i);
+			
+			final FloatVector clipX = pointX.mul(m00).add(pointY.mul(m10)).add(pointZ.mul(m20)).add(pointW.mul(m30));
+			final FloatVector clipY = pointX.mul(m01).add(pointY.mul(m11)).add(pointZ.mul(m21)).add(pointW.mul(m31));
+			final FloatVector clipZ = pointX.mul(m02).add(pointY.mul(m12)).add(pointZ.mul(m22)).add(pointW.mul(m32));
+			final FloatVector clipW = pointX.mul(m03).add(pointY.mul(m13)).add(pointZ.mul(m23)).add(pointW.mul(m33));
+			
+			// Perspective divide, then the screen
+			clipX.div(clipW).add(offsetXs).mul(halfWidths).intoArray(screenX, i);
+			clipY.div(clipW).add(offsetYs).mul(halfHeights).intoArray(screenY, i);
+			clipZ.div(clipW).intoArray(depth, i);
+		}
+		
+		// Tail
+		super.projectRange(matrix, x, y, z, w, screenX, screenY, depth, i, to, offsetX, offsetY, halfWidth, halfHeight);
+	}
+	
+	private static FloatVector broadcast(final float value) {
+		return FloatVector.broadcast(SPECIES, value);
+	}
+}
@@ -1,496 +1,666 @@
-package com.article;
-
-import java.awt.Canvas;
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferStrategy;
-import java.util.ArrayList;
-
-import javax.swing.JFrame;
-
-import com.article.gfx.Renderer;
-
-/**
- * Main class a.k.a. foundation of the engine,
- * this holds several useful methods
- * 
- * @since 1.0
- * @version 1.0
- */
-public final class Engine extends Canvas implements Runnable {
-	private static final long serialVersionUID = 1L;
-
-	private static Engine engine;
-	
-	private JFrame frame;
-	private Thread thread;
-	
-	// Run variables
-	private static double TPS = 60.0; // Ticks per second
-	private static int FPS = 0; // Frames per second
-	private static int TICKS = 0; // Current Ticks
-	
-	// Objects
-	private final ArrayList<Obj> objects;
-	
-	// Others
-	private Graphics2D graphics2D;
-	private Renderer renderer;
-	
-	// Booleans
-	private static boolean printFPSandTPS = true;
-	private static boolean autoClearCanvas = true;
-	
-	/**
-	 * <b>YOU CANNOT INITIALIZE {@code this class} </b>
-	 * , to get the instance of {@code this class},
-	 * call {@link #get()}
-	 */
-	private Engine() {
-		objects = new ArrayList<Obj> ();
-	}
-	
-	// ************************************************************
-	// Local methods
-	// ************************************************************
-	
-	/**
-	 * Starts the thread and shows the window,
-	 * this also initializes other things
-	 * @return
-	 * {@code true} if the initialization is successful; {@code false} otherwise
-	 */
-	public boolean start() {
-		// Initialized thread
-		if(thread != null) return false;
-		
-		// Show window
-		if(frame != null) {
-			frame.add(this);
-			frame.setVisible(true);
-		}
-		
-		// Thread starting
-		thread = new Thread(this);
-		thread.start();
-		
-		return true;
-	}
-	
-	/**
-	 * 
-	 * Stops the program by killing the thread and disposing the window,
-	 * this also handles other things such as automatic closing
-	 * 
-	 * @param closeProgramIfSuccessful
-	 * - Close the program if process is successful
-	 * 
-	 * @return
-	 * {@code true} if the process is successful; {@code false} otherwise
-	 * 
-	 * @throws InterruptedException
-	 */
-	public boolean stop(final boolean closeProgramIfSuccessful) throws InterruptedException {
-		// Uninitialized thread
-		if(thread == null) return false;
-		
-		// Close window
-		if(frame != null) {
-			frame.dispose();
-			frame = null;
-		}
-		
-		// Destroy all the running objects
-		objects.forEach(e -> e.onDestroy());
-		objects.clear();
-		
-		// Thread stopping
-		thread.join();
-		thread = null;
-		
-		// Close the program
-		if(closeProgramIfSuccessful)
-			System.exit(1);
-		
-		return true;
-	}
-	
-	@Override
-	public void run() {
-		// Manually called
-		if(thread == null) return;
-		
-		// Request window focus
-		requestFocus();
-		
-		long last_engineTime = System.nanoTime();
-		double engine_deltaTime = 0.0;
-		long engineTimer = System.currentTimeMillis();
-		while(isRunning()) {
-			final double nano = 1E+9 / TPS;
-			final long current_engineTime = System.nanoTime();
-			
-			// Calculating delta time
-			engine_deltaTime += (current_engineTime - last_engineTime) / nano;
-			last_engineTime = current_engineTime; // reset old time
-			
-			// Update
-			while(engine_deltaTime >= 0) {
-				// Update objects
-				for(final Obj obj : objects) obj.onUpdate(engine_deltaTime);
-				
-				TICKS++; // increment
-				engine_deltaTime--; // decrement
-			}
-			
-			
-			if(frame != null || frame.isVisible()) {
-				// Clean this part
-				final BufferStrategy bufferStrategy = getBufferStrategy();
-				if(bufferStrategy == null) {
-					createBufferStrategy(3);
-					
-					continue;
-				}
-			
-				graphics2D = (Graphics2D)bufferStrategy.getDrawGraphics();
-			
-				// Clears the canvas
-				if(autoClearCanvas) renderer.fillScreen();
-			
-				// Render objects
-				for(final Obj obj : objects) obj.onRender(renderer);
-			
-				// Render everything
-				renderer.render(graphics2D);
-			
-				// Clean
-				graphics2D.dispose();
-				bufferStrategy.show();
-			}
-			
-			// Frame
-			FPS++;
-			
-			// Timer
-			if(System.currentTimeMillis() - engineTimer > 1_000)  {
-				// Reset timer
-				engineTimer += 1_000;
-				
-				// Print if enabled
-				if(printFPSandTPS)
-					System.out.println("FPS: " + FPS + " || TICKS : " + TICKS);
-				
-				// Reset
-				FPS = 0;
-				TICKS = 0;
-			}
-		}
-	}
-	
-	/**
-	 * Checks whether thread has been initialized and running
-	 * @return
-	 * {@code true} if thread has been initialized; {@code false} otherwise
-	 */
-	public boolean isRunning() {
-		return thread != null || thread.isAlive();
-	}
-	
-	/**
-	 * @return
-	 * {@code true} if thread is alive; {@code false} otherwise
-	 * 
-	 * @deprecated
-	 * use {@link #isRunning()} instead
-	 */
-	@Deprecated
-	public boolean isAlive() {
-		return thread.isAlive();
-	}
-	
-	/**
-	 * Sets the window({@code JFrame}) to an initiated {@code JFrame}
-	 * 
-	 * @param frame
-	 * - {@code JFrame} value
-	 * 
-	 * @return
-	 * {@code true}
-	 */
-	public boolean display(final JFrame frame) {
-		frame.setVisible(false);
-		
-		this.frame = frame;
-		renderer = new Renderer(frame.getWidth(), frame.getHeight());
-		
-		return true;
-	}
-	
-	/**
-	 * Sets the size and title of window
-	 * 
-	 * @param width
-	 * - Window Width
-	 * 
-	 * @param height
-	 * - Window height
-	 * 
-	 * @param title
-	 * - Title of the window
-	 * 
-	 * @return
-	 * {@link #display(JFrame)}
-	 */
-	public boolean display(final int width, final int height, final String title) {
-		final JFrame frame = new JFrame(title);
-		frame.setSize(width, height);
-		
-		// Exit window on close
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-		
-		// Place the window on the middle
-		frame.setLocationRelativeTo(null);
-		
-		return display(frame);
-	}
-	
-	/**
-	 * Adds the {@code Object} to the list where it will be handled
-	 * 
-	 * @param obj
-	 * - Object to add : {@code Obj}
-	 * 
-	 * @return
-	 * {@code true} if the object has been added {@code false} otherwise
-	 */
-	public boolean add(final Obj obj) {
-		// Null object
-		if(obj == null) return false;
-		
-		if(objects.add(obj)) {
-			obj.onStart();
-			return true;
-		}
-		
-		// Failed to add the object
-		return false;
-	}
-	
-	/**
-	 * Removes the {@code Object} from the list
-	 * 
-	 * @param obj
-	 * - Object to remove : {@code Obj}
-	 * 
-	 * @return
-	 * {@code true} if the object has been removed; {@code false} otherwise
-	 */
-	public boolean remove(final Obj obj) {
-		// Null object
-		if(obj == null) return false;
-		
-		if(objects.remove(obj)) {
-			obj.onDestroy();
-			return true;
-		}
-		
-		// Failed to remove the object
-		return false;
-	}
-	
-	/**
-	 * Removes the {@code Object} from the index from the list
-	 * 
-	 * @param index
-	 * - Index where the object is located : {@code Obj}
-	 * 
-	 * @return
-	 * {@code true} if the object has been removed; {@code false} otherwise
-	 * 
-	 * @see #remove(Obj)
-	 */
-	public boolean remove(final int index) {
-		// Invalid index (out of bounds)
-		if(index < 0 || index >= objects.size()) return false;
-		
-		return remove(objects.get(index));
-	}
-	
-	/**
-	 * @return
-	 * {@code size} of the list
-	 */
-	public int objSize() {
-		return objects.size();
-	}
-	
-	/**
-	 * Returns the {@code object} from the index specified
-	 * 
-	 * @param index
-	 * - Index of the object
-	 * 
-	 * @return
-	 * {@code Object} if index is valid; {@code null} otherwise
-	 */
-	public Obj get(final int index) {
-		// Invalid index
-		if(index < 0 || index >= objSize()) return null;
-		
-		return objects.get(index);
-	}
-	
-	/**
-	 * Returns whether the list contains the object specified
-	 * 
-	 * @param obj
-	 * - Object to find
-	 * 
-	 * @return
-	 * {@code true} if the object is in the list; {@code false} otherwise
-	 */
-	public boolean contains(final Obj obj) {
-		return objects.contains(obj);
-	}
-	
-	// Renders
-	
-	/**
-	 * Clears the screen to draw more {@code stuffs}
-	 */
-	public void clearScreen() {
-		if(graphics2D != null)
-			graphics2D.clearRect(0, 0, frame.getWidth(), frame.getHeight());
-	}
-	
-	// ************************************************************
-	// Getters and Setters
-	// ************************************************************
-	
-	/**
-	 * @return
-	 * {@code Engine} frames per second
-	 */
-	public int getFPS() {
-		return FPS;
-	}
-	
-	/**
-	 * @return
-	 * {@code Engine} ticks per second
-	 */
-	public double getTPS() {
-		return TPS;
-	}
-	
-	/**
-	 * Sets ticks per second value to the value specified
-	 * 
-	 * @param newTPSValue
-	 * - New value for TPS
-	 */
-	public void setTPS(final double newTPSValue) {
-		TPS = newTPSValue;
-	}
-	
-	/**
-	 * @return
-	 * {@code Engine} current ticks
-	 */
-	public int getTicks() {
-		return TICKS;
-	}
-	
-	@Override
-	public int getWidth() {
-		return frame.getWidth();
-	}
-	
-	@Override
-	public int getHeight() {
-		return frame.getHeight();
-	}
-	
-	// ************************************************************
-	// Static methods
-	// ************************************************************
-	
-	/**
-	 * Sets the window's {@code background color} to the color specified
-	 * 
-	 * @param color
-	 * - Window's color
-	 */
-	public static void setBackgroundColor(final Color color) {
-		engine.frame.getContentPane().setBackground(color);
-	}
-	
-	/**
-	 * This returns the {@code engine instance},
-	 * 
-	 * <br>
-	 * Remember to call {@link #init()} before using this method or else, it will return null
-	 * @return
-	 */
-	public static Engine get() {
-		return engine;
-	}
-	
-	/**
-	 * Initializes some stuffs to run the engine successfully
-	 * 
-	 * @return
-	 * {@code true} if the initialization is successful; {@code false} otherwise
-	 */
-	public static boolean init() {
-		// Engine has already been initialized
-		if(engine != null) return false;
-		
-		engine = new Engine();
-		engine.addKeyListener(new Key());
-		
-		final Mouse mouse = new Mouse();
-		engine.addMouseListener(mouse);
-		engine.addMouseWheelListener(mouse);
-		engine.addMouseMotionListener(mouse);
-		
-		return true;
-	}
-	
-	/**
-	 * @return
-	 * {@code true} if this is allowed to print {@code FPS} and {@code TICKS} per second
-	 */
-	public static boolean shouldPrintFPSandTPS() {
-		return printFPSandTPS;
-	}
-	
-	/**
-	 * Sets whether {@code this} is allowed to print FPS and Ticks every second
-	 * 
-	 * @param printFPSandTPS
-	 * - {@code true} if FPS and Ticks should be printed
-	 */
-	public static void setPrintFPSandTPS(boolean printFPSandTPS) {
-		Engine.printFPSandTPS = printFPSandTPS;
-	}
-
-	/**
-	 * @return
-	 * {@code true} if canvas is being cleared per render
-	 */
-	public static boolean isAutoClearCanvas() {
-		return autoClearCanvas;
-	}
-	
-	/**
-	 * Sets whether canvas should be cleared every time render is called
-	 * 
-	 * @param autoClearCanvas
-	 * - {@code true} if canvas should be cleared
-	 */
-	public static void setAutoClearCanvas(boolean autoClearCanvas) {
-		Engine.autoClearCanvas = autoClearCanvas;
-	}
+package com.article;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+
+import javax.swing.JFrame;
+
+import com.article.gfx.Renderer;
+import com.article.util.TripleBuffer;
+
+/**
+ * Main class a.k.a. foundation of the engine,
+ * this holds several useful methods
+ * 
+ * @since 1.0
+ * @version 1.0
+ */
+public final class Engine extends Canvas implements Runnable {
+	private static final long serialVersionUID = 1L;
+
+	private static Engine engine;
+	
+	private JFrame frame;
+	private Thread thread;
+	private Thread renderThread;
+	
+	// Cleared by stop(), ends the engine loop
+	private volatile boolean running = false;
+	
+	// Frames handed from the engine thread to the render thread
+	private TripleBuffer<BufferedImage> frames;
+	
+	// Headless
+	private boolean headless = false;
+	private FrameListener frameListener;
+	private long frameIndex = 0;
+	
+	// Run variables
+	private static double TPS = 60.0; // Ticks per second
+	private static int FPS = 0; // Frames per second
+	private static int TICKS = 0; // Current Ticks
+	
+	// Objects
+	private final ArrayList<Obj> objects;
+	
+	// Others
+	private Graphics2D graphics2D;
+	private Renderer renderer;
+	
+	// Booleans
+	private static boolean printFPSandTPS = true;
+	private static boolean autoClearCanvas = true;
+	private static boolean separateRenderThread = false;
+	
+	/**
+	 * <b>YOU CANNOT INITIALIZE {@code this class} </b>
+	 * , to get the instance of {@code this class},
+	 * call {@link #get()}
+	 */
+	private Engine() {
+		objects = new ArrayList<Obj> ();
+	}
+	
+	// ************************************************************
+	// Local methods
+	// ************************************************************
+	
+	/**
+	 * Starts the thread and shows the window,
+	 * this also initializes other things
+	 * @return
+	 * {@code true} if the initialization is successful; {@code false} otherwise
+	 */
+	public boolean start() {
+		// Initialized thread
+		if(thread != null) return false;
+		
+		// Show window
+		if(frame != null) {
+			frame.add(this);
+			frame.setVisible(true);
+		}
+		
+		// Thread starting
+		running = true;
+		thread = new Thread(this);
+		thread.start();
+		
+		return true;
+	}
+	
+	/**
+	 * 
+	 * Stops the program by killing the thread and disposing the window,
+	 * this also handles other things such as automatic closing
+	 * 
+	 * @param closeProgramIfSuccessful
+	 * - Close the program if process is successful
+	 * 
+	 * @return
+	 * {@code true} if the process is successful; {@code false} otherwise
+	 * 
+	 * @throws InterruptedException
+	 */
+	public boolean stop(final boolean closeProgramIfSuccessful) throws InterruptedException {
+		// Uninitialized thread
+		if(thread == null) return false;
+		
+		// Thread stopping, the current frame is finished first
+		running = false;
+		thread.join();
+		thread = null;
+		
+		// Render thread stopping, it may be parked waiting for a frame
+		if(renderThread != null) {
+			renderThread.interrupt();
+			renderThread.join();
+			renderThread = null;
+			frames = null;
+		}
+		
+		// Close window
+		if(frame != null) {
+			frame.dispose();
+			frame = null;
+		}
+		
+		// Destroy all the running objects
+		objects.forEach(e -> e.onDestroy());
+		objects.clear();
+		
+		// Close the program
+		if(closeProgramIfSuccessful)
+			System.exit(1);
+		
+		return true;
+	}
+	
+	@Override
+	public void run() {
+		// Manually called
+		if(thread == null) return;
+		
+		// Request window focus
+		if(frame != null) requestFocus();
+		
+		// Presentation is owned by the render thread
+		if(separateRenderThread && frame != null) startRenderThread();
+		
+		long last_engineTime = System.nanoTime();
+		double engine_deltaTime = 0.0;
+		long engineTimer = System.currentTimeMillis();
+		while(running) {
+			final double nano = 1E+9 / TPS;
+			final long current_engineTime = System.nanoTime();
+			
+			// Calculating delta time
+			engine_deltaTime += (current_engineTime - last_engineTime) / nano;
+			last_engineTime = current_engineTime; // reset old time
+			
+			// Update
+			while(engine_deltaTime >= 0) {
+				// Update objects
+				for(final Obj obj : objects) obj.onUpdate(engine_deltaTime);
+				
+				TICKS++; // increment
+				engine_deltaTime--; // decrement
+			}
+			
+			if(headless) {
+				renderFrame();
+				
+				// Hand the frame over
+				if(frameListener != null) frameListener.onFrame(renderer, frameIndex);
+			}
+			else if(frames != null) {
+				renderFrame();
+				
+				// Hand the frame to the render thread
+				final BufferedImage back = frames.getBack();
+				renderer.copyPixels(((DataBufferInt)back.getRaster().getDataBuffer()).getData());
+				frames.publish();
+			}
+			else if(frame != null && frame.isVisible()) {
+				// Clean this part
+				final BufferStrategy bufferStrategy = getBufferStrategy();
+				if(bufferStrategy == null) {
+					createBufferStrategy(3);
+					
+					continue;
+				}
+			
+				graphics2D = (Graphics2D)bufferStrategy.getDrawGraphics();
+				
+				renderFrame();
+			
+				// Render everything
+				renderer.render(graphics2D);
+			
+				// Clean
+				graphics2D.dispose();
+				bufferStrategy.show();
+				
+				// Presented frames are gone, the next ones must be complete
+				if(bufferStrategy.contentsLost()) renderer.invalidate();
+			}
+			
+			// Frame
+			FPS++;
+			frameIndex++;
+			
+			// Timer
+			if(System.currentTimeMillis() - engineTimer > 1_000)  {
+				// Reset timer
+				engineTimer += 1_000;
+				
+				// Print if enabled
+				if(printFPSandTPS)
+					System.out.println("FPS: " + FPS + " || TICKS : " + TICKS);
+				
+				// Reset
+				FPS = 0;
+				TICKS = 0;
+			}
+		}
+	}
+	
+	/**
+	 * Clears the canvas, renders every object and hands the frame to the
+	 * capture of the renderer... every way of presenting starts with this
+	 */
+	private void renderFrame() {
+		// Clears the canvas
+		if(autoClearCanvas) renderer.fillScreen();
+		
+		// Render objects
+		for(final Obj obj : objects) obj.onRender(renderer);
+		
+		renderer.flush();
+		renderer.captureFrame();
+	}
+	
+	/**
+	 * Creates the buffers to hand frames over and starts the {@code render thread},
+	 * the buffer strategy is created here on the engine thread so the render
+	 * thread only ever presents
+	 */
+	private void startRenderThread() {
+		final int width = renderer.getWidth(), height = renderer.getHeight();
+		
+		frames = new TripleBuffer<BufferedImage>(
+				new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB),
+				new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB),
+				new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+			);
+		
+		createBufferStrategy(3);
+		final BufferStrategy bufferStrategy = getBufferStrategy();
+		
+		renderThread = new Thread(() -> present(bufferStrategy), "Render Thread");
+		renderThread.setDaemon(true);
+		renderThread.start();
+	}
+	
+	/**
+	 * Presents the latest frame handed over by the engine thread,
+	 * runs on the {@code render thread} while the engine thread updates
+	 * and renders the next frame... the thread is parked until a frame
+	 * is published and ends once it is interrupted by {@link #stop(boolean)}
+	 * 
+	 * @param bufferStrategy
+	 * - {@code BufferStrategy} of this canvas
+	 */
+	private void present(final BufferStrategy bufferStrategy) {
+		while(isRunning()) {
+			// Wait for a new frame
+			if(!frames.await()) return;
+			
+			final Graphics2D graphics = (Graphics2D)bufferStrategy.getDrawGraphics();
+			graphics.drawImage(frames.getFront(), 0, 0, null);
+			
+			// Clean
+			graphics.dispose();
+			bufferStrategy.show();
+		}
+	}
+	
+	/**
+	 * Checks whether thread has been started and not stopped yet
+	 * @return
+	 * {@code true} if the engine is running; {@code false} otherwise
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if thread is alive; {@code false} otherwise
+	 * 
+	 * @deprecated
+	 * use {@link #isRunning()} instead
+	 */
+	@Deprecated
+	public boolean isAlive() {
+		return thread.isAlive();
+	}
+	
+	/**
+	 * Sets the window({@code JFrame}) to an initiated {@code JFrame}
+	 * 
+	 * @param frame
+	 * - {@code JFrame} value
+	 * 
+	 * @return
+	 * {@code true}
+	 */
+	public boolean display(final JFrame frame) {
+		frame.setVisible(false);
+		
+		this.frame = frame;
+		headless = false;
+		renderer = new Renderer(frame.getWidth(), frame.getHeight());
+		renderer.setPresentBufferCount(3); // Same as the buffer strategy
+		
+		return true;
+	}
+	
+	/**
+	 * Runs the engine without a window, frames are rendered into an offscreen
+	 * {@code Renderer} and handed to the {@link FrameListener} set through
+	 * {@link #setFrameListener(FrameListener)}... no window system resource is created
+	 * 
+	 * @param width
+	 * - Frame width
+	 * 
+	 * @param height
+	 * - Frame height
+	 * 
+	 * @return
+	 * {@code true} if the engine is now headless; {@code false} if it is already running
+	 */
+	public boolean displayHeadless(final int width, final int height) {
+		// Cannot change while running
+		if(thread != null) return false;
+		
+		frame = null;
+		headless = true;
+		renderer = new Renderer(width, height);
+		
+		return true;
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if the engine runs without a window; {@code false} otherwise
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+	
+	/**
+	 * Sets the {@code listener} that receives every frame rendered in headless mode
+	 * 
+	 * @param frameListener
+	 * - {@code FrameListener}, or {@code null} to stop receiving frames
+	 */
+	public void setFrameListener(final FrameListener frameListener) {
+		this.frameListener = frameListener;
+	}
+	
+	/**
+	 * Sets the size and title of window
+	 * 
+	 * @param width
+	 * - Window Width
+	 * 
+	 * @param height
+	 * - Window height
+	 * 
+	 * @param title
+	 * - Title of the window
+	 * 
+	 * @return
+	 * {@link #display(JFrame)}
+	 */
+	public boolean display(final int width, final int height, final String title) {
+		final JFrame frame = new JFrame(title);
+		frame.setSize(width, height);
+		
+		// Exit window on close
+		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		
+		// Place the window on the middle
+		frame.setLocationRelativeTo(null);
+		
+		return display(frame);
+	}
+	
+	/**
+	 * Adds the {@code Object} to the list where it will be handled
+	 * 
+	 * @param obj
+	 * - Object to add : {@code Obj}
+	 * 
+	 * @return
+	 * {@code true} if the object has been added {@code false} otherwise
+	 */
+	public boolean add(final Obj obj) {
+		// Null object
+		if(obj == null) return false;
+		
+		if(objects.add(obj)) {
+			obj.onStart();
+			return true;
+		}
+		
+		// Failed to add the object
+		return false;
+	}
+	
+	/**
+	 * Removes the {@code Object} from the list
+	 * 
+	 * @param obj
+	 * - Object to remove : {@code Obj}
+	 * 
+	 * @return
+	 * {@code true} if the object has been removed; {@code false} otherwise
+	 */
+	public boolean remove(final Obj obj) {
+		// Null object
+		if(obj == null) return false;
+		
+		if(objects.remove(obj)) {
+			obj.onDestroy();
+			return true;
+		}
+		
+		// Failed to remove the object
+		return false;
+	}
+	
+	/**
+	 * Removes the {@code Object} from the index from the list
+	 * 
+	 * @param index
+	 * - Index where the object is located : {@code Obj}
+	 * 
+	 * @return
+	 * {@code true} if the object has been removed; {@code false} otherwise
+	 * 
+	 * @see #remove(Obj)
+	 */
+	public boolean remove(final int index) {
+		// Invalid index (out of bounds)
+		if(index < 0 || index >= objects.size()) return false;
+		
+		return remove(objects.get(index));
+	}
+	
+	/**
+	 * @return
+	 * {@code size} of the list
+	 */
+	public int objSize() {
+		return objects.size();
+	}
+	
+	/**
+	 * Returns the {@code object} from the index specified
+	 * 
+	 * @param index
+	 * - Index of the object
+	 * 
+	 * @return
+	 * {@code Object} if index is valid; {@code null} otherwise
+	 */
+	public Obj get(final int index) {
+		// Invalid index
+		if(index < 0 || index >= objSize()) return null;
+		
+		return objects.get(index);
+	}
+	
+	/**
+	 * Returns whether the list contains the object specified
+	 * 
+	 * @param obj
+	 * - Object to find
+	 * 
+	 * @return
+	 * {@code true} if the object is in the list; {@code false} otherwise
+	 */
+	public boolean contains(final Obj obj) {
+		return objects.contains(obj);
+	}
+	
+	// Renders
+	
+	/**
+	 * Clears the screen to draw more {@code stuffs}
+	 */
+	public void clearScreen() {
+		if(graphics2D != null)
+			graphics2D.clearRect(0, 0, getWidth(), getHeight());
+	}
+	
+	// ************************************************************
+	// Getters and Setters
+	// ************************************************************
+	
+	/**
+	 * @return
+	 * {@code Engine} frames per second
+	 */
+	public int getFPS() {
+		return FPS;
+	}
+	
+	/**
+	 * @return
+	 * {@code Engine} ticks per second
+	 */
+	public double getTPS() {
+		return TPS;
+	}
+	
+	/**
+	 * Sets ticks per second value to the value specified
+	 * 
+	 * @param newTPSValue
+	 * - New value for TPS
+	 */
+	public void setTPS(final double newTPSValue) {
+		TPS = newTPSValue;
+	}
+	
+	/**
+	 * @return
+	 * {@code Engine} current ticks
+	 */
+	public int getTicks() {
+		return TICKS;
+	}
+	
+	@Override
+	public int getWidth() {
+		return frame != null ? frame.getWidth() : renderer.getWidth();
+	}
+	
+	@Override
+	public int getHeight() {
+		return frame != null ? frame.getHeight() : renderer.getHeight();
+	}
+	
+	// ************************************************************
+	// Static methods
+	// ************************************************************
+	
+	/**
+	 * Sets the window's {@code background color} to the color specified
+	 * 
+	 * @param color
+	 * - Window's color
+	 */
+	public static void setBackgroundColor(final Color color) {
+		engine.frame.getContentPane().setBackground(color);
+	}
+	
+	/**
+	 * This returns the {@code engine instance},
+	 * 
+	 * <br>
+	 * Remember to call {@link #init()} before using this method or else, it will return null
+	 * @return
+	 */
+	public static Engine get() {
+		return engine;
+	}
+	
+	/**
+	 * Initializes some stuffs to run the engine successfully
+	 * 
+	 * @return
+	 * {@code true} if the initialization is successful; {@code false} otherwise
+	 */
+	public static boolean init() {
+		// Engine has already been initialized
+		if(engine != null) return false;
+		
+		engine = new Engine();
+		engine.addKeyListener(new Key());
+		
+		final Mouse mouse = new Mouse();
+		engine.addMouseListener(mouse);
+		engine.addMouseWheelListener(mouse);
+		engine.addMouseMotionListener(mouse);
+		
+		return true;
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if this is allowed to print {@code FPS} and {@code TICKS} per second
+	 */
+	public static boolean shouldPrintFPSandTPS() {
+		return printFPSandTPS;
+	}
+	
+	/**
+	 * Sets whether {@code this} is allowed to print FPS and Ticks every second
+	 * 
+	 * @param printFPSandTPS
+	 * - {@code true} if FPS and Ticks should be printed
+	 */
+	public static void setPrintFPSandTPS(boolean printFPSandTPS) {
+		Engine.printFPSandTPS = printFPSandTPS;
+	}
+
+	/**
+	 * @return
+	 * {@code true} if canvas is being cleared per render
+	 */
+	public static boolean isAutoClearCanvas() {
+		return autoClearCanvas;
+	}
+	
+	/**
+	 * Sets whether canvas should be cleared every time render is called
+	 * 
+	 * @param autoClearCanvas
+	 * - {@code true} if canvas should be cleared
+	 */
+	public static void setAutoClearCanvas(boolean autoClearCanvas) {
+		Engine.autoClearCanvas = autoClearCanvas;
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if frames are presented by a separate render thread
+	 */
+	public static boolean isSeparateRenderThread() {
+		return separateRenderThread;
+	}
+	
+	/**
+	 * Sets whether frames should be presented by a separate {@code render thread},
+	 * the engine thread then updates and renders the next frame while the
+	 * previous one is being presented... {@code Obj.onRender()} is still called
+	 * on the engine thread
+	 * <br>
+	 * This must be set before {@link #start()} is called
+	 * 
+	 * @param separateRenderThread
+	 * - {@code true} if a render thread should be used
+	 */
+	public static void setSeparateRenderThread(boolean separateRenderThread) {
+		Engine.separateRenderThread = separateRenderThread;
+	}
  }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.article;
+
+import com.article.gfx.Renderer;
+
+/**
+ * {@code FrameListener} receives the frames rendered by a headless {@code Engine},
+ * it is called on the engine thread right after every {@code Obj} has been rendered
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ * 
+ * @see Engine#displayHeadless(int, int)
+ */
+public interface FrameListener {
+	/**
+	 * Called once per frame, pixels can be read through {@code Renderer.copyPixels()}
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} that holds the frame
+	 * 
+	 * @param frameIndex
+	 * - Number of frames rendered before this one
+	 */
+	public void onFrame(final Renderer renderer, final long frameIndex);
+}
@@ -0,0 +1,308 @@
+package com.article.geom;
+
+import com.article.math.MatrixF;
+
+/**
+ * Clips triangles in {@code homogeneous clip space}, before the perspective divide,
+ * against the {@code near plane} and the four {@code side planes} of the screen
+ * <br>
+ * <br>
+ * A triangle that is fully inside is kept as it is, a triangle that is fully outside
+ * one of the planes is dropped and everything else is cut into a convex polygon
+ * of at most {@link #MAX_VERTICES} points... no objects are created while clipping
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public final class Clipper {
+	// Every plane adds at most one point to a triangle
+	public static final int MAX_VERTICES = 3 + 5;
+	
+	// Planes [x, y, z, w] coefficients, a point is inside if the dot product is not negative
+	private final float[] planes = new float[5 * 4];
+	
+	// Clipped polygon
+	private float[] x = new float[MAX_VERTICES];
+	private float[] y = new float[MAX_VERTICES];
+	private float[] z = new float[MAX_VERTICES];
+	private float[] w = new float[MAX_VERTICES];
+	private int size;
+	
+	// Polygon being clipped
+	private float[] nextX = new float[MAX_VERTICES];
+	private float[] nextY = new float[MAX_VERTICES];
+	private float[] nextZ = new float[MAX_VERTICES];
+	private float[] nextW = new float[MAX_VERTICES];
+	
+	/**
+	 * Creates a {@code Clipper} for the default screen mapping
+	 * 
+	 * @see #setScreenOffset(float, float)
+	 */
+	public Clipper() {
+		// Near plane, z >= 0
+		planes[2] = 1.0F;
+		
+		setScreenOffset(1.0F, 1.0F);
+	}
+	
+	/**
+	 * Sets the offset that is added to the divided {@code x} and {@code y} before scaling
+	 * them to the screen... the side planes are placed so that only what ends up inside the
+	 * screen is kept
+	 * 
+	 * @param offsetX
+	 * - Offset of {@code x}, 1 maps [-1, 1] to the whole width
+	 * 
+	 * @param offsetY
+	 * - Offset of {@code y}, 1 maps [-1, 1] to the whole height
+	 */
+	public void setScreenOffset(final float offsetX, final float offsetY) {
+		// Left, x + offsetX * w >= 0
+		planes[4] = 1.0F;  planes[7] = offsetX;
+		
+		// Right, (2 - offsetX) * w - x >= 0
+		planes[8] = -1.0F; planes[11] = 2.0F - offsetX;
+		
+		// Top, y + offsetY * w >= 0
+		planes[13] = 1.0F; planes[15] = offsetY;
+		
+		// Bottom, (2 - offsetY) * w - y >= 0
+		planes[17] = -1.0F; planes[19] = 2.0F - offsetY;
+	}
+	
+	/**
+	 * Checks whether a {@code sphere} is fully outside one of the planes, the planes
+	 * are moved out of clip space by the {@code matrix} that brings the sphere into it
+	 * 
+	 * @param matrix
+	 * - {@code Matrix 4x4} from the space of the sphere to clip space, it must not scale
+	 * 
+	 * @return
+	 * - {@code true} if nothing of the sphere can be seen; {@code false} otherwise
+	 */
+	public boolean isSphereOutside(final MatrixF matrix, final float centerX, final float centerY, final float centerZ, final float radius) {
+		for(int plane = 0; plane < 5; plane++) {
+			final int offset = plane << 2;
+			
+			// Plane in the space of the sphere
+			final float a = planeCoefficient(matrix, 0, offset), b = planeCoefficient(matrix, 1, offset);
+			final float c = planeCoefficient(matrix, 2, offset), d = planeCoefficient(matrix, 3, offset);
+			
+			final float distance = (a * centerX + b * centerY + c * centerZ + d) / (float)Math.sqrt(a * a + b * b + c * c);
+			if(distance < -radius) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Checks whether a {@code box} is fully outside one of the planes, the planes
+	 * are moved out of clip space by the {@code matrix} that brings the box into it
+	 * 
+	 * @param matrix
+	 * - {@code Matrix 4x4} from the space of the box to clip space
+	 * 
+	 * @return
+	 * - {@code true} if nothing of the box can be seen; {@code false} otherwise
+	 */
+	public boolean isBoxOutside(final MatrixF matrix, final float minX, final float minY, final float minZ, final float maxX, final float maxY, final float maxZ) {
+		for(int plane = 0; plane < 5; plane++) {
+			final int offset = plane << 2;
+			
+			// Plane in the space of the box
+			final float a = planeCoefficient(matrix, 0, offset), b = planeCoefficient(matrix, 1, offset);
+			final float c = planeCoefficient(matrix, 2, offset), d = planeCoefficient(matrix, 3, offset);
+			
+			// Corner that is the furthest inside
+			final float distance = a * (a >= 0.0F ? maxX : minX) + b * (b >= 0.0F ? maxY : minY) + c * (c >= 0.0F ? maxZ : minZ) + d;
+			if(distance < 0.0F) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Moves the planes out of clip space by the {@code matrix} that brings points into it,
+	 * for callers that test many volumes against the same planes
+	 * 
+	 * @param matrix
+	 * - {@code Matrix 4x4} from the space of the points to clip space
+	 * 
+	 * @param destination
+	 * - {@code Array} of at least 20 floats, [x, y, z, w] coefficients of each plane
+	 */
+	public void transformPlanes(final MatrixF matrix, final float[] destination) {
+		if(destination.length < planes.length) throw new IllegalArgumentException("Destination must hold " + planes.length + " values!");
+		
+		for(int offset = 0; offset < planes.length; offset += 4) {
+			destination[offset]     = planeCoefficient(matrix, 0, offset);
+			destination[offset + 1] = planeCoefficient(matrix, 1, offset);
+			destination[offset + 2] = planeCoefficient(matrix, 2, offset);
+			destination[offset + 3] = planeCoefficient(matrix, 3, offset);
+		}
+	}
+	
+	/**
+	 * @return
+	 * - Coefficient of a plane moved out of clip space by the {@code matrix}
+	 */
+	private float planeCoefficient(final MatrixF matrix, final int row, final int offset) {
+		return matrix.get(row, 0) * planes[offset] + matrix.get(row, 1) * planes[offset + 1] + matrix.get(row, 2) * planes[offset + 2] + matrix.get(row, 3) * planes[offset + 3];
+	}
+	
+	/**
+	 * Clips a triangle, the output polygon can be read through
+	 * {@link #getX(int)}, {@link #getY(int)}, {@link #getZ(int)} and {@link #getW(int)}
+	 * and drawn as a fan of {@code size - 2} triangles
+	 * 
+	 * @return
+	 * - {@code Number} of points of the clipped polygon, {@code 0} if the triangle is dropped
+	 */
+	public int clip(final float ax, final float ay, final float az, final float aw,
+					final float bx, final float by, final float bz, final float bw,
+					final float cx, final float cy, final float cz, final float cw) {
+		final int outsideA = outcode(ax, ay, az, aw);
+		final int outsideB = outcode(bx, by, bz, bw);
+		final int outsideC = outcode(cx, cy, cz, cw);
+		
+		// Every point is outside the same plane
+		if((outsideA & outsideB & outsideC) != 0) return size = 0;
+		
+		x[0] = ax; y[0] = ay; z[0] = az; w[0] = aw;
+		x[1] = bx; y[1] = by; z[1] = bz; w[1] = bw;
+		x[2] = cx; y[2] = cy; z[2] = cz; w[2] = cw;
+		size = 3;
+		
+		// Every point is inside
+		final int outside = outsideA | outsideB | outsideC;
+		if(outside == 0) return size;
+		
+		for(int plane = 0; plane < 5 && size > 0; plane++)
+			if((outside & (1 << plane)) != 0)
+				clipAgainst(plane);
+		
+		// Nothing left but a line
+		if(size < 3) size = 0;
+		
+		return size;
+	}
+	
+	/**
+	 * Sutherland - Hodgman clipping of the current polygon against a single plane
+	 */
+	private void clipAgainst(final int plane) {
+		final int offset = plane << 2;
+		final float planeX = planes[offset], planeY = planes[offset + 1], planeZ = planes[offset + 2], planeW = planes[offset + 3];
+		
+		int nextSize = 0;
+		
+		int previous = size - 1;
+		float previousDistance = x[previous] * planeX + y[previous] * planeY + z[previous] * planeZ + w[previous] * planeW;
+		
+		for(int current = 0; current < size; current++) {
+			final float distance = x[current] * planeX + y[current] * planeY + z[current] * planeZ + w[current] * planeW;
+			
+			// Edge crosses the plane, add the intersection
+			if((distance >= 0.0F) != (previousDistance >= 0.0F)) {
+				final float t = previousDistance / (previousDistance - distance);
+				
+				nextX[nextSize] = x[previous] + (x[current] - x[previous]) * t;
+				nextY[nextSize] = y[previous] + (y[current] - y[previous]) * t;
+				nextZ[nextSize] = z[previous] + (z[current] - z[previous]) * t;
+				nextW[nextSize] = w[previous] + (w[current] - w[previous]) * t;
+				nextSize++;
+			}
+			
+			// Inside point
+			if(distance >= 0.0F) {
+				nextX[nextSize] = x[current];
+				nextY[nextSize] = y[current];
+				nextZ[nextSize] = z[current];
+				nextW[nextSize] = w[current];
+				nextSize++;
+			}
+			
+			previous = current;
+			previousDistance = distance;
+		}
+		
+		// Swap polygons
+		float[] swap;
+		swap = x; x = nextX; nextX = swap;
+		swap = y; y = nextY; nextY = swap;
+		swap = z; z = nextZ; nextZ = swap;
+		swap = w; w = nextW; nextW = swap;
+		
+		size = nextSize;
+	}
+	
+	/**
+	 * @return
+	 * - Bit mask of the planes that the point is outside of
+	 */
+	private int outcode(final float px, final float py, final float pz, final float pw) {
+		int code = 0;
+		
+		for(int plane = 0; plane < 5; plane++) {
+			final int offset = plane << 2;
+			
+			if(px * planes[offset] + py * planes[offset + 1] + pz * planes[offset + 2] + pw * planes[offset + 3] < 0.0F)
+				code |= 1 << plane;
+		}
+		
+		return code;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of points of the last clipped polygon
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @param index
+	 * - Index of the {@code point}
+	 * 
+	 * @return
+	 * - {@code x} of the point
+	 */
+	public float getX(final int index) {
+		return x[index];
+	}
+	
+	/**
+	 * @param index
+	 * - Index of the {@code point}
+	 * 
+	 * @return
+	 * - {@code y} of the point
+	 */
+	public float getY(final int index) {
+		return y[index];
+	}
+	
+	/**
+	 * @param index
+	 * - Index of the {@code point}
+	 * 
+	 * @return
+	 * - {@code z} of the point
+	 */
+	public float getZ(final int index) {
+		return z[index];
+	}
+	
+	/**
+	 * @param index
+	 * - Index of the {@code point}
+	 * 
+	 * @return
+	 * - {@code w} of the point
+	 */
+	public float getW(final int index) {
+		return w[index];
+	}
+}
@@ -0,0 +1,274 @@
+package com.article.geom;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.List;
+
+import com.article.gfx.Renderer;
+
+/**
+ * Orders the projected triangles of every {@link Mesh3D} of a frame from back to front,
+ * for the {@code painter's algorithm} when there is no depth buffer to rely on
+ * <br>
+ * <br>
+ * Every triangle gets a 32 bit key made from the bits of its average depth, which
+ * order the same way as the float... the indices are then sorted by a stable radix sort
+ * of 8 bits per pass, passes where every key has the same byte are skipped.
+ * Nothing is allocated once the arrays are big enough for the frame
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public final class DepthSorter {
+	// Bits sorted per pass
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+	
+	// Triangles of the frame, by the order they were collected in
+	private Mesh3D[] meshes = new Mesh3D[16];
+	private int[] meshIndices = new int[256];
+	private int[] triangleIndices = new int[256];
+	
+	// Sorted order, keys and their scratch copies
+	private int[] order = new int[256];
+	private int[] keys = new int[256];
+	private int[] swapOrder = new int[256];
+	private int[] swapKeys = new int[256];
+	private final int[] counts = new int[RADIX];
+	
+	private int size;
+	
+	// Graphics2D drawing
+	private final int[] polygonX = new int[3];
+	private final int[] polygonY = new int[3];
+	
+	/**
+	 * Collects the projected triangles of the {@code meshes} and sorts them from back to front,
+	 * triangles with the same depth keep the order of the meshes
+	 * 
+	 * @param meshes
+	 * - {@code Meshes} that have been projected this frame
+	 * 
+	 * @return
+	 * - {@code Number} of triangles sorted
+	 */
+	public int sort(final List<? extends Mesh3D> meshes) {
+		if(meshes == null) throw new IllegalArgumentException("Meshes must not be null!");
+		
+		// Room for everything
+		int total = 0;
+		for(final Mesh3D mesh : meshes) total += mesh.getProjectedTriangleCount();
+		ensureCapacity(total, meshes.size());
+		
+		// Keys
+		size = 0;
+		for(int meshIndex = 0; meshIndex < meshes.size(); meshIndex++) {
+			final Mesh3D mesh = meshes.get(meshIndex);
+			this.meshes[meshIndex] = mesh;
+			
+			final int count = mesh.getProjectedTriangleCount();
+			for(int triangle = 0; triangle < count; triangle++) {
+				final float depth = (mesh.getProjected(triangle, 0, 2) + mesh.getProjected(triangle, 1, 2) + mesh.getProjected(triangle, 2, 2)) / 3.0F;
+				
+				meshIndices[size] = meshIndex;
+				triangleIndices[size] = triangle;
+				order[size] = size;
+				
+				// Furthest first
+				keys[size] = ~toKey(depth);
+				size++;
+			}
+		}
+		
+		// Meshes of the last frame are not kept alive
+		Arrays.fill(this.meshes, meshes.size(), this.meshes.length, null);
+		
+		radixSort();
+		
+		return size;
+	}
+	
+	/**
+	 * Least significant digit radix sort of {@code order} by {@code keys}, as unsigned integers
+	 */
+	private void radixSort() {
+		for(int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for(int i = 0; i < size; i++) counts[(keys[i] >>> shift) & (RADIX - 1)]++;
+			
+			// Every key has the same digit, nothing moves
+			if(size == 0 || counts[(keys[0] >>> shift) & (RADIX - 1)] == size) continue;
+			
+			// Start of every bucket
+			int start = 0;
+			for(int digit = 0; digit < RADIX; digit++) {
+				final int count = counts[digit];
+				counts[digit] = start;
+				start += count;
+			}
+			
+			for(int i = 0; i < size; i++) {
+				final int destination = counts[(keys[i] >>> shift) & (RADIX - 1)]++;
+				swapKeys[destination] = keys[i];
+				swapOrder[destination] = order[i];
+			}
+			
+			// Swap arrays
+			int[] swap;
+			swap = keys; keys = swapKeys; swapKeys = swap;
+			swap = order; order = swapOrder; swapOrder = swap;
+		}
+	}
+	
+	/**
+	 * @return
+	 * - {@code Key} that orders as unsigned integers the same way the float does
+	 */
+	private static int toKey(final float value) {
+		final int bits = Float.floatToRawIntBits(value);
+		
+		// Negative values have every bit flipped, positive ones only the sign
+		return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+	}
+	
+	/**
+	 * Grows the arrays for the given number of {@code triangles} and {@code meshes}
+	 */
+	private void ensureCapacity(final int triangles, final int meshCount) {
+		if(meshCount > meshes.length) meshes = Arrays.copyOf(meshes, Math.max(meshCount, meshes.length << 1));
+		
+		if(triangles <= order.length) return;
+		
+		final int capacity = Math.max(triangles, order.length << 1);
+		meshIndices = new int[capacity];
+		triangleIndices = new int[capacity];
+		order = new int[capacity];
+		keys = new int[capacity];
+		swapOrder = new int[capacity];
+		swapKeys = new int[capacity];
+	}
+	
+	// ******************************************************
+	// Drawing
+	// ******************************************************
+	
+	/**
+	 * Fills every sorted {@code triangle} into the {@code renderer} without the depth test,
+	 * the closer triangles are filled last
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void fill(final Renderer renderer) {
+		for(int i = 0; i < size; i++) {
+			final Mesh3D mesh = getMesh(i);
+			final int triangle = getTriangle(i);
+			
+			renderer.fillTriangle(mesh.getProjected(triangle, 0, 0), mesh.getProjected(triangle, 0, 1),
+								  mesh.getProjected(triangle, 1, 0), mesh.getProjected(triangle, 1, 1),
+								  mesh.getProjected(triangle, 2, 0), mesh.getProjected(triangle, 2, 1), mesh.getProjectedColor(triangle));
+		}
+	}
+	
+	/**
+	 * Draws the {@code 3 sides} of every sorted triangle into the {@code renderer} without the depth test
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void draw(final Renderer renderer) {
+		for(int i = 0; i < size; i++) {
+			final Mesh3D mesh = getMesh(i);
+			final int triangle = getTriangle(i);
+			final int color = mesh.getProjectedColor(triangle);
+			
+			final int ax = (int)mesh.getProjected(triangle, 0, 0), ay = (int)mesh.getProjected(triangle, 0, 1);
+			final int bx = (int)mesh.getProjected(triangle, 1, 0), by = (int)mesh.getProjected(triangle, 1, 1);
+			final int cx = (int)mesh.getProjected(triangle, 2, 0), cy = (int)mesh.getProjected(triangle, 2, 1);
+			
+			renderer.drawLine(ax, ay, bx, by, color);
+			renderer.drawLine(bx, by, cx, cy, color);
+			renderer.drawLine(cx, cy, ax, ay, color);
+		}
+	}
+	
+	/**
+	 * Fills every sorted {@code triangle} through {@code Graphics2D}, the closer triangles are filled last
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void fill(final Graphics2D g) {
+		for(int i = 0; i < size; i++) {
+			setPolygon(g, i);
+			g.fillPolygon(polygonX, polygonY, 3);
+		}
+	}
+	
+	/**
+	 * Draws the {@code 3 sides} of every sorted triangle through {@code Graphics2D}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void draw(final Graphics2D g) {
+		for(int i = 0; i < size; i++) {
+			setPolygon(g, i);
+			g.drawPolygon(polygonX, polygonY, 3);
+		}
+	}
+	
+	/**
+	 * Stores the screen points of a sorted triangle in the polygon arrays and sets its color
+	 */
+	private void setPolygon(final Graphics2D g, final int index) {
+		final Mesh3D mesh = getMesh(index);
+		final int triangle = getTriangle(index);
+		
+		for(int point = 0; point < 3; point++) {
+			polygonX[point] = (int)mesh.getProjected(triangle, point, 0);
+			polygonY[point] = (int)mesh.getProjected(triangle, point, 1);
+		}
+		
+		// Only creates a Color when it changes
+		final int argb = mesh.getProjectedColor(triangle);
+		if(g.getColor().getRGB() != argb) g.setColor(new Color(argb, true));
+	}
+	
+	// ******************************************************
+	// Getters
+	// ******************************************************
+	
+	/**
+	 * @return
+	 * - {@code Number} of triangles sorted by the last {@link #sort(List)}
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @param index
+	 * - Index in the back to front order
+	 * 
+	 * @return
+	 * - {@code Mesh} the triangle belongs to
+	 */
+	public Mesh3D getMesh(final int index) {
+		return meshes[meshIndices[order[index]]];
+	}
+	
+	/**
+	 * @param index
+	 * - Index in the back to front order
+	 * 
+	 * @return
+	 * - Index of the triangle in the projected triangles of its mesh
+	 * 
+	 * @see Mesh3D#getProjectedTriangle(int)
+	 */
+	public int getTriangle(final int index) {
+		return triangleIndices[order[index]];
+	}
+}
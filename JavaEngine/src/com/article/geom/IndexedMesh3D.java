@@ -0,0 +1,181 @@
+package com.article.geom;
+
+import com.article.math.Vec3F;
+import com.article.math.Vec3FArray;
+
+/**
+ * A {@link Mesh3D} made of {@code unique points} and a list of {@code indices},
+ * every 3 indices make a triangle... a point that is shared by several triangles
+ * is only stored once and only transformed once per frame
+ * <br>
+ * <br>
+ * Like every mesh, indexed meshes start with the list of {@code triangles}... the
+ * unique points and indices are only used once the packed storage is turned on
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ * 
+ * @see Mesh3D#setPackedStorage(boolean)
+ */
+public class IndexedMesh3D extends Mesh3D {
+	/**
+	 * Indices of the 12 triangles of a box made from {@link #boxCorners(float, float, float)}
+	 */
+	protected static final int[] BOX_INDICES = {
+			// Front
+			0, 1, 2,	0, 2, 3,
+			
+			// Right
+			3, 2, 4,	3, 4, 5,
+			
+			// Back
+			5, 4, 6,	5, 6, 7,
+			
+			// Left
+			7, 6, 1,	7, 1, 0,
+			
+			// Top
+			1, 6, 4,	1, 4, 2,
+			
+			// Bottom
+			5, 7, 0,	5, 0, 3
+	};
+	
+	/**
+	 * @param vertices
+	 * - Unique {@code points} of the mesh
+	 * 
+	 * @param indices
+	 * - Indices of the {@code points}, every 3 indices make a triangle
+	 * 
+	 * @param rotation
+	 * - Mesh's {@code rotation}
+	 */
+	public IndexedMesh3D(final Vec3F[] vertices, final int[] indices, final Vec3F rotation) {
+		this(new Vec3FArray(vertices), indices, rotation);
+	}
+	
+	/**
+	 * @param vertices
+	 * - Unique {@code points} of the mesh, packed in either storage
+	 * 
+	 * @param indices
+	 * - Indices of the {@code points}, every 3 indices make a triangle
+	 * 
+	 * @param rotation
+	 * - Mesh's {@code rotation}
+	 */
+	public IndexedMesh3D(final Vec3FArray vertices, final int[] indices, final Vec3F rotation) {
+		super(toTriangles(vertices, indices), rotation);
+		
+		final int count = vertices.size();
+		vertexX = new float[count];
+		vertexY = new float[count];
+		vertexZ = new float[count];
+		for(int i = 0; i < count; i++) {
+			vertexX[i] = vertices.getX(i);
+			vertexY[i] = vertices.getY(i);
+			vertexZ[i] = vertices.getZ(i);
+		}
+		
+		this.indices = indices.clone();
+	}
+	
+	/**
+	 * @param vertices
+	 * - Unique {@code points} of the mesh
+	 * 
+	 * @param indices
+	 * - Indices of the {@code points}, every 3 indices make a triangle
+	 * 
+	 * @see #IndexedMesh3D(Vec3F[], int[], Vec3F)
+	 */
+	public IndexedMesh3D(final Vec3F[] vertices, final int[] indices) {
+		this(vertices, indices, new Vec3F(0.0F, 0.0F, 0.0F));
+	}
+	
+	/**
+	 * Builds the {@code triangles} of the mesh, they are kept for
+	 * {@link #getTriangle(int)} and when the packed storage is turned off
+	 */
+	private static Triangle3D[] toTriangles(final Vec3FArray vertices, final int[] indices) {
+		// Illegal length
+		if(indices.length == 0 || indices.length % 3 != 0)
+			throw new IllegalArgumentException("Indices must be a non-zero multiple of 3!");
+		
+		final Triangle3D[] triangles = new Triangle3D[indices.length / 3];
+		for(int i = 0; i < indices.length; i++) {
+			// Illegal index
+			if(indices[i] < 0 || indices[i] >= vertices.size())
+				throw new IllegalArgumentException("Index " + indices[i] + " is outside of the vertices!");
+		}
+		
+		for(int i = 0; i < triangles.length; i++)
+			triangles[i] = new Triangle3D(vertices.get(indices[i * 3]), vertices.get(indices[i * 3 + 1]), vertices.get(indices[i * 3 + 2]));
+		
+		return triangles;
+	}
+	
+	/**
+	 * The {@code unique points} are kept, so packing the triangles again is not needed
+	 */
+	@Override
+	protected void packVertices() {}
+	
+	/**
+	 * @return
+	 * {@code Number} of unique points
+	 */
+	public int getVertexCount() {
+		return vertexX.length;
+	}
+	
+	/**
+	 * @return
+	 * {@code Number} of indices, 3 per triangle
+	 */
+	public int getIndexCount() {
+		return indices.length;
+	}
+	
+	/**
+	 * @return
+	 * - Copy of the {@code unique points}, packed in a {@code float[]}
+	 */
+	public Vec3FArray getVertices() {
+		final Vec3FArray vertices = new Vec3FArray(vertexX.length);
+		for(int i = 0; i < vertexX.length; i++)
+			vertices.set(i, vertexX[i], vertexY[i], vertexZ[i]);
+		
+		return vertices;
+	}
+	
+	/**
+	 * Creates the 8 corners of a box from the origin to {@code (x, y, z)},
+	 * in the order expected by {@link #BOX_INDICES}
+	 * 
+	 * @param x
+	 * - Width of the {@code box}
+	 * 
+	 * @param y
+	 * - Height of the {@code box}
+	 * 
+	 * @param z
+	 * - Depth of the {@code box}
+	 * 
+	 * @return
+	 * - {@code Corners} of the box
+	 */
+	protected static Vec3F[] boxCorners(final float x, final float y, final float z) {
+		return new Vec3F[] {
+				new Vec3F(0.0F, 0.0F, 0.0F),
+				new Vec3F(0.0F, y, 0.0F),
+				new Vec3F(x, y, 0.0F),
+				new Vec3F(x, 0.0F, 0.0F),
+				new Vec3F(x, y, z),
+				new Vec3F(x, 0.0F, z),
+				new Vec3F(0.0F, y, z),
+				new Vec3F(0.0F, 0.0F, z)
+		};
+	}
+}
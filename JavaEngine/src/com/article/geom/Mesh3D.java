@@ -1,435 +1,1403 @@
-package com.article.geom;
-
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.util.ArrayList;
-
-import com.article.Camera;
-import com.article.Engine;
-import com.article.math.MatrixF;
-import com.article.math.Vec3F;
-import com.article.math.Vec4F;
-import com.article.math.matrix.PointAtMatrix3D;
-import com.article.math.matrix.ProjectionMatrix;
-import com.article.math.matrix.XRotationMatrix;
-import com.article.math.matrix.YRotationMatrix;
-import com.article.math.matrix.ZRotationMatrix;
-
-/**
- * A 3D Polygon that stores {@code multiple triangles} and handles them,
- * each Triangle contains 3 {@code Vector 3 Float} for points
- * 
- * @since 1.0
- * @version 1.0
- * 
- * @see Triangle3D
- * @see Cube
- * @see Rectangle3D
- */
-public class Mesh3D {
-	// Mesh position offset
-	protected final Vec3F position;
-	
-	// Mesh rotation
-	protected final Vec3F rotation;
-	
-	// Mesh scale
-	protected final Vec3F scale;
-	
-	// Viewing point
-	protected float viewingPoint;
-	
-	// Real triangle coordinates
-	protected final ArrayList<Triangle4D> triangles;
-	protected final ArrayList<Triangle4D> trianglesToProject;
-	
-	// Settings
-	protected boolean applyLighting = true;
-	
-	// Lighting
-	protected Color color;
-	protected float brightness;
-	
-	/**
-	 * @param triangles
-	 * - Array of Mesh's {@code triangles}
-	 * 
-	 * @param rotation
-	 * - Mesh's {@code rotation}
-	 */
-	public Mesh3D(final Triangle3D[] triangles, final Vec3F rotation) {
-		this.triangles = new ArrayList<Triangle4D> ();
-		this.trianglesToProject = new ArrayList<Triangle4D> ();
-		
-		if(triangles != null) {
-			// Illegal length
-			if(triangles.length == 0)
-				throw new IllegalArgumentException("A Mesh must have at least 1 triangle!");
-			
-			// Add all the triangles
-			for(final Triangle3D tri : triangles) {
-				this.triangles.add(tri.toTriangle4D());
-			}
-		}
-		
-		this.rotation = rotation;
-		
-		// Default position offset
-		this.position = new Vec3F(0.0F, 0.0F, 0.0F);
-		
-		// Default scale
-		this.scale = new Vec3F(1.0F, 1.0F, 1.0F);
-		assert(scale.length() > 0.0F) : "Invalid scale!";
-		
-		// Default color
-		this.color = Color.WHITE;
-	}
-	
-	
-	/**
-	 * @param triangles
-	 * - Array of Mesh's {@code triangles}
-	 * 
-	 * @see #Mesh3D(Triangle3D[], Vec3F)
-	 */
-	public Mesh3D(final Triangle3D[] triangles) {
-		this(triangles, new Vec3F(0.0F, 0.0F, 0.0F));
-	}
-	
-	// TODO: Optimize this code
-	public void toScreenCoordinates() {
-		// Matrix initialization
-		final ProjectionMatrix projectionMatrix = new ProjectionMatrix(Camera.FOV);
-		final XRotationMatrix rotationMatrixX = new XRotationMatrix(Camera.get().rotation.getX() + rotation.getX());
-		final YRotationMatrix rotationMatrixY = new YRotationMatrix(Camera.get().rotation.getY() + rotation.getY());
-		final ZRotationMatrix rotationMatrixZ = new ZRotationMatrix(Camera.get().rotation.getZ() + rotation.getZ());
-		
-		// Camera handling
-		final Vec3F lookingDirection = multiplyVecToMat(Camera.get().view.toVector4DFloat(), rotationMatrixY).toVector3DFloat();
-		final Vec3F targetView = Camera.get().position.add(lookingDirection);
-		
-		// View matrix
-		final MatrixF viewMatrix = new PointAtMatrix3D(Camera.get().position, targetView, Camera.get().up).inverse();
-		
-		for(final Triangle4D triangle : triangles) {
-			// Rotate
-			// Rotates the triangle in all axis depending on the rotation of the camera and
-			// the rotation of this individual mesh
-			final Triangle4D triangleRotateZ = new Triangle4D(
-						multiplyVecToMat(triangle.pointA, rotationMatrixZ),
-						multiplyVecToMat(triangle.pointB, rotationMatrixZ),
-						multiplyVecToMat(triangle.pointC, rotationMatrixZ)
-					);
-			
-			final Triangle4D triangleRotateY = new Triangle4D(
-					multiplyVecToMat(triangleRotateZ.pointA, rotationMatrixY),
-					multiplyVecToMat(triangleRotateZ.pointB, rotationMatrixY),
-					multiplyVecToMat(triangleRotateZ.pointC, rotationMatrixY)
-				);
-			
-			final Triangle4D triangleRotateX = new Triangle4D(
-					multiplyVecToMat(triangleRotateY.pointA, rotationMatrixX),
-					multiplyVecToMat(triangleRotateY.pointB, rotationMatrixX),
-					multiplyVecToMat(triangleRotateY.pointC, rotationMatrixX)
-				);
-			
-			// Translate
-			// Translates the triangle depending on the position
-			final Triangle4D translatedTriangle = triangleRotateX.clone();
-			translatedTriangle.pointA.set( triangleRotateX.pointA.add(position.toVector4DFloat()) );
-			translatedTriangle.pointB.set( triangleRotateX.pointB.add(position.toVector4DFloat()) );
-			translatedTriangle.pointC.set( triangleRotateX.pointC.add(position.toVector4DFloat()) );
-			
-			// Getting the surface's normal
-			// Delta lines from one end to the other
-			final Vec3F delta1 = new Vec3F(
-						translatedTriangle.pointB.getX() - translatedTriangle.pointA.getX(),
-						translatedTriangle.pointB.getY() - translatedTriangle.pointA.getY(),
-						translatedTriangle.pointB.getZ() - translatedTriangle.pointA.getZ()
-					);
-			
-			final Vec3F delta2 = new Vec3F(
-					translatedTriangle.pointC.getX() - translatedTriangle.pointA.getX(),
-					translatedTriangle.pointC.getY() - translatedTriangle.pointA.getY(),
-					translatedTriangle.pointC.getZ() - translatedTriangle.pointA.getZ()
-				);
-			
-			// Normalize
-			// Normalize the vector to work with it easier
-			final Vec3F normalVector = new Vec3F( delta1.crossProduct(delta2) );
-			normalVector.set( normalVector.fastNormalize() );
-				
-			// Checks if triangle is visible
-			// Checks whether the ray that camera casts hits the triangle, if not... don't render it
-			final Vec3F rayCast = translatedTriangle.pointA.subtract(Camera.get().position.toVector4DFloat()).toVector3DFloat();
-			if(normalVector.dotProduct( rayCast ) > viewingPoint) continue;
-			
-			// Triangle to view
-			// Transform points depending on the current position of the camera from the view matrix
-			final Triangle4D viewTriangle = new Triangle4D(
-					multiplyVecToMat(translatedTriangle.pointA, viewMatrix),
-					multiplyVecToMat(translatedTriangle.pointB, viewMatrix),
-					multiplyVecToMat(translatedTriangle.pointC, viewMatrix)
-				);
-			
-			// Transform to screen space
-			// Transforms points into the screen transform using the projection matrix
-			final Triangle4D triangleToProject = new Triangle4D(
-						multiplyVecToMat(viewTriangle.pointA, projectionMatrix),
-						multiplyVecToMat(viewTriangle.pointB, projectionMatrix),
-						multiplyVecToMat(viewTriangle.pointC, projectionMatrix)
-					);
-			
-			// Normalize it
-			// Divides w to every points
-			triangleToProject.pointA.set( triangleToProject.pointA.divide( triangleToProject.pointA.getW() ) );
-			triangleToProject.pointB.set( triangleToProject.pointB.divide( triangleToProject.pointB.getW() ) );
-			triangleToProject.pointC.set( triangleToProject.pointC.divide( triangleToProject.pointC.getW() ) );
-			
-			// Handle lighting
-			// Only work with lighting if enabled
-			if(applyLighting) {
-				final Vec3F normalizedLight = Camera.get().direction.fastNormalize();
-				brightness = normalVector.dotProduct(normalizedLight);
-				brightness = brightness < 0 ? 0 : brightness > 255 ? 255 : brightness;
-				
-				// TODO: Add custom color support
-				triangleToProject.color = new Color(
-						brightness,
-						brightness,
-						brightness
-				);
-			}
-			
-			// Scale triangle to aspect view
-			// Scales this triangle to the aspect view [from height / width]
-			triangleToProject.add(scale.toVector4DFloat());
-			
-			// Scale triangle to screen view
-			// Scales this current triangle to viewing space where the user will be able to see it
-			final Vec3F offset = new Vec3F((float)(Engine.get().getWidth() >> 1), (float)(Engine.get().getHeight() >> 1), 0.0F);
-			triangleToProject.multiply(offset.toVector4DFloat());
-			
-			// Set all the changes
-			// Adds this triangle to the list of triangles that will be projected into to screen
-			trianglesToProject.add(triangleToProject);
-		}
-	}
-	
-	/**
-	 * Multiplies {@code Vector 4D float} to {@code Matrix 4x4 Float}
-	 * 
-	 * @param input
-	 * - {@code Vector 4D float} to multiply
-	 * 
-	 * @param matrix
-	 * - {@code Matrix 4x4 Float} to multiply
-	 * 
-	 * @return
-	 * - {@code output vector} if operation is successful; {@code null} otherwise
-	 */
-	private final Vec4F multiplyVecToMat(final Vec4F input, final MatrixF matrix) {
-		// Invalid size
-		if(matrix.size() != 4) return null;
-		
-		// Vector 4D float to return
-		final Vec4F output = new Vec4F();
-		
-		// First element
-		output.setX(
-				input.getX() * matrix.get(0, 0) +
-				input.getY() * matrix.get(1, 0) +
-				input.getZ() * matrix.get(2, 0) +
-				input.getW() * matrix.get(3, 0)
-				);
-		
-		// Second element
-		output.setY(
-				input.getX() * matrix.get(0, 1) +
-				input.getY() * matrix.get(1, 1) +
-				input.getZ() * matrix.get(2, 1) +
-				input.getW() * matrix.get(3, 1)
-				);
-		
-		// Third element
-		output.setZ(
-				input.getX() * matrix.get(0, 2) +
-				input.getY() * matrix.get(1, 2) +
-				input.getZ() * matrix.get(2, 2) +
-				input.getW() * matrix.get(3, 2)
-				);
-		
-		output.setW( input.getX() * matrix.get(0, 3) +
-				input.getY() * matrix.get(1, 3) +
-				input.getZ() * matrix.get(2, 3) +
-				matrix.get(3, 3)
-				);
-		
-		return output;
-	}
-	
- 	/**
-	 * Clears all the {@code triangles} from the list to project
-	 */
-	public void clean() {
-		// Clear all the elements
-		trianglesToProject.clear();
-	}
-	
-	/**
-	 * Draws an outline of all the {@code triangles}
-	 * 
-	 * @param g
-	 * - {@code Graphics2D} to draw
-	 */
-	public void draw(final Graphics2D g) {
-		trianglesToProject.forEach(tri -> tri.drawLine(g));
-	}
-	
-	/**
-	 * Fills {@code all the triangles} with a solid color
-	 * 
-	 * @param g
-	 * - {@code Graphics2D} to draw
-	 */
-	public void fill(final Graphics2D g) {
-		trianglesToProject.forEach(tri -> tri.fill(g));
-	}
-	
-	/**
-	 * Applies {@code lighting} to this mesh
-	 * 
-	 * @param bool
-	 * {@code true} whether lighting should be applied; {@code false} otherwise
-	 */
-	public void applyLigting(final boolean bool) {
-		applyLighting = bool;
-	}
-	
-	/**
-	 * Creates a {@code 3 dimensional} array
-	 * 
-	 * @return
-	 * - 3 Dimensional array
-	 */
-	public final float[][][] toArray() {
-		// [] -> Triangles
-		// [] -> Points
-		// [] -> Coordinates
-		final float[][][] array = new float[triangles.size()][3][3];
-		
-		// Set the values
-		for(int i = 0; i < array.length; i++) {
-			final Triangle4D tri = triangles.get(i);
-			
-			// Point A
-			array[i][0][0] = tri.pointA.getX();
-			array[i][0][1] = tri.pointA.getY();
-			array[i][0][2] = tri.pointA.getZ();
-			
-			// Point B
-			array[i][1][0] = tri.pointB.getX();
-			array[i][1][1] = tri.pointB.getY();
-			array[i][1][2] = tri.pointB.getZ();
-			
-			// Point C
-			array[i][2][0] = tri.pointC.getX();
-			array[i][2][1] = tri.pointC.getY();
-			array[i][2][2] = tri.pointC.getZ();
-		}
-		
-		return array;
-	}
-	
-	/**
-	 * Returns a copy of {@code triangle} at specified index
-	 * 
-	 * @param index
-	 * - {@code Index} where the targeted triangle is located
-	 * 
-	 * @return
-	 * {@code Clone} of the triangle if index specified is valid
-	 */
-	public Triangle3D getTriangle(final int index) {
-		if(index < 0) throw new IllegalArgumentException("Index cannot be less than zero!");
-		if(index >= triangles.size()) throw new IllegalArgumentException("Index cannot greater than triangles size!");
-		
-		return triangles.get(index).clone().toTriangle3D();
-	}
-	
-	/**
-	 * Returns a copy of {@code triangle} at specified index
-	 * 
-	 * @param index
-	 * - {@code Index} where the targeted triangle is located
-	 * 
-	 * @return
-	 * {@code Clone} of the triangle if index specified is valid
-	 */
-	public Triangle3D getProjectedTriangle(final int index) {
-		if(index < 0) throw new IllegalArgumentException("Index cannot be less than zero!");
-		if(index >= trianglesToProject.size()) throw new IllegalArgumentException("Index cannot greater than triangles size!");
-		
-		return trianglesToProject.get(index).clone().toTriangle3D();
-	}
-	
-	/**
-	 * @return
-	 * Position offset of this {@code Mesh 3D}
-	 */
-	public Vec3F getPosition() {
-		return position;
-	}
-	
-	/**
-	 * @return
-	 * Rotation of this {@code Mesh 3D}
-	 */
-	public Vec3F getRotation() {
-		return rotation;
-	}
-
-	/**
-	 * @return
-	 * Scale of this {@code Mesh 3D}
-	 */
-	public Vec3F getScale() {
-		return scale;
-	}
-	
-	/**
-	 * @return
-	 * {@code Color} of this mesh
-	 */
-	public Color getColor() {
-		return color;
-	}
-	
-	/**
-	 * Sets {@code new color} to this mesh
-	 * 
-	 * @param newColor
-	 * - {@code new} color
-	 */
-	public void setColor(final Color newColor) {
-		color = newColor;
-	}
-
-	/**
-	 * @return
-	 * 0 {@code Mesh} viewing point
-	 */
-	public float getViewingPoint() {
-		return viewingPoint;
-	}
-
-	/**
-	 * Sets the mesh {@code viewing point}
-	 * 
-	 * @param viewingPoint
-	 * - {@code New} mesh viewing point
-	 */
-	public void setViewingPoint(float viewingPoint) {
-		this.viewingPoint = viewingPoint;
-	}
+package com.article.geom;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.article.Camera;
+import com.article.Engine;
+import com.article.gfx.Renderer;
+import com.article.math.BatchTransform;
+import com.article.math.Mat4f;
+import com.article.math.Mathf;
+import com.article.math.MatrixF;
+import com.article.math.Vec3F;
+import com.article.math.Vec4F;
+import com.article.math.matrix.PointAtMatrix3D;
+import com.article.math.matrix.ProjectionMatrix;
+import com.article.math.matrix.XRotationMatrix;
+import com.article.math.matrix.YRotationMatrix;
+import com.article.math.matrix.ZRotationMatrix;
+
+/**
+ * A 3D Polygon that stores {@code multiple triangles} and handles them,
+ * each Triangle contains 3 {@code Vector 3 Float} for points
+ * 
+ * @since 1.0
+ * @version 1.0
+ * 
+ * @see Triangle3D
+ * @see Cube
+ * @see Rectangle3D
+ */
+public class Mesh3D {
+	/**
+	 * Number of points or triangles handled by a single task of {@link #toScreenCoordinates(List)}
+	 */
+	public static final int PARALLEL_CHUNK_SIZE = 1 << 13;
+	
+	// Work needed to project the packed storage again
+	private static final int STAGE_CACHED = 0;	// Nothing changed, last triangles are reused
+	private static final int STAGE_VIEW = 1;	// Mesh or camera moved, face normals are reused
+	private static final int STAGE_MODEL = 2;	// Geometry changed, face normals are computed again
+	private static final int STAGE_CULLED = 3;	// Mesh is outside of the screen
+	
+	// Mesh position offset
+	protected final Vec3F position;
+	
+	// Mesh rotation
+	protected final Vec3F rotation;
+	
+	// Mesh scale
+	protected final Vec3F scale;
+	
+	// Viewing point
+	protected float viewingPoint;
+	
+	// Real triangle coordinates
+	protected final ArrayList<Triangle4D> triangles;
+	protected final ArrayList<Triangle4D> trianglesToProject;
+	
+	// Clipping
+	protected final Clipper clipper = new Clipper();
+	
+	// Bounds in model space
+	protected final Vec3F boundsMin = new Vec3F(0.0F);
+	protected final Vec3F boundsMax = new Vec3F(0.0F);
+	protected final Vec3F boundsCenter = new Vec3F(0.0F);
+	protected float boundsRadius;
+	
+	// Leaf in the tree that holds this mesh
+	MeshTree tree;
+	int treeLeaf = -1;
+	
+	// Packed storage
+	// Points in flat arrays, every 3 indices make a triangle
+	protected boolean packedStorage = false;
+	protected float[] vertexX, vertexY, vertexZ;
+	protected int[] indices;
+	
+	// Points being transformed, reused every frame
+	private float[] clipX, clipY, clipZ, clipW;
+	
+	// Projected triangles of the packed storage
+	protected final TriangleBuffer projectedTriangles = new TriangleBuffer();
+	
+	// Unit normals of every triangle in model space and their distance from the origin,
+	// only computed again when the geometry changes
+	protected float[] faceNormalX, faceNormalY, faceNormalZ;
+	protected float[] faceDistance;
+	
+	// Camera position and light direction in model space
+	private float modelCameraX, modelCameraY, modelCameraZ;
+	private float modelLightX, modelLightY, modelLightZ;
+	
+	// Change tracking
+	// Values used by the last projection, compared every frame
+	private final float[] modelState = new float[6];
+	private final float[] viewState = new float[19];
+	private float[] lastVertexX;
+	private int[] lastIndices;
+	private boolean cacheValid = false;
+	private boolean normalsValid = false;
+	private int cachedTriangles;
+	private final ArrayList<Triangle4D> cachedTrianglesToProject = new ArrayList<Triangle4D> ();
+	private int projectionStage;
+	
+	// Parallel projection, every chunk of triangles has its own clipper and output
+	private Clipper[] chunkClippers = new Clipper[0];
+	private TriangleBuffer[] chunkOutputs = new TriangleBuffer[0];
+	
+	// Matrices, reused every frame
+	private final XRotationMatrix rotationMatrixX = new XRotationMatrix();
+	private final YRotationMatrix rotationMatrixY = new YRotationMatrix();
+	private final ZRotationMatrix rotationMatrixZ = new ZRotationMatrix();
+	private final PointAtMatrix3D pointAtMatrix = new PointAtMatrix3D(new Vec3F(0.0F), new Vec3F(0.0F, 0.0F, 1.0F), new Vec3F(0.0F, 1.0F, 0.0F));
+	private final MatrixF viewMatrix = new MatrixF(4);
+	private ProjectionMatrix projectionMatrix;
+	private float projectionFOV;
+	private int projectionWidth, projectionHeight;
+	
+	// Combined matrices
+	protected final MatrixF normalMatrix = new MatrixF(4);				// Rotation only, for normals
+	protected final MatrixF modelMatrix = new MatrixF(4);				// Rotation and translation
+	protected final MatrixF modelViewProjectionMatrix = new MatrixF(4);	// Model, view and projection
+	private final Mat4f modelViewProjection = new Mat4f();				// Same, for the batch transform
+	private final MatrixF scratchMatrix = new MatrixF(4);
+	
+	// Settings
+	protected boolean applyLighting = true;
+	
+	// Lighting
+	protected Color color;
+	protected float brightness;
+	
+	// Packed color of every light level, 0 to 255
+	protected final int[] shades = new int[256];
+	
+	/**
+	 * @param triangles
+	 * - Array of Mesh's {@code triangles}
+	 * 
+	 * @param rotation
+	 * - Mesh's {@code rotation}
+	 */
+	public Mesh3D(final Triangle3D[] triangles, final Vec3F rotation) {
+		this.triangles = new ArrayList<Triangle4D> ();
+		this.trianglesToProject = new ArrayList<Triangle4D> ();
+		
+		if(triangles != null) {
+			// Illegal length
+			if(triangles.length == 0)
+				throw new IllegalArgumentException("A Mesh must have at least 1 triangle!");
+			
+			// Add all the triangles
+			for(final Triangle3D tri : triangles) {
+				this.triangles.add(tri.toTriangle4D());
+			}
+		}
+		
+		this.rotation = rotation;
+		
+		// Default position offset
+		this.position = new Vec3F(0.0F, 0.0F, 0.0F);
+		
+		// Default scale
+		this.scale = new Vec3F(1.0F, 1.0F, 1.0F);
+		assert(scale.length() > 0.0F) : "Invalid scale!";
+		
+		// Default color
+		setColor(Color.WHITE);
+		
+		updateBounds();
+	}
+	
+	
+	/**
+	 * @param triangles
+	 * - Array of Mesh's {@code triangles}
+	 * 
+	 * @see #Mesh3D(Triangle3D[], Vec3F)
+	 */
+	public Mesh3D(final Triangle3D[] triangles) {
+		this(triangles, new Vec3F(0.0F, 0.0F, 0.0F));
+	}
+	
+	// TODO: Optimize this code
+	public void toScreenCoordinates() {
+		if(packedStorage) {
+			toScreenCoordinatesPacked();
+			return;
+		}
+		
+		// Matrices and clipping planes
+		// Nothing changed or outside of the screen
+		final int stage = prepareProjection();
+		if(stage == STAGE_CACHED || stage == STAGE_CULLED) return;
+		
+		// Face normals only change with the geometry
+		final int triangleCount = triangles.size();
+		if(stage == STAGE_MODEL) {
+			for(int index = 0; index < triangleCount; index++) {
+				final Triangle4D triangle = triangles.get(index);
+				
+				updateNormal(index, triangle.pointA.getX(), triangle.pointA.getY(), triangle.pointA.getZ(),
+									triangle.pointB.getX(), triangle.pointB.getY(), triangle.pointB.getZ(),
+									triangle.pointC.getX(), triangle.pointC.getY(), triangle.pointC.getZ());
+			}
+		}
+		
+		// Offset and screen scale, shared by every clipped triangle
+		final Vec4F aspectOffset = new Vec4F(scale.getX(), scale.getY(), 0.0F, 0.0F);
+		final Vec4F screenScale = new Vec4F((float)(Engine.get().getWidth() >> 1), (float)(Engine.get().getHeight() >> 1), 1.0F, 1.0F);
+		
+		for(int index = 0; index < triangleCount; index++) {
+			final Triangle4D triangle = triangles.get(index);
+			final float normalX = faceNormalX[index], normalY = faceNormalY[index], normalZ = faceNormalZ[index];
+			
+			// Checks if triangle is visible
+			// Distance of the camera, in model space, from the plane of the triangle
+			final float facing = faceDistance[index] - (normalX * modelCameraX + normalY * modelCameraY + normalZ * modelCameraZ);
+			if(facing > viewingPoint) continue;
+			
+			// Transform to screen space
+			// Rotation, translation, view and projection all at once
+			final Triangle4D triangleToProject = new Triangle4D(
+						multiplyVecToMat(triangle.pointA, modelViewProjectionMatrix),
+						multiplyVecToMat(triangle.pointB, modelViewProjectionMatrix),
+						multiplyVecToMat(triangle.pointC, modelViewProjectionMatrix)
+					);
+			
+			// Clip
+			// Cuts the triangle against the near plane and the sides of the screen before dividing,
+			// triangles that are behind the camera or off the screen are dropped here
+			final int clippedSize = clipper.clip(
+					triangleToProject.pointA.getX(), triangleToProject.pointA.getY(), triangleToProject.pointA.getZ(), triangleToProject.pointA.getW(),
+					triangleToProject.pointB.getX(), triangleToProject.pointB.getY(), triangleToProject.pointB.getZ(), triangleToProject.pointB.getW(),
+					triangleToProject.pointC.getX(), triangleToProject.pointC.getY(), triangleToProject.pointC.getZ(), triangleToProject.pointC.getW()
+				);
+			if(clippedSize == 0) continue;
+			
+			// Handle lighting
+			// Only work with lighting if enabled, the color comes from the table of the mesh color
+			int triangleColor = shades[shades.length - 1];
+			if(applyLighting) {
+				brightness = normalX * modelLightX + normalY * modelLightY + normalZ * modelLightZ;
+				triangleColor = shade(brightness);
+			}
+			
+			// Clipped polygon
+			// Every clipped polygon is convex, so it is split into a fan of triangles
+			for(int i = 1; i < clippedSize - 1; i++) {
+				final Triangle4D clippedTriangle = new Triangle4D(
+						new Vec4F(clipper.getX(0), clipper.getY(0), clipper.getZ(0), clipper.getW(0)),
+						new Vec4F(clipper.getX(i), clipper.getY(i), clipper.getZ(i), clipper.getW(i)),
+						new Vec4F(clipper.getX(i + 1), clipper.getY(i + 1), clipper.getZ(i + 1), clipper.getW(i + 1))
+					);
+				clippedTriangle.setColor(triangleColor);
+				
+				// Normalize it
+				// Divides w to every points
+				clippedTriangle.pointA.divideLocal( clippedTriangle.pointA.getW() );
+				clippedTriangle.pointB.divideLocal( clippedTriangle.pointB.getW() );
+				clippedTriangle.pointC.divideLocal( clippedTriangle.pointC.getW() );
+				
+				// Scale triangle to aspect view
+				// Scales this triangle to the aspect view [from height / width]
+				// depth is left untouched for the depth buffer
+				clippedTriangle.add(aspectOffset);
+				
+				// Scale triangle to screen view
+				// Scales this current triangle to viewing space where the user will be able to see it
+				clippedTriangle.multiply(screenScale);
+				
+				// Set all the changes
+				// Adds this triangle to the list of triangles that will be projected into to screen
+				trianglesToProject.add(clippedTriangle);
+			}
+		}
+		
+		finishProjection();
+	}
+	
+	/**
+	 * Same as {@link #toScreenCoordinates()}, but works on the flat arrays
+	 * of the packed storage... every point goes through each matrix in a
+	 * single pass, then every triangle is culled, clipped and lit and
+	 * written into {@link #projectedTriangles}
+	 * <br>
+	 * Nothing is created once the arrays have grown to the size of the mesh
+	 */
+	private void toScreenCoordinatesPacked() {
+		// Nothing changed or outside of the screen
+		final int stage = prepareProjection();
+		if(stage == STAGE_CACHED || stage == STAGE_CULLED) return;
+		
+		// Vertex stage
+		// Every point goes through the combined matrix once, even if it is shared by several triangles
+		transformVertices(0, vertexX.length);
+		
+		// Triangle stage
+		projectTriangles(0, indices.length / 3, clipper, projectedTriangles);
+		
+		finishProjection();
+	}
+	
+	/**
+	 * Compares the mesh and the {@code Camera} with the last projection to find out
+	 * how much work is needed... the matrices and arrays are prepared if there is any
+	 * <br>
+	 * <br>
+	 * If nothing changed since the last projection and the triangles have been cleaned,
+	 * the last triangles are brought back as they are... the list of triangles gets
+	 * the same {@code Triangle4D} objects back, they are never changed once they are made
+	 * 
+	 * @return
+	 * - {@code Stage} of the projection
+	 */
+	private int prepareProjection() {
+		final Camera camera = Camera.get();
+		final boolean startsEmpty = packedStorage ? projectedTriangles.size() == 0 : trianglesToProject.isEmpty();
+		
+		// Rotation, translation and geometry
+		// The camera rotation is part of the rotation of every mesh
+		int index = 0;
+		boolean modelChanged = false;
+		modelChanged |= track(modelState, index++, camera.rotation.getX() + rotation.getX());
+		modelChanged |= track(modelState, index++, camera.rotation.getY() + rotation.getY());
+		modelChanged |= track(modelState, index++, camera.rotation.getZ() + rotation.getZ());
+		modelChanged |= track(modelState, index++, position.getX());
+		modelChanged |= track(modelState, index++, position.getY());
+		modelChanged |= track(modelState, index++, position.getZ());
+		final boolean geometryChanged = lastVertexX != vertexX || lastIndices != indices
+				|| (!packedStorage && (faceNormalX == null || faceNormalX.length != triangles.size()));
+		modelChanged |= geometryChanged;
+		lastVertexX = vertexX;
+		lastIndices = indices;
+		
+		// Camera, screen and settings
+		index = 0;
+		boolean viewChanged = false;
+		viewChanged |= track(viewState, index++, camera.position.getX());
+		viewChanged |= track(viewState, index++, camera.position.getY());
+		viewChanged |= track(viewState, index++, camera.position.getZ());
+		viewChanged |= track(viewState, index++, camera.direction.getX());
+		viewChanged |= track(viewState, index++, camera.direction.getY());
+		viewChanged |= track(viewState, index++, camera.direction.getZ());
+		viewChanged |= track(viewState, index++, camera.up.getX());
+		viewChanged |= track(viewState, index++, camera.up.getY());
+		viewChanged |= track(viewState, index++, camera.up.getZ());
+		viewChanged |= track(viewState, index++, camera.view.getX());
+		viewChanged |= track(viewState, index++, camera.view.getY());
+		viewChanged |= track(viewState, index++, camera.view.getZ());
+		viewChanged |= track(viewState, index++, Camera.FOV);
+		viewChanged |= track(viewState, index++, Engine.get().getWidth());
+		viewChanged |= track(viewState, index++, Engine.get().getHeight());
+		viewChanged |= track(viewState, index++, scale.getX());
+		viewChanged |= track(viewState, index++, scale.getY());
+		viewChanged |= track(viewState, index++, viewingPoint);
+		viewChanged |= track(viewState, index++, applyLighting ? 1.0F : 0.0F);
+		
+		// Last triangles are still valid, even if there are none
+		if(cacheValid && !modelChanged && !viewChanged && startsEmpty) {
+			if(packedStorage) {
+				projectedTriangles.restore(cachedTriangles);
+			} else {
+				for(int i = 0; i < cachedTriangles; i++) trianglesToProject.add(cachedTrianglesToProject.get(i));
+			}
+			
+			// Still outside of the screen
+			if(cachedTriangles == 0 && projectionStage == STAGE_CULLED) return STAGE_CULLED;
+			
+			return projectionStage = STAGE_CACHED;
+		}
+		
+		// Only a projection into an empty buffer can be reused
+		cacheValid = startsEmpty;
+		normalsValid &= !geometryChanged;
+		
+		updateMatrices();
+		
+		// Whole mesh is outside of the screen
+		clipper.setScreenOffset(scale.getX(), scale.getY());
+		if(isCulled()) {
+			finishProjection();
+			return projectionStage = STAGE_CULLED;
+		}
+		
+		projectionStage = normalsValid ? STAGE_VIEW : STAGE_MODEL;
+		normalsValid = true;
+		
+		if(packedStorage) {
+			prepareVertices();
+		} else {
+			prepareNormals(triangles.size());
+		}
+		
+		return projectionStage;
+	}
+	
+	/**
+	 * Remembers the triangles the last projection made
+	 */
+	private void finishProjection() {
+		if(packedStorage) {
+			cachedTriangles = projectedTriangles.size();
+			return;
+		}
+		
+		// Only an empty list has been filled by this projection alone
+		cachedTriangles = trianglesToProject.size();
+		cachedTrianglesToProject.clear();
+		if(cacheValid) {
+			for(int i = 0; i < cachedTriangles; i++) cachedTrianglesToProject.add(trianglesToProject.get(i));
+		}
+	}
+	
+	/**
+	 * Stores a tracked {@code value}
+	 * 
+	 * @return
+	 * - {@code true} if the value is different from the stored one; {@code false} otherwise
+	 */
+	private static boolean track(final float[] state, final int index, final float value) {
+		if(Float.floatToIntBits(state[index]) == Float.floatToIntBits(value)) return false;
+		
+		state[index] = value;
+		return true;
+	}
+	
+	/**
+	 * Marks the projected triangles as outdated, the next projection
+	 * starts from scratch... this is only needed when the points of the
+	 * packed storage are changed in place, changes of the transform and of
+	 * the {@code Camera} are found on their own
+	 */
+	public void invalidate() {
+		cacheValid = false;
+		normalsValid = false;
+		
+		updateBounds();
+	}
+	
+	/**
+	 * Checks the bounds against the planes of the {@link #clipper}, the
+	 * {@link #modelViewProjectionMatrix} must be up to date
+	 * 
+	 * @return
+	 * - {@code true} if nothing of the mesh can be seen; {@code false} otherwise
+	 */
+	protected boolean isCulled() {
+		// Sphere first, it is cheaper and works for most meshes
+		return clipper.isSphereOutside(modelViewProjectionMatrix, boundsCenter.getX(), boundsCenter.getY(), boundsCenter.getZ(), boundsRadius)
+			|| clipper.isBoxOutside(modelViewProjectionMatrix, boundsMin.getX(), boundsMin.getY(), boundsMin.getZ(), boundsMax.getX(), boundsMax.getY(), boundsMax.getZ());
+	}
+	
+	/**
+	 * Computes the bounding box and the bounding sphere of the points in model space,
+	 * from the packed storage if it is used or from the {@code triangles} otherwise
+	 */
+	protected void updateBounds() {
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+		
+		final boolean packed = packedStorage && vertexX != null;
+		final int count = packed ? vertexX.length : triangles.size() * 3;
+		
+		// No points
+		if(count == 0) {
+			boundsMin.set(0.0F, 0.0F, 0.0F);
+			boundsMax.set(0.0F, 0.0F, 0.0F);
+			boundsCenter.set(0.0F, 0.0F, 0.0F);
+			boundsRadius = 0.0F;
+			return;
+		}
+		
+		// Box
+		for(int i = 0; i < count; i++) {
+			final float x = packed ? vertexX[i] : point(i).getX();
+			final float y = packed ? vertexY[i] : point(i).getY();
+			final float z = packed ? vertexZ[i] : point(i).getZ();
+			
+			minX = Math.min(minX, x); minY = Math.min(minY, y); minZ = Math.min(minZ, z);
+			maxX = Math.max(maxX, x); maxY = Math.max(maxY, y); maxZ = Math.max(maxZ, z);
+		}
+		
+		boundsMin.set(minX, minY, minZ);
+		boundsMax.set(maxX, maxY, maxZ);
+		
+		// Sphere around the center of the box
+		final float centerX = (minX + maxX) * 0.5F, centerY = (minY + maxY) * 0.5F, centerZ = (minZ + maxZ) * 0.5F;
+		float radiusSquared = 0.0F;
+		for(int i = 0; i < count; i++) {
+			final float x = (packed ? vertexX[i] : point(i).getX()) - centerX;
+			final float y = (packed ? vertexY[i] : point(i).getY()) - centerY;
+			final float z = (packed ? vertexZ[i] : point(i).getZ()) - centerZ;
+			
+			radiusSquared = Math.max(radiusSquared, x * x + y * y + z * z);
+		}
+		
+		boundsCenter.set(centerX, centerY, centerZ);
+		boundsRadius = (float)Math.sqrt(radiusSquared);
+	}
+	
+	/**
+	 * @return
+	 * - Point of the {@code triangles} at the given index, 3 per triangle
+	 */
+	private Vec4F point(final int index) {
+		final Triangle4D triangle = triangles.get(index / 3);
+		
+		switch(index % 3) {
+			case 0:  return triangle.pointA;
+			case 1:  return triangle.pointB;
+			default: return triangle.pointC;
+		}
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the last projection skipped the whole mesh because it was outside of the screen; {@code false} otherwise
+	 */
+	public boolean wasCulled() {
+		return projectionStage == STAGE_CULLED;
+	}
+	
+	/**
+	 * @return
+	 * - Smallest corner of the bounding box, in model space
+	 */
+	public Vec3F getBoundsMin() {
+		return new Vec3F(boundsMin);
+	}
+	
+	/**
+	 * @return
+	 * - Largest corner of the bounding box, in model space
+	 */
+	public Vec3F getBoundsMax() {
+		return new Vec3F(boundsMax);
+	}
+	
+	/**
+	 * @return
+	 * - Center of the bounding sphere, in model space
+	 */
+	public Vec3F getBoundsCenter() {
+		return new Vec3F(boundsCenter);
+	}
+	
+	/**
+	 * @return
+	 * - Radius of the bounding sphere
+	 */
+	public float getBoundsRadius() {
+		return boundsRadius;
+	}
+	
+	/**
+	 * Same as calling {@link #toScreenCoordinates()} on every mesh, but the work is
+	 * spread over the common {@code ForkJoinPool}... meshes are projected at the same
+	 * time and meshes with more than {@link #PARALLEL_CHUNK_SIZE} points or triangles
+	 * are split into chunks
+	 * <br>
+	 * <br>
+	 * Every chunk of triangles writes into its own buffer, the buffers are then added
+	 * to the mesh in order, so the result is the same as projecting one mesh at a time
+	 * 
+	 * @param meshes
+	 * - {@code Meshes} to project, each mesh must only appear once
+	 * 
+	 * @return
+	 * - {@code Number} of meshes that have been skipped because they were outside of the screen
+	 * 
+	 * @see #wasCulled()
+	 */
+	public static int toScreenCoordinates(final List<? extends Mesh3D> meshes) {
+		// Matrices are built first, chunks are counted
+		int vertexJobs = 0, triangleJobs = 0;
+		for(int i = 0; i < meshes.size(); i++) {
+			final Mesh3D mesh = meshes.get(i);
+			
+			// Not packed, projected as a whole
+			if(!mesh.packedStorage) {
+				triangleJobs++;
+				continue;
+			}
+			
+			// Nothing to do
+			final int stage = mesh.prepareProjection();
+			if(stage == STAGE_CACHED || stage == STAGE_CULLED) continue;
+			mesh.prepareChunks();
+			
+			vertexJobs += chunkCount(mesh.vertexX.length);
+			triangleJobs += chunkCount(mesh.indices.length / 3);
+		}
+		
+		// Jobs, a mesh and a chunk each
+		final Mesh3D[] vertexMeshes = new Mesh3D[vertexJobs];
+		final int[] vertexChunks = new int[vertexJobs];
+		final Mesh3D[] triangleMeshes = new Mesh3D[triangleJobs];
+		final int[] triangleChunks = new int[triangleJobs];
+		
+		vertexJobs = triangleJobs = 0;
+		for(int i = 0; i < meshes.size(); i++) {
+			final Mesh3D mesh = meshes.get(i);
+			
+			if(!mesh.packedStorage) {
+				triangleMeshes[triangleJobs++] = mesh;
+				continue;
+			}
+			
+			if(mesh.projectionStage == STAGE_CACHED || mesh.projectionStage == STAGE_CULLED) continue;
+			
+			for(int chunk = 0; chunk < chunkCount(mesh.vertexX.length); chunk++) {
+				vertexMeshes[vertexJobs] = mesh;
+				vertexChunks[vertexJobs++] = chunk;
+			}
+			
+			for(int chunk = 0; chunk < chunkCount(mesh.indices.length / 3); chunk++) {
+				triangleMeshes[triangleJobs] = mesh;
+				triangleChunks[triangleJobs++] = chunk;
+			}
+		}
+		
+		// Points have to be transformed before any triangle uses them
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		if(vertexJobs > 0) pool.invoke(new ProjectionTask(true, vertexMeshes, vertexChunks, 0, vertexJobs));
+		if(triangleJobs > 0) pool.invoke(new ProjectionTask(false, triangleMeshes, triangleChunks, 0, triangleJobs));
+		
+		// Stitch the chunks together
+		int culled = 0;
+		for(int i = 0; i < meshes.size(); i++) {
+			final Mesh3D mesh = meshes.get(i);
+			if(mesh.projectionStage == STAGE_CULLED) culled++;
+			if(!mesh.packedStorage || mesh.projectionStage == STAGE_CACHED || mesh.projectionStage == STAGE_CULLED) continue;
+			
+			final int chunks = chunkCount(mesh.indices.length / 3);
+			for(int chunk = 0; chunk < chunks && chunks > 1; chunk++)
+				mesh.projectedTriangles.addAll(mesh.chunkOutputs[chunk]);
+			
+			mesh.finishProjection();
+		}
+		
+		return culled;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of chunks needed for the given number of points or triangles
+	 */
+	private static int chunkCount(final int count) {
+		return Math.max((count + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE, 1);
+	}
+	
+	/**
+	 * Makes sure every chunk of triangles has a {@code clipper} and an {@code output}
+	 */
+	private void prepareChunks() {
+		final int chunks = chunkCount(indices.length / 3);
+		if(chunks == 1 || chunkClippers.length >= chunks) return;
+		
+		final int oldChunks = chunkClippers.length;
+		chunkClippers = Arrays.copyOf(chunkClippers, chunks);
+		chunkOutputs = Arrays.copyOf(chunkOutputs, chunks);
+		for(int chunk = oldChunks; chunk < chunks; chunk++) {
+			chunkClippers[chunk] = new Clipper();
+			chunkOutputs[chunk] = new TriangleBuffer(PARALLEL_CHUNK_SIZE);
+		}
+	}
+	
+	/**
+	 * Projects a single chunk of {@link #toScreenCoordinates(List)}
+	 * 
+	 * @param vertices
+	 * - {@code true} to transform a chunk of points; {@code false} to project a chunk of triangles
+	 * 
+	 * @param chunk
+	 * - Index of the {@code chunk}
+	 */
+	private void projectChunk(final boolean vertices, final int chunk) {
+		if(!packedStorage) {
+			toScreenCoordinates();
+			return;
+		}
+		
+		final int count = vertices ? vertexX.length : indices.length / 3;
+		final int from = chunk * PARALLEL_CHUNK_SIZE;
+		final int to = Math.min(from + PARALLEL_CHUNK_SIZE, count);
+		
+		if(vertices) {
+			transformVertices(from, to);
+		}
+		// A single chunk goes straight into the mesh
+		else if(count <= PARALLEL_CHUNK_SIZE) {
+			projectTriangles(from, to, clipper, projectedTriangles);
+		}
+		else {
+			chunkOutputs[chunk].clear();
+			projectTriangles(from, to, chunkClippers[chunk], chunkOutputs[chunk]);
+		}
+	}
+	
+	/**
+	 * Splits the jobs of {@link #toScreenCoordinates(List)} in halves until a single job is left
+	 */
+	private static final class ProjectionTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final boolean vertices;
+		private final Mesh3D[] meshes;
+		private final int[] chunks;
+		private final int startJob;
+		private final int endJob;
+		
+		private ProjectionTask(final boolean vertices, final Mesh3D[] meshes, final int[] chunks, final int startJob, final int endJob) {
+			this.vertices = vertices;
+			this.meshes = meshes;
+			this.chunks = chunks;
+			this.startJob = startJob;
+			this.endJob = endJob;
+		}
+		
+		@Override
+		protected void compute() {
+			if(endJob - startJob == 1) {
+				meshes[startJob].projectChunk(vertices, chunks[startJob]);
+				return;
+			}
+			
+			final int middleJob = (startJob + endJob) >>> 1;
+			invokeAll(new ProjectionTask(vertices, meshes, chunks, startJob, middleJob),
+					  new ProjectionTask(vertices, meshes, chunks, middleJob, endJob));
+		}
+	}
+	
+	/**
+	 * Makes sure the clip arrays can hold every point of the packed storage
+	 */
+	private void prepareVertices() {
+		final int count = vertexX.length;
+		if(clipX == null || clipX.length != count) {
+			clipX = new float[count];
+			clipY = new float[count];
+			clipZ = new float[count];
+			clipW = new float[count];
+		}
+		
+		prepareNormals(indices.length / 3);
+	}
+	
+	/**
+	 * Sizes the face normal arrays for the given number of {@code triangles}
+	 */
+	private void prepareNormals(final int triangleCount) {
+		if(faceNormalX == null || faceNormalX.length != triangleCount) {
+			faceNormalX = new float[triangleCount];
+			faceNormalY = new float[triangleCount];
+			faceNormalZ = new float[triangleCount];
+			faceDistance = new float[triangleCount];
+		}
+	}
+	
+	/**
+	 * Culls, clips and lights a range of triangles of the packed storage, the
+	 * points must have been transformed... the {@code clipper} and the {@code output}
+	 * are only used by this call, so ranges can be projected at the same time
+	 * 
+	 * @param from
+	 * - First {@code triangle}
+	 * 
+	 * @param to
+	 * - Last {@code triangle}, exclusive
+	 * 
+	 * @param clipper
+	 * - {@code Clipper} to use
+	 * 
+	 * @param output
+	 * - {@code Buffer} the projected triangles are added to
+	 */
+	private void projectTriangles(final int from, final int to, final Clipper clipper, final TriangleBuffer output) {
+		final Camera camera = Camera.get();
+		final int width = Engine.get().getWidth();
+		final int height = Engine.get().getHeight();
+		
+		// Clipping planes
+		clipper.setScreenOffset(scale.getX(), scale.getY());
+		
+		// Camera and light in model space, so the normals never leave it
+		final float cameraX = modelCameraX, cameraY = modelCameraY, cameraZ = modelCameraZ;
+		final float lightX = modelLightX, lightY = modelLightY, lightZ = modelLightZ;
+		
+		final float halfWidth = (float)(width >> 1), halfHeight = (float)(height >> 1);
+		final float offsetX = scale.getX(), offsetY = scale.getY();
+		
+		// Face normals only change with the geometry
+		if(projectionStage == STAGE_MODEL) updateNormals(from, to);
+		
+		for(int triangle = from; triangle < to; triangle++) {
+			final int a = indices[triangle * 3], b = indices[triangle * 3 + 1], c = indices[triangle * 3 + 2];
+			
+			final float normalX = faceNormalX[triangle], normalY = faceNormalY[triangle], normalZ = faceNormalZ[triangle];
+			
+			// Checks if triangle is visible
+			// Distance of the camera from the plane of the triangle
+			final float facing = faceDistance[triangle] - (normalX * cameraX + normalY * cameraY + normalZ * cameraZ);
+			if(facing > viewingPoint) continue;
+			
+			// Clip
+			final int clippedSize = clipper.clip(
+					clipX[a], clipY[a], clipZ[a], clipW[a],
+					clipX[b], clipY[b], clipZ[b], clipW[b],
+					clipX[c], clipY[c], clipZ[c], clipW[c]
+				);
+			if(clippedSize == 0) continue;
+			
+			// Handle lighting
+			int triangleColor = shades[shades.length - 1];
+			if(applyLighting) {
+				float light = normalX * lightX;
+				light += normalY * lightY;
+				light += normalZ * lightZ;
+				
+				triangleColor = shade(light);
+			}
+			
+			// Clipped polygon
+			// Divided by w, moved by the scale offset and scaled to the screen
+			final float x0 = (clipper.getX(0) / clipper.getW(0) + offsetX) * halfWidth;
+			final float y0 = (clipper.getY(0) / clipper.getW(0) + offsetY) * halfHeight;
+			final float z0 = clipper.getZ(0) / clipper.getW(0);
+			
+			float x1 = (clipper.getX(1) / clipper.getW(1) + offsetX) * halfWidth;
+			float y1 = (clipper.getY(1) / clipper.getW(1) + offsetY) * halfHeight;
+			float z1 = clipper.getZ(1) / clipper.getW(1);
+			
+			for(int i = 2; i < clippedSize; i++) {
+				final float x2 = (clipper.getX(i) / clipper.getW(i) + offsetX) * halfWidth;
+				final float y2 = (clipper.getY(i) / clipper.getW(i) + offsetY) * halfHeight;
+				final float z2 = clipper.getZ(i) / clipper.getW(i);
+				
+				output.add(x0, y0, z0, x1, y1, z1, x2, y2, z2, triangleColor);
+				
+				x1 = x2; y1 = y2; z1 = z2;
+			}
+		}
+	}
+	
+	/**
+	 * Computes the model space unit normal and its distance from the origin for a
+	 * range of triangles of the packed storage
+	 * 
+	 * @param from
+	 * - First {@code triangle}
+	 * 
+	 * @param to
+	 * - Last {@code triangle}, exclusive
+	 */
+	private void updateNormals(final int from, final int to) {
+		for(int triangle = from; triangle < to; triangle++) {
+			final int a = indices[triangle * 3], b = indices[triangle * 3 + 1], c = indices[triangle * 3 + 2];
+			
+			updateNormal(triangle, vertexX[a], vertexY[a], vertexZ[a], vertexX[b], vertexY[b], vertexZ[b], vertexX[c], vertexY[c], vertexZ[c]);
+		}
+	}
+	
+	/**
+	 * Computes the model space unit normal of a {@code triangle} and the distance of its plane from the origin
+	 */
+	private void updateNormal(final int triangle, final float ax, final float ay, final float az,
+										 final float bx, final float by, final float bz,
+										 final float cx, final float cy, final float cz) {
+		// Delta lines from one end to the other
+		final float delta1X = bx - ax, delta1Y = by - ay, delta1Z = bz - az;
+		final float delta2X = cx - ax, delta2Y = cy - ay, delta2Z = cz - az;
+		
+		float normalX = delta1Y * delta2Z - delta1Z * delta2Y;
+		float normalY = delta1Z * delta2X - delta1X * delta2Z;
+		float normalZ = delta1X * delta2Y - delta1Y * delta2X;
+		
+		final float inverseLength = Mathf.fastInverseSqrt(normalX * normalX + normalY * normalY + normalZ * normalZ);
+		normalX *= inverseLength;
+		normalY *= inverseLength;
+		normalZ *= inverseLength;
+		
+		faceNormalX[triangle] = normalX;
+		faceNormalY[triangle] = normalY;
+		faceNormalZ[triangle] = normalZ;
+		faceDistance[triangle] = normalX * ax + normalY * ay + normalZ * az;
+	}
+	
+	/**
+	 * Moves the camera position and the light direction into model space, the rotation
+	 * is orthonormal so its transpose takes them back... called by {@link #updateMatrices()}
+	 */
+	private void updateModelSpace(final Camera camera) {
+		final float r00 = normalMatrix.get(0, 0), r01 = normalMatrix.get(0, 1), r02 = normalMatrix.get(0, 2);
+		final float r10 = normalMatrix.get(1, 0), r11 = normalMatrix.get(1, 1), r12 = normalMatrix.get(1, 2);
+		final float r20 = normalMatrix.get(2, 0), r21 = normalMatrix.get(2, 1), r22 = normalMatrix.get(2, 2);
+		
+		// Camera relative to the mesh
+		final float cameraX = camera.position.getX() - position.getX();
+		final float cameraY = camera.position.getY() - position.getY();
+		final float cameraZ = camera.position.getZ() - position.getZ();
+		
+		modelCameraX = cameraX * r00 + cameraY * r01 + cameraZ * r02;
+		modelCameraY = cameraX * r10 + cameraY * r11 + cameraZ * r12;
+		modelCameraZ = cameraX * r20 + cameraY * r21 + cameraZ * r22;
+		
+		// Light direction is the same for every triangle
+		final float inverseLength = Mathf.fastInverseSqrt(camera.direction.getX() * camera.direction.getX() + camera.direction.getY() * camera.direction.getY() + camera.direction.getZ() * camera.direction.getZ());
+		final float lightX = camera.direction.getX() * inverseLength;
+		final float lightY = camera.direction.getY() * inverseLength;
+		final float lightZ = camera.direction.getZ() * inverseLength;
+		
+		modelLightX = lightX * r00 + lightY * r01 + lightZ * r02;
+		modelLightY = lightX * r10 + lightY * r11 + lightZ * r12;
+		modelLightZ = lightX * r20 + lightY * r21 + lightZ * r22;
+	}
+	
+	/**
+	 * Multiplies a range of points of the packed storage by the {@link #modelViewProjectionMatrix}
+	 * into the clip arrays through the {@link BatchTransform}, with the same math as {@link #multiplyVecToMat(Vec4F, MatrixF)}
+	 * 
+	 * @param from
+	 * - First {@code point}
+	 * 
+	 * @param to
+	 * - Last {@code point}, exclusive
+	 */
+	private void transformVertices(final int from, final int to) {
+		BatchTransform.get().transformPoints(modelViewProjection, vertexX, vertexY, vertexZ, clipX, clipY, clipZ, clipW, from, to);
+	}
+	
+	/**
+	 * Builds the matrices of this frame... rotation of the mesh and the camera
+	 * ({@code Z}, then {@code Y}, then {@code X}), translation, view and projection
+	 * are multiplied into {@link #modelViewProjectionMatrix}, so every point is
+	 * transformed once... the rotation alone is kept in {@link #normalMatrix}
+	 * for the normals
+	 */
+	protected void updateMatrices() {
+		final Camera camera = Camera.get();
+		final int width = Engine.get().getWidth();
+		final int height = Engine.get().getHeight();
+		
+		// The projection only changes with the field of view or the size of the screen
+		if(projectionMatrix == null || projectionFOV != Camera.FOV || projectionWidth != width || projectionHeight != height) {
+			projectionMatrix = new ProjectionMatrix(Camera.FOV);
+			projectionFOV = Camera.FOV;
+			projectionWidth = width;
+			projectionHeight = height;
+		}
+		
+		rotationMatrixX.setTheta(camera.rotation.getX() + rotation.getX());
+		rotationMatrixY.setTheta(camera.rotation.getY() + rotation.getY());
+		rotationMatrixZ.setTheta(camera.rotation.getZ() + rotation.getZ());
+		
+		// Camera handling
+		buildViewMatrix(rotationMatrixY, pointAtMatrix, viewMatrix);
+		
+		// Rotation
+		Mathf.multiplyMatrix(rotationMatrixZ, rotationMatrixY, scratchMatrix);
+		Mathf.multiplyMatrix(scratchMatrix, rotationMatrixX, normalMatrix);
+		
+		// Translation goes in the last row
+		modelMatrix.set(normalMatrix);
+		modelMatrix.set(3, 0, position.getX());
+		modelMatrix.set(3, 1, position.getY());
+		modelMatrix.set(3, 2, position.getZ());
+		
+		// Model, view and projection
+		Mathf.multiplyMatrix(viewMatrix, projectionMatrix, scratchMatrix);
+		Mathf.multiplyMatrix(modelMatrix, scratchMatrix, modelViewProjectionMatrix);
+		modelViewProjection.set(modelViewProjectionMatrix);
+		
+		updateModelSpace(camera);
+	}
+	
+	/**
+	 * Builds the {@code view matrix} of the camera looking along its view
+	 * direction turned by the {@code Y rotation}
+	 * 
+	 * @param rotationY
+	 * - {@code Rotation} that turns the view direction
+	 * 
+	 * @param pointAt
+	 * - {@code Point at matrix} to reuse
+	 * 
+	 * @param destination
+	 * - {@code Matrix 4x4 Float} to store the view matrix in
+	 */
+	static void buildViewMatrix(final MatrixF rotationY, final PointAtMatrix3D pointAt, final MatrixF destination) {
+		final Camera camera = Camera.get();
+		
+		final float lookingX = camera.view.getX() * rotationY.get(0, 0) + camera.view.getY() * rotationY.get(1, 0) + camera.view.getZ() * rotationY.get(2, 0) + rotationY.get(3, 0);
+		final float lookingY = camera.view.getX() * rotationY.get(0, 1) + camera.view.getY() * rotationY.get(1, 1) + camera.view.getZ() * rotationY.get(2, 1) + rotationY.get(3, 1);
+		final float lookingZ = camera.view.getX() * rotationY.get(0, 2) + camera.view.getY() * rotationY.get(1, 2) + camera.view.getZ() * rotationY.get(2, 2) + rotationY.get(3, 2);
+		
+		// View matrix
+		pointAt.set(camera.position.getX(), camera.position.getY(), camera.position.getZ(),
+					camera.position.getX() + lookingX, camera.position.getY() + lookingY, camera.position.getZ() + lookingZ,
+					camera.up.getX(), camera.up.getY(), camera.up.getZ());
+		pointAt.inverseInto(destination);
+	}
+	
+	/**
+	 * Multiplies {@code Vector 4D float} to {@code Matrix 4x4 Float}
+	 * 
+	 * @param input
+	 * - {@code Vector 4D float} to multiply
+	 * 
+	 * @param matrix
+	 * - {@code Matrix 4x4 Float} to multiply
+	 * 
+	 * @return
+	 * - {@code output vector} if operation is successful; {@code null} otherwise
+	 */
+	private final Vec4F multiplyVecToMat(final Vec4F input, final MatrixF matrix) {
+		// Invalid size
+		if(matrix.size() != 4) return null;
+		
+		// Vector 4D float to return
+		final Vec4F output = new Vec4F();
+		
+		// First element
+		output.setX(
+				input.getX() * matrix.get(0, 0) +
+				input.getY() * matrix.get(1, 0) +
+				input.getZ() * matrix.get(2, 0) +
+				input.getW() * matrix.get(3, 0)
+				);
+		
+		// Second element
+		output.setY(
+				input.getX() * matrix.get(0, 1) +
+				input.getY() * matrix.get(1, 1) +
+				input.getZ() * matrix.get(2, 1) +
+				input.getW() * matrix.get(3, 1)
+				);
+		
+		// Third element
+		output.setZ(
+				input.getX() * matrix.get(0, 2) +
+				input.getY() * matrix.get(1, 2) +
+				input.getZ() * matrix.get(2, 2) +
+				input.getW() * matrix.get(3, 2)
+				);
+		
+		output.setW( input.getX() * matrix.get(0, 3) +
+				input.getY() * matrix.get(1, 3) +
+				input.getZ() * matrix.get(2, 3) +
+				matrix.get(3, 3)
+				);
+		
+		return output;
+	}
+	
+ 	/**
+	 * Clears all the {@code triangles} from the list to project
+	 */
+	public void clean() {
+		// Clear all the elements
+		trianglesToProject.clear();
+		projectedTriangles.clear();
+	}
+	
+	/**
+	 * Draws an outline of all the {@code triangles}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void draw(final Graphics2D g) {
+		projectedTriangles.draw(g);
+		trianglesToProject.forEach(tri -> tri.drawLine(g));
+	}
+	
+	/**
+	 * Fills {@code all the triangles} with a solid color
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void fill(final Graphics2D g) {
+		projectedTriangles.fill(g);
+		trianglesToProject.forEach(tri -> tri.fill(g));
+	}
+	
+	/**
+	 * Draws an outline of all the {@code triangles}
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void draw(final Renderer renderer) {
+		projectedTriangles.draw(renderer);
+		
+		for(int i = 0; i < trianglesToProject.size(); i++)
+			trianglesToProject.get(i).drawLine(renderer);
+	}
+	
+	/**
+	 * Fills {@code all the triangles} with a solid color,
+	 * without going through {@code Graphics2D}
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void fill(final Renderer renderer) {
+		projectedTriangles.fill(renderer);
+		
+		for(int i = 0; i < trianglesToProject.size(); i++)
+			trianglesToProject.get(i).fill(renderer);
+	}
+	
+	/**
+	 * Applies {@code lighting} to this mesh
+	 * 
+	 * @param bool
+	 * {@code true} whether lighting should be applied; {@code false} otherwise
+	 */
+	public void applyLigting(final boolean bool) {
+		applyLighting = bool;
+	}
+	
+	/**
+	 * Switches between the {@code packed storage}, where points are kept in flat
+	 * arrays and projected without creating objects, and the list of {@code triangles}...
+	 * the arrays are filled from the triangles when the packed storage is turned on,
+	 * so it has to be turned on again after the triangles are changed
+	 * 
+	 * @param packed
+	 * - {@code true} to use the packed storage; {@code false} otherwise
+	 */
+	public void setPackedStorage(final boolean packed) {
+		packedStorage = packed;
+		
+		if(packed) packVertices();
+		
+		// Bounds are taken from the storage in use
+		invalidate();
+		clean();
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if the packed storage is used; {@code false} otherwise
+	 */
+	public boolean isPackedStorage() {
+		return packedStorage;
+	}
+	
+	/**
+	 * Copies the points of every {@code triangle} into the flat arrays,
+	 * points are not shared between triangles
+	 * 
+	 * @see IndexedMesh3D
+	 */
+	protected void packVertices() {
+		final int count = triangles.size() * 3;
+		vertexX = new float[count];
+		vertexY = new float[count];
+		vertexZ = new float[count];
+		indices = new int[count];
+		
+		for(int i = 0; i < count; i++)
+			indices[i] = i;
+		
+		for(int i = 0, j = 0; i < triangles.size(); i++, j += 3) {
+			final Triangle4D tri = triangles.get(i);
+			
+			vertexX[j]     = tri.pointA.getX(); vertexY[j]     = tri.pointA.getY(); vertexZ[j]     = tri.pointA.getZ();
+			vertexX[j + 1] = tri.pointB.getX(); vertexY[j + 1] = tri.pointB.getY(); vertexZ[j + 1] = tri.pointB.getZ();
+			vertexX[j + 2] = tri.pointC.getX(); vertexY[j + 2] = tri.pointC.getY(); vertexZ[j + 2] = tri.pointC.getZ();
+		}
+	}
+	
+	/**
+	 * Creates a {@code 3 dimensional} array
+	 * 
+	 * @return
+	 * - 3 Dimensional array
+	 */
+	public final float[][][] toArray() {
+		// [] -> Triangles
+		// [] -> Points
+		// [] -> Coordinates
+		final float[][][] array = new float[triangles.size()][3][3];
+		
+		// Set the values
+		for(int i = 0; i < array.length; i++) {
+			final Triangle4D tri = triangles.get(i);
+			
+			// Point A
+			array[i][0][0] = tri.pointA.getX();
+			array[i][0][1] = tri.pointA.getY();
+			array[i][0][2] = tri.pointA.getZ();
+			
+			// Point B
+			array[i][1][0] = tri.pointB.getX();
+			array[i][1][1] = tri.pointB.getY();
+			array[i][1][2] = tri.pointB.getZ();
+			
+			// Point C
+			array[i][2][0] = tri.pointC.getX();
+			array[i][2][1] = tri.pointC.getY();
+			array[i][2][2] = tri.pointC.getZ();
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns a copy of {@code triangle} at specified index
+	 * 
+	 * @param index
+	 * - {@code Index} where the targeted triangle is located
+	 * 
+	 * @return
+	 * {@code Clone} of the triangle if index specified is valid
+	 */
+	public Triangle3D getTriangle(final int index) {
+		if(index < 0) throw new IllegalArgumentException("Index cannot be less than zero!");
+		if(index >= triangles.size()) throw new IllegalArgumentException("Index cannot greater than triangles size!");
+		
+		return triangles.get(index).clone().toTriangle3D();
+	}
+	
+	/**
+	 * Returns a copy of {@code triangle} at specified index
+	 * 
+	 * @param index
+	 * - {@code Index} where the targeted triangle is located
+	 * 
+	 * @return
+	 * {@code Clone} of the triangle if index specified is valid
+	 */
+	public Triangle3D getProjectedTriangle(final int index) {
+		if(index < 0) throw new IllegalArgumentException("Index cannot be less than zero!");
+		if(index >= getProjectedTriangleCount()) throw new IllegalArgumentException("Index cannot greater than triangles size!");
+		
+		if(packedStorage) {
+			return new Triangle3D(
+					new Vec3F(projectedTriangles.getX(index, 0), projectedTriangles.getY(index, 0), projectedTriangles.getZ(index, 0)),
+					new Vec3F(projectedTriangles.getX(index, 1), projectedTriangles.getY(index, 1), projectedTriangles.getZ(index, 1)),
+					new Vec3F(projectedTriangles.getX(index, 2), projectedTriangles.getY(index, 2), projectedTriangles.getZ(index, 2))
+				);
+		}
+		
+		return trianglesToProject.get(index).clone().toTriangle3D();
+	}
+	
+	/**
+	 * @return
+	 * {@code Number} of projected triangles
+	 */
+	public int getProjectedTriangleCount() {
+		return packedStorage ? projectedTriangles.size() : trianglesToProject.size();
+	}
+	
+	/**
+	 * Reads a point of a projected triangle without creating objects,
+	 * from the storage in use
+	 * 
+	 * @param index
+	 * - Index of the projected {@code triangle}
+	 * 
+	 * @param point
+	 * - Index of the {@code point}, 0 to 2
+	 * 
+	 * @param axis
+	 * - {@code 0} for x, {@code 1} for y and {@code 2} for z
+	 */
+	float getProjected(final int index, final int point, final int axis) {
+		if(packedStorage) {
+			switch(axis) {
+				case 0:  return projectedTriangles.getX(index, point);
+				case 1:  return projectedTriangles.getY(index, point);
+				default: return projectedTriangles.getZ(index, point);
+			}
+		}
+		
+		final Triangle4D triangle = trianglesToProject.get(index);
+		final Vec4F vector = point == 0 ? triangle.pointA : point == 1 ? triangle.pointB : triangle.pointC;
+		
+		switch(axis) {
+			case 0:  return vector.getX();
+			case 1:  return vector.getY();
+			default: return vector.getZ();
+		}
+	}
+	
+	/**
+	 * @return
+	 * - Packed {@code ARGB} color of a projected triangle
+	 */
+	int getProjectedColor(final int index) {
+		return packedStorage ? projectedTriangles.getColor(index) : trianglesToProject.get(index).getARGB();
+	}
+	
+	/**
+	 * @return
+	 * Position offset of this {@code Mesh 3D}
+	 */
+	public Vec3F getPosition() {
+		return position;
+	}
+	
+	/**
+	 * @return
+	 * Rotation of this {@code Mesh 3D}
+	 */
+	public Vec3F getRotation() {
+		return rotation;
+	}
+
+	/**
+	 * @return
+	 * Scale of this {@code Mesh 3D}
+	 */
+	public Vec3F getScale() {
+		return scale;
+	}
+	
+	/**
+	 * @return
+	 * {@code Color} of this mesh
+	 */
+	public Color getColor() {
+		return color;
+	}
+	
+	/**
+	 * Sets {@code new color} to this mesh
+	 * 
+	 * @param newColor
+	 * - {@code new} color
+	 */
+	public void setColor(final Color newColor) {
+		if(newColor == null) throw new IllegalArgumentException("Color must not be null!");
+		
+		color = newColor;
+		updateShades(newColor.getRGB(), shades);
+		
+		// Projected triangles have the old color
+		cacheValid = false;
+	}
+	
+	/**
+	 * Fills the {@code shades} with the color scaled by every light level,
+	 * rounded the same way as {@code Color(float, float, float)} for white
+	 * 
+	 * @param argb
+	 * - {@code Color} at full light, packed {@code ARGB}
+	 * 
+	 * @param shades
+	 * - {@code Array} of 256 colors to fill
+	 */
+	protected static void updateShades(final int argb, final int[] shades) {
+		final int alpha = argb & 0xff000000;
+		final int red = (argb >> 16) & 0xff, green = (argb >> 8) & 0xff, blue = argb & 0xff;
+		
+		for(int level = 0; level < shades.length; level++) {
+			shades[level] = alpha
+						  | ((red * level + 127) / 255) << 16
+						  | ((green * level + 127) / 255) << 8
+						  | ((blue * level + 127) / 255);
+		}
+	}
+	
+	/**
+	 * @return
+	 * - {@code Packed color} of the mesh lit by the given amount of {@code light}
+	 */
+	protected final int shade(final float light) {
+		final float clamped = light < 0 ? 0 : light > 1.0F ? 1.0F : light;
+		
+		// Same rounding as Color(float, float, float)
+		return shades[(int)(clamped * 255 + 0.5)];
+	}
+
+	/**
+	 * @return
+	 * 0 {@code Mesh} viewing point
+	 */
+	public float getViewingPoint() {
+		return viewingPoint;
+	}
+
+	/**
+	 * Sets the mesh {@code viewing point}
+	 * 
+	 * @param viewingPoint
+	 * - {@code New} mesh viewing point
+	 */
+	public void setViewingPoint(float viewingPoint) {
+		this.viewingPoint = viewingPoint;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,901 @@
+package com.article.geom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.article.Camera;
+import com.article.Engine;
+import com.article.gfx.Renderer;
+import com.article.math.Mathf;
+import com.article.math.MatrixF;
+import com.article.math.Vec3F;
+import com.article.math.matrix.PointAtMatrix3D;
+import com.article.math.matrix.ProjectionMatrix;
+import com.article.math.matrix.YRotationMatrix;
+
+/**
+ * {@code Bounding volume hierarchy} of {@link Mesh3D} instances, a balanced binary tree
+ * of boxes where every leaf holds one mesh... frustum, overlap and nearest queries only
+ * visit the branches they can hit, so they cost about {@code log n} per result
+ * <br>
+ * <br>
+ * A mesh is bounded by a sphere around its {@code position} that contains it for every
+ * rotation, the leaves keep that sphere's box grown by a {@code margin} so that small
+ * moves do not touch the tree... {@link #refit()} only moves the leaves that left their box
+ * <br>
+ * <br>
+ * Meshes that turn the view with their own {@code Y rotation} or move the screen with
+ * their {@code scale} do not share the camera frustum, they are always reported as visible
+ * and left to the per mesh culling
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public final class MeshTree {
+	// Constants
+	public static final float DEFAULT_MARGIN = 0.5F;
+	
+	private static final int NULL = -1;
+	private static final int ALL_PLANES = (1 << 5) - 1;
+	
+	// Nodes, boxes [minX, minY, minZ, maxX, maxY, maxZ] each
+	private float[] bounds;
+	private int[] parent;
+	private int[] left;
+	private int[] right;
+	private int[] height;
+	private Mesh3D[] meshes;
+	private boolean[] ownView;
+	private int capacity;
+	
+	private int root = NULL;
+	private int freeList = NULL;
+	private int size;
+	
+	private final float margin;
+	
+	// Meshes that are not tested against the frustum
+	private final List<Mesh3D> ownViewMeshes = new ArrayList<Mesh3D> ();
+	
+	// Queries, frustum queries also keep the planes the node is not fully inside of
+	private int[] stack = new int[64];
+	private int[] planeMasks = new int[64];
+	private final List<Mesh3D> visibleMeshes = new ArrayList<Mesh3D> ();
+	private int culledMeshes = 0;
+	
+	// Frustum
+	private final Clipper clipper = new Clipper();
+	private final YRotationMatrix rotationMatrixY = new YRotationMatrix();
+	private final PointAtMatrix3D pointAtMatrix = new PointAtMatrix3D(new Vec3F(0.0F), new Vec3F(0.0F, 0.0F, 1.0F), new Vec3F(0.0F, 1.0F, 0.0F));
+	private final MatrixF viewMatrix = new MatrixF(4);
+	private final MatrixF viewProjectionMatrix = new MatrixF(4);
+	private final float[] planes = new float[5 * 4];
+	private ProjectionMatrix projectionMatrix;
+	private float projectionFOV;
+	private int projectionWidth, projectionHeight;
+	
+	/**
+	 * @param margin
+	 * - {@code Distance} a mesh can move before its leaf is moved, must not be negative
+	 */
+	public MeshTree(final float margin) {
+		if(margin < 0.0F) throw new IllegalArgumentException("Margin must not be negative!");
+		
+		this.margin = margin;
+		
+		allocate(16);
+	}
+	
+	/**
+	 * @see #MeshTree(float)
+	 */
+	public MeshTree() {
+		this(DEFAULT_MARGIN);
+	}
+	
+	// ******************************************************
+	// Meshes
+	// ******************************************************
+	
+	/**
+	 * Adds a {@code mesh} to this tree, a mesh can only be in one tree
+	 * 
+	 * @param mesh
+	 * - {@code Mesh 3D} to add
+	 * 
+	 * @return
+	 * - {@code true} if the mesh has been added; {@code false} if it already was in this tree
+	 */
+	public boolean add(final Mesh3D mesh) {
+		if(mesh == null) throw new IllegalArgumentException("Mesh must not be null!");
+		if(mesh.tree == this) return false;
+		if(mesh.tree != null) throw new IllegalArgumentException("Mesh already is in another tree!");
+		
+		final int leaf = allocateNode();
+		meshes[leaf] = mesh;
+		height[leaf] = 0;
+		
+		mesh.tree = this;
+		mesh.treeLeaf = leaf;
+		
+		fatten(leaf);
+		insertLeaf(leaf);
+		updateView(leaf);
+		size++;
+		
+		return true;
+	}
+	
+	/**
+	 * Removes a {@code mesh} from this tree
+	 * 
+	 * @param mesh
+	 * - {@code Mesh 3D} to remove
+	 * 
+	 * @return
+	 * - {@code true} if the mesh has been removed; {@code false} if it was not in this tree
+	 */
+	public boolean remove(final Mesh3D mesh) {
+		if(mesh == null || mesh.tree != this) return false;
+		
+		final int leaf = mesh.treeLeaf;
+		if(ownView[leaf]) ownViewMeshes.remove(mesh);
+		
+		removeLeaf(leaf);
+		freeNode(leaf);
+		
+		mesh.tree = null;
+		mesh.treeLeaf = NULL;
+		visibleMeshes.remove(mesh);
+		size--;
+		
+		return true;
+	}
+	
+	/**
+	 * Removes every {@code mesh}
+	 */
+	public void clear() {
+		for(int node = 0; node < capacity; node++) {
+			if(meshes[node] == null) continue;
+			
+			meshes[node].tree = null;
+			meshes[node].treeLeaf = NULL;
+		}
+		
+		ownViewMeshes.clear();
+		visibleMeshes.clear();
+		culledMeshes = 0;
+		allocate(16);
+		root = NULL;
+		size = 0;
+	}
+	
+	/**
+	 * Moves every leaf whose mesh has left its box, the meshes that stayed inside
+	 * only cost a bounds check
+	 * 
+	 * @return
+	 * - {@code Number} of meshes that have been moved in the tree
+	 */
+	public int refit() {
+		int moved = 0;
+		
+		for(int node = 0; node < capacity; node++)
+			if(meshes[node] != null && refitLeaf(node))
+				moved++;
+		
+		return moved;
+	}
+	
+	/**
+	 * Moves the leaf of a single {@code mesh} if it has left its box
+	 * 
+	 * @param mesh
+	 * - {@code Mesh 3D} that has been moved or modified
+	 * 
+	 * @return
+	 * - {@code true} if the mesh has been moved in the tree; {@code false} otherwise
+	 */
+	public boolean refit(final Mesh3D mesh) {
+		if(mesh == null || mesh.tree != this) throw new IllegalArgumentException("Mesh is not in this tree!");
+		
+		return refitLeaf(mesh.treeLeaf);
+	}
+	
+	// ******************************************************
+	// Queries
+	// ******************************************************
+	
+	/**
+	 * Adds every {@code mesh} that can be seen by the camera to the {@code output},
+	 * only the branches that cross the frustum are visited
+	 * 
+	 * @param output
+	 * - {@code List} to add the meshes to, it is not cleared
+	 * 
+	 * @return
+	 * - {@code Number} of meshes added
+	 */
+	public int queryFrustum(final List<? super Mesh3D> output) {
+		updateFrustum();
+		
+		int count = 0;
+		int top = push(0, root, ALL_PLANES);
+		while(top > 0) {
+			final int node = stack[--top];
+			int mask = planeMasks[top];
+			
+			// Planes the parent is fully inside of are skipped
+			if(mask != 0) {
+				mask = testPlanes(node, mask);
+				if(mask < 0) continue;
+			}
+			
+			if(meshes[node] != null) {
+				// Reported below
+				if(ownView[node]) continue;
+				
+				output.add(meshes[node]);
+				count++;
+				continue;
+			}
+			
+			top = push(top, left[node], mask);
+			top = push(top, right[node], mask);
+		}
+		
+		output.addAll(ownViewMeshes);
+		
+		return count + ownViewMeshes.size();
+	}
+	
+	/**
+	 * Adds every {@code mesh} whose bounding sphere overlaps the {@code sphere} to the {@code output}
+	 * 
+	 * @param output
+	 * - {@code List} to add the meshes to, it is not cleared
+	 * 
+	 * @return
+	 * - {@code Number} of meshes added
+	 */
+	public int querySphere(final float centerX, final float centerY, final float centerZ, final float radius, final List<? super Mesh3D> output) {
+		if(radius < 0.0F) throw new IllegalArgumentException("Radius must not be negative!");
+		
+		int count = 0;
+		int top = push(0, root);
+		while(top > 0) {
+			final int node = stack[--top];
+			
+			if(boxDistanceSquared(node, centerX, centerY, centerZ) > radius * radius) continue;
+			
+			if(meshes[node] != null) {
+				final Mesh3D mesh = meshes[node];
+				final float x = mesh.position.getX() - centerX, y = mesh.position.getY() - centerY, z = mesh.position.getZ() - centerZ;
+				final float reach = radius + worldRadius(mesh);
+				
+				if(x * x + y * y + z * z <= reach * reach) {
+					output.add(mesh);
+					count++;
+				}
+				continue;
+			}
+			
+			top = push(top, left[node]);
+			top = push(top, right[node]);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Adds every {@code mesh} whose bounding sphere overlaps the {@code box} to the {@code output}
+	 * 
+	 * @param output
+	 * - {@code List} to add the meshes to, it is not cleared
+	 * 
+	 * @return
+	 * - {@code Number} of meshes added
+	 */
+	public int queryBox(final float minX, final float minY, final float minZ, final float maxX, final float maxY, final float maxZ, final List<? super Mesh3D> output) {
+		if(minX > maxX || minY > maxY || minZ > maxZ) throw new IllegalArgumentException("Box minimum must not be larger than its maximum!");
+		
+		int count = 0;
+		int top = push(0, root);
+		while(top > 0) {
+			final int node = stack[--top];
+			final int offset = node * 6;
+			
+			if(bounds[offset] > maxX || bounds[offset + 1] > maxY || bounds[offset + 2] > maxZ
+			|| bounds[offset + 3] < minX || bounds[offset + 4] < minY || bounds[offset + 5] < minZ) continue;
+			
+			if(meshes[node] != null) {
+				final Mesh3D mesh = meshes[node];
+				
+				// Closest point of the box to the sphere
+				final float x = Mathf.lock(minX, maxX, mesh.position.getX()) - mesh.position.getX();
+				final float y = Mathf.lock(minY, maxY, mesh.position.getY()) - mesh.position.getY();
+				final float z = Mathf.lock(minZ, maxZ, mesh.position.getZ()) - mesh.position.getZ();
+				final float radius = worldRadius(mesh);
+				
+				if(x * x + y * y + z * z <= radius * radius) {
+					output.add(mesh);
+					count++;
+				}
+				continue;
+			}
+			
+			top = push(top, left[node]);
+			top = push(top, right[node]);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Finds the {@code mesh} whose bounding sphere is the closest to the point,
+	 * branches that are further than the best mesh so far are skipped
+	 * 
+	 * @return
+	 * - {@code Closest mesh}; {@code null} if this tree is empty
+	 */
+	public Mesh3D nearest(final float x, final float y, final float z) {
+		Mesh3D nearest = null;
+		float best = Float.POSITIVE_INFINITY;
+		
+		int top = push(0, root);
+		while(top > 0) {
+			final int node = stack[--top];
+			
+			if(boxDistanceSquared(node, x, y, z) >= best * best) continue;
+			
+			if(meshes[node] != null) {
+				final Mesh3D mesh = meshes[node];
+				final float dx = mesh.position.getX() - x, dy = mesh.position.getY() - y, dz = mesh.position.getZ() - z;
+				final float distance = Math.max(0.0F, (float)Math.sqrt(dx * dx + dy * dy + dz * dz) - worldRadius(mesh));
+				
+				if(distance < best) {
+					best = distance;
+					nearest = mesh;
+				}
+				continue;
+			}
+			
+			// Closest child is visited first
+			final boolean leftFirst = boxDistanceSquared(left[node], x, y, z) <= boxDistanceSquared(right[node], x, y, z);
+			top = push(top, leftFirst ? right[node] : left[node]);
+			top = push(top, leftFirst ? left[node] : right[node]);
+		}
+		
+		return nearest;
+	}
+	
+	// ******************************************************
+	// Rendering
+	// ******************************************************
+	
+	/**
+	 * Projects the meshes that can be seen, the others are not visited at all
+	 * 
+	 * @see Mesh3D#toScreenCoordinates(List)
+	 */
+	public void toScreenCoordinates() {
+		visibleMeshes.clear();
+		queryFrustum(visibleMeshes);
+		
+		for(final Mesh3D mesh : visibleMeshes) mesh.clean();
+		culledMeshes = Mesh3D.toScreenCoordinates(visibleMeshes);
+	}
+	
+	/**
+	 * Draws the meshes found by the last {@link #toScreenCoordinates()}
+	 */
+	public void draw(final Renderer renderer) {
+		for(final Mesh3D mesh : visibleMeshes) mesh.draw(renderer);
+	}
+	
+	/**
+	 * Fills the meshes found by the last {@link #toScreenCoordinates()}
+	 */
+	public void fill(final Renderer renderer) {
+		for(final Mesh3D mesh : visibleMeshes) mesh.fill(renderer);
+	}
+	
+	// ******************************************************
+	// Getters
+	// ******************************************************
+	
+	/**
+	 * @return
+	 * - {@code Number} of meshes in this tree
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Height} of this tree, {@code 0} for a single mesh and {@code -1} if empty
+	 */
+	public int getHeight() {
+		return root == NULL ? NULL : height[root];
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of meshes found by the last {@link #toScreenCoordinates()}
+	 */
+	public int getVisibleMeshes() {
+		return visibleMeshes.size();
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of meshes found by the last {@link #toScreenCoordinates()} that were
+	 * still skipped, because their own bounds are outside of the screen
+	 */
+	public int getCulledMeshes() {
+		return culledMeshes;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Distance} a mesh can move before its leaf is moved
+	 */
+	public float getMargin() {
+		return margin;
+	}
+	
+	// ******************************************************
+	// Tree
+	// ******************************************************
+	
+	/**
+	 * Moves a {@code leaf} if its mesh has left the box
+	 */
+	private boolean refitLeaf(final int leaf) {
+		updateView(leaf);
+		
+		final Mesh3D mesh = meshes[leaf];
+		final float radius = worldRadius(mesh);
+		final float x = mesh.position.getX(), y = mesh.position.getY(), z = mesh.position.getZ();
+		final int offset = leaf * 6;
+		
+		// Still inside
+		if(x - radius >= bounds[offset] && y - radius >= bounds[offset + 1] && z - radius >= bounds[offset + 2]
+		&& x + radius <= bounds[offset + 3] && y + radius <= bounds[offset + 4] && z + radius <= bounds[offset + 5]) return false;
+		
+		removeLeaf(leaf);
+		fatten(leaf);
+		insertLeaf(leaf);
+		
+		return true;
+	}
+	
+	/**
+	 * Sets the box of a {@code leaf} to the bounds of its mesh grown by the margin
+	 */
+	private void fatten(final int leaf) {
+		final Mesh3D mesh = meshes[leaf];
+		final float radius = worldRadius(mesh) + margin;
+		final int offset = leaf * 6;
+		
+		bounds[offset]     = mesh.position.getX() - radius;
+		bounds[offset + 1] = mesh.position.getY() - radius;
+		bounds[offset + 2] = mesh.position.getZ() - radius;
+		bounds[offset + 3] = mesh.position.getX() + radius;
+		bounds[offset + 4] = mesh.position.getY() + radius;
+		bounds[offset + 5] = mesh.position.getZ() + radius;
+	}
+	
+	/**
+	 * Keeps the meshes that do not share the camera frustum in their own list
+	 */
+	private void updateView(final int leaf) {
+		final Mesh3D mesh = meshes[leaf];
+		final boolean own = mesh.rotation.getY() != 0.0F || mesh.scale.getX() != 1.0F || mesh.scale.getY() != 1.0F;
+		
+		if(own == ownView[leaf]) return;
+		
+		ownView[leaf] = own;
+		if(own) ownViewMeshes.add(mesh);
+		else ownViewMeshes.remove(mesh);
+	}
+	
+	/**
+	 * Inserts a {@code leaf} next to the node that grows the tree the least
+	 */
+	private void insertLeaf(final int leaf) {
+		if(root == NULL) {
+			root = leaf;
+			parent[leaf] = NULL;
+			return;
+		}
+		
+		// Best sibling
+		int index = root;
+		while(meshes[index] == null) {
+			final float area = area(index, index);
+			final float combinedArea = area(index, leaf);
+			
+			// Cost of a new parent here, and what every ancestor pays for it
+			final float cost = 2.0F * combinedArea;
+			final float inheritance = 2.0F * (combinedArea - area);
+			
+			final float costLeft = childCost(left[index], leaf) + inheritance;
+			final float costRight = childCost(right[index], leaf) + inheritance;
+			
+			if(cost < costLeft && cost < costRight) break;
+			
+			index = costLeft < costRight ? left[index] : right[index];
+		}
+		
+		// New parent
+		final int sibling = index;
+		final int oldParent = parent[sibling];
+		final int newParent = allocateNode();
+		parent[newParent] = oldParent;
+		union(newParent, sibling, leaf);
+		height[newParent] = height[sibling] + 1;
+		
+		if(oldParent != NULL) {
+			if(left[oldParent] == sibling) left[oldParent] = newParent;
+			else right[oldParent] = newParent;
+		}
+		else {
+			root = newParent;
+		}
+		
+		left[newParent] = sibling;
+		right[newParent] = leaf;
+		parent[sibling] = newParent;
+		parent[leaf] = newParent;
+		
+		refitAncestors(newParent);
+	}
+	
+	/**
+	 * Removes a {@code leaf}, its sibling takes the place of the parent
+	 */
+	private void removeLeaf(final int leaf) {
+		if(leaf == root) {
+			root = NULL;
+			return;
+		}
+		
+		final int oldParent = parent[leaf];
+		final int grandParent = parent[oldParent];
+		final int sibling = left[oldParent] == leaf ? right[oldParent] : left[oldParent];
+		
+		if(grandParent != NULL) {
+			if(left[grandParent] == oldParent) left[grandParent] = sibling;
+			else right[grandParent] = sibling;
+			
+			parent[sibling] = grandParent;
+			freeNode(oldParent);
+			
+			refitAncestors(grandParent);
+		}
+		else {
+			root = sibling;
+			parent[sibling] = NULL;
+			freeNode(oldParent);
+		}
+	}
+	
+	/**
+	 * Balances and refits every node from {@code index} to the root
+	 */
+	private void refitAncestors(int index) {
+		while(index != NULL) {
+			index = balance(index);
+			
+			height[index] = 1 + Math.max(height[left[index]], height[right[index]]);
+			union(index, left[index], right[index]);
+			
+			index = parent[index];
+		}
+	}
+	
+	/**
+	 * Rotates the higher child of {@code node} up if the children differ by more than one level
+	 * 
+	 * @return
+	 * - {@code Node} that took the place of {@code node}
+	 */
+	private int balance(final int a) {
+		if(meshes[a] != null || height[a] < 2) return a;
+		
+		final int b = left[a], c = right[a];
+		final int balance = height[c] - height[b];
+		
+		// Right child goes up
+		if(balance > 1) {
+			final int f = left[c], g = right[c];
+			
+			left[c] = a;
+			parent[c] = parent[a];
+			parent[a] = c;
+			replaceChild(parent[c], a, c);
+			
+			if(height[f] > height[g]) {
+				right[c] = f;
+				right[a] = g;
+				parent[g] = a;
+				union(a, b, g);
+				union(c, a, f);
+				height[a] = 1 + Math.max(height[b], height[g]);
+				height[c] = 1 + Math.max(height[a], height[f]);
+			}
+			else {
+				right[c] = g;
+				right[a] = f;
+				parent[f] = a;
+				union(a, b, f);
+				union(c, a, g);
+				height[a] = 1 + Math.max(height[b], height[f]);
+				height[c] = 1 + Math.max(height[a], height[g]);
+			}
+			
+			return c;
+		}
+		
+		// Left child goes up
+		if(balance < -1) {
+			final int d = left[b], e = right[b];
+			
+			left[b] = a;
+			parent[b] = parent[a];
+			parent[a] = b;
+			replaceChild(parent[b], a, b);
+			
+			if(height[d] > height[e]) {
+				right[b] = d;
+				left[a] = e;
+				parent[e] = a;
+				union(a, c, e);
+				union(b, a, d);
+				height[a] = 1 + Math.max(height[c], height[e]);
+				height[b] = 1 + Math.max(height[a], height[d]);
+			}
+			else {
+				right[b] = e;
+				left[a] = d;
+				parent[d] = a;
+				union(a, c, d);
+				union(b, a, e);
+				height[a] = 1 + Math.max(height[c], height[d]);
+				height[b] = 1 + Math.max(height[a], height[e]);
+			}
+			
+			return b;
+		}
+		
+		return a;
+	}
+	
+	/**
+	 * Points the parent of a rotated node to the node that took its place
+	 */
+	private void replaceChild(final int node, final int oldChild, final int newChild) {
+		if(node == NULL) {
+			root = newChild;
+			return;
+		}
+		
+		if(left[node] == oldChild) left[node] = newChild;
+		else right[node] = newChild;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Area} added by putting the leaf next to the {@code child}
+	 */
+	private float childCost(final int child, final int leaf) {
+		final float combinedArea = area(child, leaf);
+		
+		return meshes[child] != null ? combinedArea : combinedArea - area(child, child);
+	}
+	
+	/**
+	 * Sets the box of {@code node} to the box around {@code a} and {@code b}
+	 */
+	private void union(final int node, final int a, final int b) {
+		final int offset = node * 6, offsetA = a * 6, offsetB = b * 6;
+		
+		for(int i = 0; i < 3; i++) {
+			bounds[offset + i]     = Math.min(bounds[offsetA + i], bounds[offsetB + i]);
+			bounds[offset + i + 3] = Math.max(bounds[offsetA + i + 3], bounds[offsetB + i + 3]);
+		}
+	}
+	
+	/**
+	 * @return
+	 * - {@code Surface area} of the box around {@code a} and {@code b}
+	 */
+	private float area(final int a, final int b) {
+		final int offsetA = a * 6, offsetB = b * 6;
+		
+		final float x = Math.max(bounds[offsetA + 3], bounds[offsetB + 3]) - Math.min(bounds[offsetA], bounds[offsetB]);
+		final float y = Math.max(bounds[offsetA + 4], bounds[offsetB + 4]) - Math.min(bounds[offsetA + 1], bounds[offsetB + 1]);
+		final float z = Math.max(bounds[offsetA + 5], bounds[offsetB + 5]) - Math.min(bounds[offsetA + 2], bounds[offsetB + 2]);
+		
+		return 2.0F * (x * y + y * z + z * x);
+	}
+	
+	/**
+	 * @return
+	 * - {@code Squared distance} from the point to the box of {@code node}, {@code 0} inside
+	 */
+	private float boxDistanceSquared(final int node, final float x, final float y, final float z) {
+		final int offset = node * 6;
+		
+		final float dx = Math.max(0.0F, Math.max(bounds[offset] - x, x - bounds[offset + 3]));
+		final float dy = Math.max(0.0F, Math.max(bounds[offset + 1] - y, y - bounds[offset + 4]));
+		final float dz = Math.max(0.0F, Math.max(bounds[offset + 2] - z, z - bounds[offset + 5]));
+		
+		return dx * dx + dy * dy + dz * dz;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Radius} of the sphere around the position that contains the mesh for every rotation
+	 */
+	private static float worldRadius(final Mesh3D mesh) {
+		return mesh.boundsCenter.length() + mesh.boundsRadius;
+	}
+	
+	/**
+	 * Tests the box of a {@code node} against the frustum planes in the {@code mask}
+	 * 
+	 * @return
+	 * - {@code Planes} the box is not fully inside of; {@code -1} if it is fully outside of one
+	 */
+	private int testPlanes(final int node, final int mask) {
+		final int offset = node * 6;
+		final float minX = bounds[offset],     minY = bounds[offset + 1], minZ = bounds[offset + 2];
+		final float maxX = bounds[offset + 3], maxY = bounds[offset + 4], maxZ = bounds[offset + 5];
+		
+		int result = 0;
+		for(int plane = 0; plane < 5; plane++) {
+			if((mask & (1 << plane)) == 0) continue;
+			
+			final int planeOffset = plane << 2;
+			final float a = planes[planeOffset], b = planes[planeOffset + 1], c = planes[planeOffset + 2], d = planes[planeOffset + 3];
+			
+			// Corner that is the furthest inside
+			if(a * (a >= 0.0F ? maxX : minX) + b * (b >= 0.0F ? maxY : minY) + c * (c >= 0.0F ? maxZ : minZ) + d < 0.0F) return NULL;
+			
+			// Corner that is the furthest outside
+			if(a * (a >= 0.0F ? minX : maxX) + b * (b >= 0.0F ? minY : maxY) + c * (c >= 0.0F ? minZ : maxZ) + d < 0.0F) result |= 1 << plane;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Pushes a {@code node} and its plane {@code mask} on the query stack, growing it if needed
+	 * 
+	 * @return
+	 * - {@code Size} of the stack
+	 */
+	private int push(final int top, final int node, final int mask) {
+		if(node == NULL) return top;
+		
+		if(top == stack.length) {
+			stack = Arrays.copyOf(stack, top << 1);
+			planeMasks = Arrays.copyOf(planeMasks, top << 1);
+		}
+		stack[top] = node;
+		planeMasks[top] = mask;
+		
+		return top + 1;
+	}
+	
+	/**
+	 * Pushes a {@code node} on the query stack, growing it if needed
+	 * 
+	 * @return
+	 * - {@code Size} of the stack
+	 */
+	private int push(final int top, final int node) {
+		if(node == NULL) return top;
+		
+		if(top == stack.length) {
+			stack = Arrays.copyOf(stack, top << 1);
+			planeMasks = Arrays.copyOf(planeMasks, top << 1);
+		}
+		stack[top] = node;
+		
+		return top + 1;
+	}
+	
+	/**
+	 * Builds the view and projection of the camera the same way {@link Mesh3D} does
+	 * for a mesh without rotation
+	 */
+	private void updateFrustum() {
+		final int width = Engine.get().getWidth();
+		final int height = Engine.get().getHeight();
+		
+		// The projection only changes with the field of view or the size of the screen
+		if(projectionMatrix == null || projectionFOV != Camera.FOV || projectionWidth != width || projectionHeight != height) {
+			projectionMatrix = new ProjectionMatrix(Camera.FOV);
+			projectionFOV = Camera.FOV;
+			projectionWidth = width;
+			projectionHeight = height;
+		}
+		
+		rotationMatrixY.setTheta(Camera.get().rotation.getY());
+		Mesh3D.buildViewMatrix(rotationMatrixY, pointAtMatrix, viewMatrix);
+		Mathf.multiplyMatrix(viewMatrix, projectionMatrix, viewProjectionMatrix);
+		
+		// Planes in world space
+		clipper.transformPlanes(viewProjectionMatrix, planes);
+	}
+	
+	// ******************************************************
+	// Nodes
+	// ******************************************************
+	
+	/**
+	 * Creates empty node arrays, every node is free
+	 */
+	private void allocate(final int newCapacity) {
+		bounds = new float[newCapacity * 6];
+		parent = new int[newCapacity];
+		left = new int[newCapacity];
+		right = new int[newCapacity];
+		height = new int[newCapacity];
+		meshes = new Mesh3D[newCapacity];
+		ownView = new boolean[newCapacity];
+		capacity = newCapacity;
+		
+		freeList = NULL;
+		for(int node = newCapacity - 1; node >= 0; node--) freeNode(node);
+	}
+	
+	/**
+	 * @return
+	 * - {@code Free node}, the arrays are grown if there is none
+	 */
+	private int allocateNode() {
+		if(freeList == NULL) {
+			final int oldCapacity = capacity;
+			final int newCapacity = oldCapacity << 1;
+			
+			bounds = Arrays.copyOf(bounds, newCapacity * 6);
+			parent = Arrays.copyOf(parent, newCapacity);
+			left = Arrays.copyOf(left, newCapacity);
+			right = Arrays.copyOf(right, newCapacity);
+			height = Arrays.copyOf(height, newCapacity);
+			meshes = Arrays.copyOf(meshes, newCapacity);
+			ownView = Arrays.copyOf(ownView, newCapacity);
+			capacity = newCapacity;
+			
+			for(int node = newCapacity - 1; node >= oldCapacity; node--) freeNode(node);
+		}
+		
+		final int node = freeList;
+		freeList = parent[node];
+		
+		parent[node] = NULL;
+		left[node] = NULL;
+		right[node] = NULL;
+		height[node] = 0;
+		
+		return node;
+	}
+	
+	/**
+	 * Puts a {@code node} back in the free list, the free list is linked through {@code parent}
+	 */
+	private void freeNode(final int node) {
+		parent[node] = freeList;
+		meshes[node] = null;
+		ownView[node] = false;
+		height[node] = NULL;
+		freeList = node;
+	}
+}
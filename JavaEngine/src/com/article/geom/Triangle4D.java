@@ -1,117 +1,195 @@
-package com.article.geom;
-
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.Polygon;
-
-import com.article.math.Vec4F;
-
-/**
- * A {@code Triangle} object that could be projected in a 3D space,
- * this {@code Triangle} holds {@link Vec4F} instead of {@link Vec3F}
- */
-public class Triangle4D {
-	// Vertices
-	public final Vec4F pointA;
-	public final Vec4F pointB;
-	public final Vec4F pointC;
-	
-	// Color of this rectangle
-	public Color color;
-	
-	/**
-	 * @param pointA
-	 * - {@code Point A}
-	 * 
-	 * @param pointB
-	 * - {@code Point B}
-	 * 
-	 * @param pointC
-	 * - {@code Point C}
-	 */
-	public Triangle4D(final Vec4F pointA, final Vec4F pointB, final Vec4F pointC) {
-		this.pointA = pointA;
-		this.pointB = pointB;
-		this.pointC = pointC;
-		
-		// Default Color
-		color = Color.WHITE;
-	}
-	
-	/**
-	 * Draws the {@code triangle} by drawing its {@code 3 sides}
-	 * 
-	 * @param g
-	 * - {@code Graphics2D} to draw
-	 */
-	public void drawLine(final Graphics2D g) {
-		g.setColor(color);
-		
-		g.drawLine((int)pointA.getX(), (int)pointA.getY(), 
-				   (int)pointB.getX(), (int)pointB.getY());
-		
-		g.drawLine((int)pointB.getX(), (int)pointB.getY(), 
-				   (int)pointC.getX(), (int)pointC.getY());
-		
-		g.drawLine((int)pointC.getX(), (int)pointC.getY(), 
-				   (int)pointA.getX(), (int)pointA.getY());
-	}
-	
-	/**
-	 * Draws the {@code triangle} by drawing its {@code 3 sides}
-	 * 
-	 * @param g
-	 * - {@code Graphics2D} to draw
-	 */
-	public void fill(final Graphics2D g) {
-		g.setColor(color);
-		
-		g.fill(new Polygon(
-					new int[] { (int)pointA.getX(), (int)pointB.getX(), (int)pointC.getX() },
-					new int[] { (int)pointA.getY(), (int)pointB.getY(), (int)pointC.getY() },
-					3
-				));
-	}
-	
-	/**
-	 * Adds the vector given to all the points
-	 * 
-	 * @param toAdd
-	 * - {@code Vector 4D float} to add
-	 */
-	public void add(final Vec4F toAdd) {
-		pointA.set(pointA.add(toAdd));
-		pointB.set(pointB.add(toAdd));
-		pointC.set(pointC.add(toAdd));
-	}
-	
-	/**
-	 * Multiplies the vector given to all the points
-	 * 
-	 * @param toAdd
-	 * - {@code Vector 4D float} to multiply
-	 */
-	public void multiply(final Vec4F toMultiply) {
-		pointA.set(pointA.multiply(toMultiply));
-		pointB.set(pointB.multiply(toMultiply));
-		pointC.set(pointC.multiply(toMultiply));
-	}
-	
-	/**
-	 * @return
-	 * - Triangle 3D with this' points
-	 */
-	public Triangle3D toTriangle3D() {
-		return new Triangle3D(pointA.toVector3DFloat(), pointB.toVector3DFloat(), pointC.toVector3DFloat());
-	}
-	
-	@Override
-	public Triangle4D clone() {
-		return new Triangle4D(pointA, pointB, pointC);
-	}
-	
-	@Override
-	public String toString() {
-		return pointA + " , " + pointB + " , " + pointC;
-	}
+package com.article.geom;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+
+import com.article.gfx.Renderer;
+import com.article.math.Vec4F;
+
+/**
+ * A {@code Triangle} object that could be projected in a 3D space,
+ * this {@code Triangle} holds {@link Vec4F} instead of {@link Vec3F}
+ */
+public class Triangle4D {
+	// Vertices
+	public final Vec4F pointA;
+	public final Vec4F pointB;
+	public final Vec4F pointC;
+	
+	// Color of this rectangle
+	// The packed color is the only value, the Color object is made from it when Graphics2D needs one
+	private int argb;
+	private Color color;
+	
+	/**
+	 * @param pointA
+	 * - {@code Point A}
+	 * 
+	 * @param pointB
+	 * - {@code Point B}
+	 * 
+	 * @param pointC
+	 * - {@code Point C}
+	 */
+	public Triangle4D(final Vec4F pointA, final Vec4F pointB, final Vec4F pointC) {
+		this.pointA = pointA;
+		this.pointB = pointB;
+		this.pointC = pointC;
+		
+		// Default Color
+		setColor(Color.WHITE);
+	}
+	
+	/**
+	 * @return
+	 * - {@code Color} of this triangle, made from the packed color if needed
+	 */
+	public Color getColor() {
+		if(color == null) color = new Color(argb, true);
+		
+		return color;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Color} of this triangle, packed {@code ARGB}
+	 */
+	public int getARGB() {
+		return argb;
+	}
+	
+	/**
+	 * Sets the {@code color} of this triangle
+	 * 
+	 * @param newColor
+	 * - {@code New} color
+	 */
+	public void setColor(final Color newColor) {
+		argb = newColor.getRGB();
+		color = newColor;
+	}
+	
+	/**
+	 * Sets the {@code color} of this triangle without creating a {@code Color} object
+	 * 
+	 * @param newColor
+	 * - {@code New} color, packed {@code ARGB}
+	 */
+	public void setColor(final int newColor) {
+		argb = newColor;
+		
+		// Made again when it is asked for
+		color = null;
+	}
+	
+	/**
+	 * Draws the {@code triangle} by drawing its {@code 3 sides}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void drawLine(final Graphics2D g) {
+		g.setColor(getColor());
+		
+		g.drawLine((int)pointA.getX(), (int)pointA.getY(), 
+				   (int)pointB.getX(), (int)pointB.getY());
+		
+		g.drawLine((int)pointB.getX(), (int)pointB.getY(), 
+				   (int)pointC.getX(), (int)pointC.getY());
+		
+		g.drawLine((int)pointC.getX(), (int)pointC.getY(), 
+				   (int)pointA.getX(), (int)pointA.getY());
+	}
+	
+	/**
+	 * Draws the {@code triangle} by drawing its {@code 3 sides}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void fill(final Graphics2D g) {
+		g.setColor(getColor());
+		
+		g.fill(new Polygon(
+					new int[] { (int)pointA.getX(), (int)pointB.getX(), (int)pointC.getX() },
+					new int[] { (int)pointA.getY(), (int)pointB.getY(), (int)pointC.getY() },
+					3
+				));
+	}
+	
+	/**
+	 * Fills the {@code triangle} directly into the pixels of the {@code renderer},
+	 * {@code z} of every point is used for the depth test
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void fill(final Renderer renderer) {
+		renderer.fillTriangle(pointA.getX(), pointA.getY(), pointA.getZ(),
+							  pointB.getX(), pointB.getY(), pointB.getZ(),
+							  pointC.getX(), pointC.getY(), pointC.getZ(), argb);
+	}
+	
+	/**
+	 * Draws the {@code triangle} by drawing its {@code 3 sides} into the {@code renderer},
+	 * {@code z} of every point is used for the depth test
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void drawLine(final Renderer renderer) {
+		final int rgb = argb;
+		
+		renderer.drawLine((int)pointA.getX(), (int)pointA.getY(), pointA.getZ(), 
+						  (int)pointB.getX(), (int)pointB.getY(), pointB.getZ(), rgb);
+		
+		renderer.drawLine((int)pointB.getX(), (int)pointB.getY(), pointB.getZ(), 
+						  (int)pointC.getX(), (int)pointC.getY(), pointC.getZ(), rgb);
+		
+		renderer.drawLine((int)pointC.getX(), (int)pointC.getY(), pointC.getZ(), 
+						  (int)pointA.getX(), (int)pointA.getY(), pointA.getZ(), rgb);
+	}
+	
+	/**
+	 * Adds the vector given to all the points
+	 * 
+	 * @param toAdd
+	 * - {@code Vector 4D float} to add
+	 */
+	public void add(final Vec4F toAdd) {
+		pointA.addLocal(toAdd);
+		pointB.addLocal(toAdd);
+		pointC.addLocal(toAdd);
+	}
+	
+	/**
+	 * Multiplies the vector given to all the points
+	 * 
+	 * @param toAdd
+	 * - {@code Vector 4D float} to multiply
+	 */
+	public void multiply(final Vec4F toMultiply) {
+		pointA.multiplyLocal(toMultiply);
+		pointB.multiplyLocal(toMultiply);
+		pointC.multiplyLocal(toMultiply);
+	}
+	
+	/**
+	 * @return
+	 * - Triangle 3D with this' points
+	 */
+	public Triangle3D toTriangle3D() {
+		return new Triangle3D(pointA.toVector3DFloat(), pointB.toVector3DFloat(), pointC.toVector3DFloat());
+	}
+	
+	@Override
+	public Triangle4D clone() {
+		return new Triangle4D(pointA, pointB, pointC);
+	}
+	
+	@Override
+	public String toString() {
+		return pointA + " , " + pointB + " , " + pointC;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.article.geom;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+import com.article.gfx.Renderer;
+
+/**
+ * A growable list of projected {@code triangles} stored in flat arrays, every triangle
+ * takes 9 floats [x1, y1, z1, x2, y2, z2, x3, y3, z3] and a packed {@code ARGB} color
+ * <br>
+ * <br>
+ * Clearing keeps the arrays, so once the buffer has grown to the size of a frame
+ * no more objects are created
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ * 
+ * @see Mesh3D#setPackedStorage(boolean)
+ */
+public final class TriangleBuffer {
+	private float[] points;
+	private int[] colors;
+	private int size;
+	
+	// Graphics2D outlines
+	private final int[] polygonX = new int[3];
+	private final int[] polygonY = new int[3];
+	
+	/**
+	 * @param capacity
+	 * - Number of {@code triangles} before the buffer grows
+	 */
+	public TriangleBuffer(final int capacity) {
+		points = new float[Math.max(capacity, 1) * 9];
+		colors = new int[Math.max(capacity, 1)];
+	}
+	
+	/**
+	 * @see #TriangleBuffer(int)
+	 */
+	public TriangleBuffer() {
+		this(64);
+	}
+	
+	/**
+	 * Adds a {@code triangle} at the end of the buffer
+	 * 
+	 * @param color
+	 * - Packed {@code ARGB} color
+	 */
+	public void add(final float ax, final float ay, final float az,
+					final float bx, final float by, final float bz,
+					final float cx, final float cy, final float cz, final int color) {
+		if(size == colors.length) ensureCapacity(size << 1);
+		
+		final int offset = size * 9;
+		points[offset]     = ax; points[offset + 1] = ay; points[offset + 2] = az;
+		points[offset + 3] = bx; points[offset + 4] = by; points[offset + 5] = bz;
+		points[offset + 6] = cx; points[offset + 7] = cy; points[offset + 8] = cz;
+		colors[size++] = color;
+	}
+	
+	/**
+	 * Adds every {@code triangle} of another buffer at the end of this buffer
+	 * 
+	 * @param buffer
+	 * - {@code Buffer} to copy the triangles from
+	 */
+	public void addAll(final TriangleBuffer buffer) {
+		ensureCapacity(Math.max(size + buffer.size, size << 1));
+		
+		System.arraycopy(buffer.points, 0, points, size * 9, buffer.size * 9);
+		System.arraycopy(buffer.colors, 0, colors, size, buffer.size);
+		size += buffer.size;
+	}
+	
+	/**
+	 * Makes sure the buffer can hold {@code capacity} triangles without growing
+	 * 
+	 * @param capacity
+	 * - Number of {@code triangles}
+	 */
+	public void ensureCapacity(final int capacity) {
+		if(capacity <= colors.length) return;
+		
+		points = Arrays.copyOf(points, capacity * 9);
+		colors = Arrays.copyOf(colors, capacity);
+	}
+	
+	/**
+	 * Removes every {@code triangle}, the arrays are kept
+	 */
+	public void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * Brings back the triangles removed by the last {@link #clear()}, the
+	 * arrays still hold them as long as nothing has been added since
+	 * 
+	 * @param size
+	 * - {@code Number} of triangles before clearing
+	 */
+	void restore(final int size) {
+		this.size = size;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of triangles
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @param triangle
+	 * - Index of the {@code triangle}
+	 * 
+	 * @param point
+	 * - Index of the {@code point}, from 0 to 2
+	 * 
+	 * @return
+	 * - {@code x} of the point
+	 */
+	public float getX(final int triangle, final int point) {
+		return points[triangle * 9 + point * 3];
+	}
+	
+	/**
+	 * @param triangle
+	 * - Index of the {@code triangle}
+	 * 
+	 * @param point
+	 * - Index of the {@code point}, from 0 to 2
+	 * 
+	 * @return
+	 * - {@code y} of the point
+	 */
+	public float getY(final int triangle, final int point) {
+		return points[triangle * 9 + point * 3 + 1];
+	}
+	
+	/**
+	 * @param triangle
+	 * - Index of the {@code triangle}
+	 * 
+	 * @param point
+	 * - Index of the {@code point}, from 0 to 2
+	 * 
+	 * @return
+	 * - {@code z} of the point
+	 */
+	public float getZ(final int triangle, final int point) {
+		return points[triangle * 9 + point * 3 + 2];
+	}
+	
+	/**
+	 * @param triangle
+	 * - Index of the {@code triangle}
+	 * 
+	 * @return
+	 * - Packed {@code ARGB} color of the triangle
+	 */
+	public int getColor(final int triangle) {
+		return colors[triangle];
+	}
+	
+	/**
+	 * Fills every {@code triangle} into the {@code renderer}, {@code z} is used for the depth test
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void fill(final Renderer renderer) {
+		for(int i = 0, offset = 0; i < size; i++, offset += 9)
+			renderer.fillTriangle(points[offset],     points[offset + 1], points[offset + 2],
+								  points[offset + 3], points[offset + 4], points[offset + 5],
+								  points[offset + 6], points[offset + 7], points[offset + 8], colors[i]);
+	}
+	
+	/**
+	 * Draws the {@code 3 sides} of every triangle into the {@code renderer},
+	 * {@code z} is used for the depth test
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to draw
+	 */
+	public void draw(final Renderer renderer) {
+		for(int i = 0, offset = 0; i < size; i++, offset += 9) {
+			final int ax = (int)points[offset],     ay = (int)points[offset + 1];
+			final int bx = (int)points[offset + 3], by = (int)points[offset + 4];
+			final int cx = (int)points[offset + 6], cy = (int)points[offset + 7];
+			final float az = points[offset + 2], bz = points[offset + 5], cz = points[offset + 8];
+			
+			renderer.drawLine(ax, ay, az, bx, by, bz, colors[i]);
+			renderer.drawLine(bx, by, bz, cx, cy, cz, colors[i]);
+			renderer.drawLine(cx, cy, cz, ax, ay, az, colors[i]);
+		}
+	}
+	
+	/**
+	 * Fills every {@code triangle} through {@code Graphics2D}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void fill(final Graphics2D g) {
+		for(int i = 0, offset = 0; i < size; i++, offset += 9) {
+			setColor(g, colors[i]);
+			
+			polygonX[0] = (int)points[offset];     polygonY[0] = (int)points[offset + 1];
+			polygonX[1] = (int)points[offset + 3]; polygonY[1] = (int)points[offset + 4];
+			polygonX[2] = (int)points[offset + 6]; polygonY[2] = (int)points[offset + 7];
+			g.fillPolygon(polygonX, polygonY, 3);
+		}
+	}
+	
+	/**
+	 * Draws the {@code 3 sides} of every triangle through {@code Graphics2D}
+	 * 
+	 * @param g
+	 * - {@code Graphics2D} to draw
+	 */
+	public void draw(final Graphics2D g) {
+		for(int i = 0, offset = 0; i < size; i++, offset += 9) {
+			setColor(g, colors[i]);
+			
+			polygonX[0] = (int)points[offset];     polygonY[0] = (int)points[offset + 1];
+			polygonX[1] = (int)points[offset + 3]; polygonY[1] = (int)points[offset + 4];
+			polygonX[2] = (int)points[offset + 6]; polygonY[2] = (int)points[offset + 7];
+			g.drawPolygon(polygonX, polygonY, 3);
+		}
+	}
+	
+	/**
+	 * Only creates a {@code Color} when it changes
+	 */
+	private static void setColor(final Graphics2D g, final int argb) {
+		if(g.getColor().getRGB() != argb) g.setColor(new Color(argb, true));
+	}
+}
@@ -0,0 +1,175 @@
+package com.article.gfx;
+
+/**
+ * A list of {@code rectangles} that covers every pixel that has been changed,
+ * the number of rectangles is bounded... once the limit is reached, a new
+ * rectangle is merged into the one that grows the least
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ */
+final class DirtyRegion {
+	// Rectangles [minX, minY, maxX, maxY] each, max is exclusive
+	private int[] rectangles;
+	private int size;
+	
+	private int maxRectangles;
+	
+	/**
+	 * @param maxRectangles
+	 * - Maximum number of {@code rectangles} before merging
+	 */
+	DirtyRegion(final int maxRectangles) {
+		setMaxRectangles(maxRectangles);
+	}
+	
+	/**
+	 * Adds a {@code rectangle}, merging it if there are too many rectangles
+	 * 
+	 * @param minX
+	 * - Left side
+	 * 
+	 * @param minY
+	 * - Top side
+	 * 
+	 * @param maxX
+	 * - Right side, exclusive
+	 * 
+	 * @param maxY
+	 * - Bottom side, exclusive
+	 */
+	void add(final int minX, final int minY, final int maxX, final int maxY) {
+		// Empty rectangle
+		if(minX >= maxX || minY >= maxY) return;
+		
+		// Already covered, or room left
+		int best = -1;
+		long bestGrowth = Long.MAX_VALUE;
+		for(int i = 0; i < size; i++) {
+			final int offset = i << 2;
+			final int rectMinX = rectangles[offset],     rectMinY = rectangles[offset + 1];
+			final int rectMaxX = rectangles[offset + 2], rectMaxY = rectangles[offset + 3];
+			
+			if(minX >= rectMinX && minY >= rectMinY && maxX <= rectMaxX && maxY <= rectMaxY) return;
+			
+			if(size < maxRectangles) continue;
+			
+			// Area added by merging the two rectangles
+			final long growth = area(Math.min(minX, rectMinX), Math.min(minY, rectMinY), Math.max(maxX, rectMaxX), Math.max(maxY, rectMaxY))
+							  - area(rectMinX, rectMinY, rectMaxX, rectMaxY);
+			if(growth < bestGrowth) {
+				bestGrowth = growth;
+				best = i;
+			}
+		}
+		
+		// Merge
+		if(best != -1) {
+			final int offset = best << 2;
+			rectangles[offset]     = Math.min(rectangles[offset], minX);
+			rectangles[offset + 1] = Math.min(rectangles[offset + 1], minY);
+			rectangles[offset + 2] = Math.max(rectangles[offset + 2], maxX);
+			rectangles[offset + 3] = Math.max(rectangles[offset + 3], maxY);
+			return;
+		}
+		
+		final int offset = size << 2;
+		rectangles[offset]     = minX;
+		rectangles[offset + 1] = minY;
+		rectangles[offset + 2] = maxX;
+		rectangles[offset + 3] = maxY;
+		size++;
+	}
+	
+	/**
+	 * Adds every {@code rectangle} of another region
+	 * 
+	 * @param region
+	 * - {@code Region} to add
+	 */
+	void add(final DirtyRegion region) {
+		for(int i = 0; i < region.size; i++) {
+			final int offset = i << 2;
+			add(region.rectangles[offset], region.rectangles[offset + 1], region.rectangles[offset + 2], region.rectangles[offset + 3]);
+		}
+	}
+	
+	/**
+	 * Removes every {@code rectangle}
+	 */
+	void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * @return
+	 * - Number of {@code rectangles}
+	 */
+	int size() {
+		return size;
+	}
+	
+	/**
+	 * @return
+	 * - Left side of the {@code rectangle}
+	 */
+	int getMinX(final int index) {
+		return rectangles[index << 2];
+	}
+	
+	/**
+	 * @return
+	 * - Top side of the {@code rectangle}
+	 */
+	int getMinY(final int index) {
+		return rectangles[(index << 2) + 1];
+	}
+	
+	/**
+	 * @return
+	 * - Right side of the {@code rectangle}, exclusive
+	 */
+	int getMaxX(final int index) {
+		return rectangles[(index << 2) + 2];
+	}
+	
+	/**
+	 * @return
+	 * - Bottom side of the {@code rectangle}, exclusive
+	 */
+	int getMaxY(final int index) {
+		return rectangles[(index << 2) + 3];
+	}
+	
+	/**
+	 * Sets the maximum number of {@code rectangles}, existing
+	 * rectangles are merged if there are too many
+	 * 
+	 * @param newMaxRectangles
+	 * - New maximum, must be at least 1
+	 */
+	void setMaxRectangles(final int newMaxRectangles) {
+		if(newMaxRectangles < 1) throw new IllegalArgumentException("Maximum rectangles must be at least 1!");
+		
+		final int[] oldRectangles = rectangles;
+		final int oldSize = size;
+		
+		maxRectangles = newMaxRectangles;
+		rectangles = new int[newMaxRectangles << 2];
+		size = 0;
+		
+		// Add them back
+		for(int i = 0; i < oldSize; i++) {
+			final int offset = i << 2;
+			add(oldRectangles[offset], oldRectangles[offset + 1], oldRectangles[offset + 2], oldRectangles[offset + 3]);
+		}
+	}
+	
+	/**
+	 * @return
+	 * - Area of the {@code rectangle}
+	 */
+	private static long area(final int minX, final int minY, final int maxX, final int maxY) {
+		return (long)(maxX - minX) * (maxY - minY);
+	}
+}
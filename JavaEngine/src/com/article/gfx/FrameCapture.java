@@ -0,0 +1,260 @@
+package com.article.gfx;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@code FrameCapture} records the frames of a {@link Renderer} without slowing the
+ * engine down... every captured frame is copied into a pooled buffer and handed to
+ * background threads that pass it to a {@link FrameWriter}
+ * <br>
+ * <br>
+ * The pool has a fixed number of buffers, once every buffer is waiting for a writer
+ * new frames are either dropped or wait for a free buffer, see {@link Backpressure}
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ * 
+ * @see Renderer#setCapture(FrameCapture)
+ */
+public final class FrameCapture {
+	/**
+	 * What happens to a frame when every buffer is in use
+	 */
+	public static enum Backpressure {
+		/**
+		 * The frame is skipped, the engine is never slowed down
+		 */
+		DROP,
+		
+		/**
+		 * The engine waits for a free buffer, no frame is lost
+		 */
+		BLOCK
+	}
+	
+	// Pooled pixel buffer
+	private static final class Frame {
+		private final int[] pixels;
+		private long index;
+		
+		private Frame(final int size) {
+			pixels = new int[size];
+		}
+	}
+	
+	// Tells a writer thread to stop
+	private static final Frame END = new Frame(0);
+	
+	private final int width, height;
+	private final FrameWriter writer;
+	private final Backpressure backpressure;
+	
+	private final BlockingQueue<Frame> free;
+	private final BlockingQueue<Frame> pending;
+	private final Thread[] threads;
+	
+	private long frameIndex = 0;
+	private volatile long droppedFrames = 0;
+	private volatile IOException error;
+	private boolean closed = false;
+	
+	/**
+	 * Creates a {@code FrameCapture} with a single writer thread
+	 * 
+	 * @param width
+	 * - Width of the frames
+	 * 
+	 * @param height
+	 * - Height of the frames
+	 * 
+	 * @param writer
+	 * - {@code Writer} to pass the frames to
+	 * 
+	 * @param bufferCount
+	 * - Number of pooled buffers, at least 1
+	 * 
+	 * @param backpressure
+	 * - What to do when every buffer is in use
+	 */
+	public FrameCapture(final int width, final int height, final FrameWriter writer, final int bufferCount, final Backpressure backpressure) {
+		this(width, height, writer, bufferCount, 1, backpressure);
+	}
+	
+	/**
+	 * @param width
+	 * - Width of the frames
+	 * 
+	 * @param height
+	 * - Height of the frames
+	 * 
+	 * @param writer
+	 * - {@code Writer} to pass the frames to
+	 * 
+	 * @param bufferCount
+	 * - Number of pooled buffers, at least 1
+	 * 
+	 * @param threadCount
+	 * - Number of writer threads, at least 1... frames are only written in order with a single thread
+	 * 
+	 * @param backpressure
+	 * - What to do when every buffer is in use
+	 */
+	public FrameCapture(final int width, final int height, final FrameWriter writer, final int bufferCount, final int threadCount, final Backpressure backpressure) {
+		if(width < 1 || height < 1) throw new IllegalArgumentException("Frame size must be positive!");
+		if(bufferCount < 1) throw new IllegalArgumentException("Buffer count must be at least 1!");
+		if(threadCount < 1) throw new IllegalArgumentException("Thread count must be at least 1!");
+		
+		this.width = width;
+		this.height = height;
+		this.writer = writer;
+		this.backpressure = backpressure;
+		
+		// Every buffer is allocated up front
+		free = new ArrayBlockingQueue<>(bufferCount);
+		pending = new ArrayBlockingQueue<>(bufferCount + threadCount);
+		for(int i = 0; i < bufferCount; i++)
+			free.add(new Frame(width * height));
+		
+		threads = new Thread[threadCount];
+		for(int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(this::write, "Frame Capture " + i);
+			threads[i].setDaemon(true);
+			threads[i].start();
+		}
+	}
+	
+	/**
+	 * Copies the pixels of the {@code renderer} into a free buffer and queues it for
+	 * the writers, the frame is dropped if there is no free buffer and the policy is {@link Backpressure#DROP}
+	 * 
+	 * @param renderer
+	 * - {@code Renderer} to capture, must have the size of the capture
+	 * 
+	 * @return
+	 * - {@code true} if the frame has been queued; {@code false} if it has been dropped
+	 */
+	public boolean capture(final Renderer renderer) {
+		if(closed) throw new IllegalStateException("Capture has been closed!");
+		if(renderer.getWidth() != width || renderer.getHeight() != height)
+			throw new IllegalArgumentException("Renderer size does not match the capture size!");
+		
+		// Dropped frames still take an index, so they leave a gap
+		final long index = frameIndex++;
+		
+		Frame frame = free.poll();
+		if(frame == null && backpressure == Backpressure.BLOCK) {
+			try {
+				frame = free.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		if(frame == null) {
+			droppedFrames++;
+			return false;
+		}
+		
+		renderer.copyPixels(frame.pixels);
+		frame.index = index;
+		pending.add(frame);
+		
+		return true;
+	}
+	
+	/**
+	 * Writer thread loop
+	 */
+	private void write() {
+		while(true) {
+			final Frame frame;
+			try {
+				frame = pending.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			
+			if(frame == END) return;
+			
+			// Once a write has failed, the rest of the frames are only returned to the pool
+			try {
+				if(error == null) writer.write(frame.pixels, width, height, frame.index);
+			} catch (IOException e) {
+				error = e;
+			} catch (RuntimeException e) {
+				error = new IOException("Writing frame " + frame.index + " has failed!", e);
+			} finally {
+				// Never lost, a blocked capture() waits for it
+				free.add(frame);
+			}
+		}
+	}
+	
+	/**
+	 * Waits for every queued frame to be written, stops the writer threads and closes the {@code writer}...
+	 * an interrupt does not stop the wait, the writer is only closed once no thread uses it anymore
+	 * 
+	 * @throws IOException
+	 * - If writing a frame or closing the writer has failed
+	 */
+	public void close() throws IOException {
+		if(closed) return;
+		closed = true;
+		
+		// Queued after every pending frame
+		for(int i = 0; i < threads.length; i++)
+			pending.add(END);
+		
+		boolean interrupted = false;
+		for(final Thread thread : threads) {
+			while(thread.isAlive()) {
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		
+		// Restored for the caller
+		if(interrupted) Thread.currentThread().interrupt();
+		
+		writer.close();
+		
+		if(error != null) throw error;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of frames that have been dropped
+	 */
+	public long getDroppedFrames() {
+		return droppedFrames;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of frames that have been captured or dropped
+	 */
+	public long getFrameCount() {
+		return frameIndex;
+	}
+	
+	/**
+	 * @return
+	 * - First {@code error} of the writer, {@code null} if there is none
+	 */
+	public IOException getError() {
+		return error;
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the capture has been closed; {@code false} otherwise
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+}
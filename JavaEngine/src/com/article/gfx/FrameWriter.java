@@ -0,0 +1,42 @@
+package com.article.gfx;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * {@code FrameWriter} outputs captured frames, it is called from the
+ * background threads of a {@link FrameCapture}... never from the engine thread
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ * 
+ * @see RawFrameWriter
+ * @see PngSequenceWriter
+ */
+public interface FrameWriter extends Closeable {
+	/**
+	 * Writes a single frame, the {@code pixels} array is reused
+	 * for other frames once this returns
+	 * 
+	 * @param pixels
+	 * - {@code ARGB} pixels of the frame, row by row
+	 * 
+	 * @param width
+	 * - Width of the frame
+	 * 
+	 * @param height
+	 * - Height of the frame
+	 * 
+	 * @param frameIndex
+	 * - Index of the frame, frames that have been dropped leave a gap
+	 * 
+	 * @throws IOException
+	 */
+	public void write(final int[] pixels, final int width, final int height, final long frameIndex) throws IOException;
+	
+	/**
+	 * Called once after the last frame has been written
+	 */
+	@Override
+	public default void close() throws IOException {}
+}
@@ -0,0 +1,46 @@
+package com.article.gfx;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Writes every frame into its own {@code PNG} file, files are named
+ * after the prefix and the index of the frame ({@code prefix000042.png})
+ * <br>
+ * Frames do not depend on each other, so a {@link FrameCapture} may
+ * use several writer threads to keep up with encoding
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ */
+public class PngSequenceWriter implements FrameWriter {
+	private final File directory;
+	private final String prefix;
+	
+	/**
+	 * @param directory
+	 * - {@code Directory} to write the files to, created if needed
+	 * 
+	 * @param prefix
+	 * - {@code Prefix} of every file name
+	 */
+	public PngSequenceWriter(final File directory, final String prefix) {
+		this.directory = directory;
+		this.prefix = prefix;
+		
+		directory.mkdirs();
+	}
+	
+	@Override
+	public void write(final int[] pixels, final int width, final int height, final long frameIndex) throws IOException {
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		image.setRGB(0, 0, width, height, pixels, 0, width);
+		
+		final File file = new File(directory, String.format("%s%06d.png", prefix, frameIndex));
+		if(!ImageIO.write(image, "png", file))
+			throw new IOException("No PNG writer available!");
+	}
+}
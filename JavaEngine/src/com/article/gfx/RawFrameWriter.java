@@ -0,0 +1,52 @@
+package com.article.gfx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes every frame as raw {@code ARGB} pixels into a single stream, each pixel
+ * takes 4 bytes in big endian order and frames come one after the other
+ * <br>
+ * Frames must arrive in order, so this should be used by a {@link FrameCapture}
+ * with a single writer thread
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ */
+public class RawFrameWriter implements FrameWriter {
+	private final OutputStream output;
+	
+	// Reused between frames
+	private byte[] bytes = new byte[0];
+	
+	/**
+	 * @param output
+	 * - {@code Stream} to write the frames to, closed with this writer
+	 */
+	public RawFrameWriter(final OutputStream output) {
+		this.output = output;
+	}
+	
+	@Override
+	public void write(final int[] pixels, final int width, final int height, final long frameIndex) throws IOException {
+		if(bytes.length != pixels.length << 2)
+			bytes = new byte[pixels.length << 2];
+		
+		// Big endian ARGB
+		for(int i = 0, j = 0; i < pixels.length; i++, j += 4) {
+			final int pixel = pixels[i];
+			
+			bytes[j]     = (byte)(pixel >>> 24);
+			bytes[j + 1] = (byte)(pixel >>> 16);
+			bytes[j + 2] = (byte)(pixel >>> 8);
+			bytes[j + 3] = (byte)pixel;
+		}
+		
+		output.write(bytes);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		output.close();
+	}
+}
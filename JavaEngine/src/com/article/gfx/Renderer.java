@@ -1,333 +1,1290 @@
-package com.article.gfx;
-
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBufferInt;
-
-import com.article.geom.Triangle3D;
-import com.article.math.Vec2;
-
-/**
- * {@code Renderer} class handles the rendering,
- * this manipulates individual pixels of an {@code image}
- * with a specified size
- * 
- * @since WIP 1.3
- * @version 1.0
- */
-public final class Renderer {
-	private final BufferedImage screen;
-	private final int[] pixels;
-	
-	// Colors
-	private int clearColor = 0xffffffff; // White as default
-	private int color 	   = 0xff000000; // Black as default
-	
-	public Renderer(final int width, final int height) {
-		screen = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-		pixels = ((DataBufferInt)screen.getRaster().getDataBuffer()).getData();
-		
-		// Fill with black
-		fillScreen();
-	}
-	
-	/**
-	 * Fills the {@code screen} with this' {@code color} value
-	 * 
-	 * @see #fillScreen(Color)
-	 * @see #fillScreen(int)
-	 */
-	public void fillScreen() {
-		for(int i = 0; i < pixels.length; i++)
-			pixels[i] = clearColor;
-	}
-	
-	/**
-	 * Fills the {@code screen} with the {@code color} specified
-	 * 
-	 * @param color
-	 * - {@code Fill} color
-	 * 
-	 * @see #fillScreen()
-	 * @see #fillScreen(Color)
-	 */
-	public void fillScreen(final int color) {
-		for(int i = 0; i < pixels.length; i++)
-			pixels[i] = color;
-	}
-	
-	/**
-	 * Fills the {@code screen} with the {@code color} specified
-	 * 
-	 * @param color
-	 * - {@code Fill} color
-	 * 
-	 * @see #fillScreen()
-	 * @see #fillScreen(int)
-	 */
-	public void fillScreen(final Color color) {
-		for(int i = 0; i < pixels.length; i++)
-			pixels[i] = color.getRGB();
-	}
-
-	/**
-	 * Renders the {@code screen} image to the screen
-	 * 
-	 * @param graphics
-	 * - {@code Graphics}, to render the image
-	 */
-	public void render(final Graphics2D graphics) {
-		graphics.drawImage(screen, 0, 0, null);
-	}
-	
-	/**
-	 * Draws a line that goes from {@code line point A} to {@code line point B},
-	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
-	 * 
-	 * @param linePointA
-	 * - Starting {@code point}
-	 * 
-	 * @param linePointB
-	 * - Ending {@code point}
-	 * 
-	 * @param color
-	 * - {@code Color} of the line
-	 * 
-	 * @see #drawLine(Vec2, Vec2)
-	 * @see #drawLine(int, int, int, int, int)
-	 * @see #drawLine(int, int, int, int)
-	 */
-	public void drawLine(final Vec2 linePointA, final Vec2 linePointB, final int color) {
-		// Checks whether linePointA is greater than linePointB
-		final Vec2 pointA = linePointA.getX() < linePointB.getX() ? linePointA : linePointB;
-		final Vec2 pointB = pointA == linePointA ? linePointB : linePointA;
-		
-		// Delta positions (Change in axis)
-		final int deltaX = Math.abs(pointB.getX() - pointA.getX());	// Adjacent side
-		final int deltaY = Math.abs(pointB.getY() - pointA.getY());	// Opposite side
-		
-		// Current y - axis
-		// Set it to first point Y
-		int y = pointA.getY() < pointB.getY() ? pointA.getY() : pointB.getY();
-		
-		// Pixel per row value
-		int yIndex = 0;
-		
-		// Loop through intersected pixels
-		for(int x = pointA.getX(); x < pointB.getX(); x++) {
-			// Render the line
-			// Where is the targeted pixel located in our array
-			final int drawIndex = x + y * screen.getWidth();
-			
-			// Index, out of bounds
-			if(drawIndex >= pixels.length) break;
-			
-			// Increment pixel per row value
-			yIndex += deltaY;
-			
-			// Check whether y index is over or equals the width
-			if(yIndex << 1 >= deltaX) {
-				// Decrement y index
-				yIndex -= deltaX;
-				
-				// Increment to the next pixel row
-				y++;
-			}
-					
-			// Set the pixel
-			pixels[drawIndex] = color;
-		}
-	}
-	
-	/**
-	 * Draws a line that goes from {@code line point A} to {@code line point B},
-	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
-	 * 
-	 * @param linePointA
-	 * - Starting {@code point}
-	 * 
-	 * @param linePointB
-	 * - Ending {@code point}
-	 * 
-	 * @see #drawLine(Vec2, Vec2, int)
-	 * @see #drawLine(int, int, int, int, int)
-	 * @see #drawLine(int, int, int, int)
-	 */
-	public void drawLine(final Vec2 linePointA, final Vec2 linePointB) {
-		drawLine(linePointA, linePointB, color);
-	}
-	
-	/**
-	 * Draws a line that goes from {@code x1 and y1} to {@code x2 and y2},
-	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
-	 * 
-	 * @param x1
-	 * - Starting {@code x}
-	 * 
-	 * @param y1
-	 * - Starting {@code y}
-	 * 
-	 * @param x2
-	 *  Ending {@code x}
-	 * 
-	 * @param y2
-	 * - Ending {@code y}
-	 * 
-	 * @see #drawLine(Vec2, Vec2, int)
-	 * @see #drawLine(Vec2, Vec2)
-	 * @see #drawLine(int, int, int, int)
-	 */
-	public void drawLine(final int x1, final int y1, final int x2, final int y2, final int color) {
-		drawLine(new Vec2(x1, y1), new Vec2(x2, y2), color);
-	}
-	
-	/**
-	 * Draws a line that goes from {@code x1 and y1} to {@code x2 and y2},
-	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
-	 * 
-	 * @param x1
-	 * - Starting {@code x}
-	 * 
-	 * @param y1
-	 * - Starting {@code y}
-	 * 
-	 * @param x2
-	 *  Ending {@code x}
-	 * 
-	 * @param y2
-	 * - Ending {@code y}
-	 * 
-	 * @see #drawLine(Vec2, Vec2, int)
-	 * @see #drawLine(Vec2, Vec2)
-	 * @see #drawLine(int, int, int, int, int)
-	 */
-	public void drawLine(final int x1, final int y1, final int x2, final int y2) {
-		drawLine(new Vec2(x1, y1), new Vec2(x2, y2));
-	}
-	
-	/**
-	 * Draws a triangle by calling 3 {@code drawLine} method
-	 * 
-	 * @param pointA
-	 * - {@code First} point
-	 * 
-	 * @param pointB
-	 * - {@code Second} point
-	 * 
-	 * @param pointC
-	 * - {@code Third} point
-	 * 
-	 * @param color1
-	 * - {@code First} line color
-	 * 
-	 * @param color2
-	 * - {@code Second} line color
-	 * 
-	 * @param color3
-	 * - {@code Third} line color
-	 */
-	public void drawTriangle(final Vec2 pointA, final Vec2 pointB, final Vec2 pointC, final int color1, final int color2, final int color3) {
-		drawLine(pointA, pointB, color1);
-		drawLine(pointB, pointC, color2);
-		drawLine(pointC, pointA, color3);
-	}
-	
-	/**
-	 * Draws a triangle by calling 3 {@code drawLine} method
-	 * 
-	 * @param pointA
-	 * - {@code First} point
-	 * 
-	 * @param pointB
-	 * - {@code Second} point
-	 * 
-	 * @param pointC
-	 * - {@code Third} point
-	 * 
-	 * @param color
-	 * - {@code Triangle} color
-	 */
-	public void drawTriangle(final Vec2 pointA, final Vec2 pointB, final Vec2 pointC, final int color) {
-		drawTriangle(pointA, pointB, pointC, color, color, color);
-	}
-	
-	/**
-	 * Draws a triangle into the screen
-	 * 
-	 * @param triangle
-	 * - {@code Triangle 3D} to render
-	 * 
-	 * @param color1
-	 * - {@code First} line color
-	 * 
-	 * @param color2
-	 * - {@code Second} line color
-	 * 
-	 * @param color3
-	 * - {@code Third} line color
-	 */
-	public void drawTriangle(final Triangle3D triangle, final int color1, final int color2, final int color3) {
-		drawTriangle(triangle.pointA.toVector2D(), triangle.pointB.toVector2D(), triangle.pointC.toVector2D(), color1, color2, color3);
-	}
-	
-	// *****************************************************************************************************
-	// GETTERS AND SETTERS
-	// *****************************************************************************************************
-	
-	/**
-	 * @return
-	 * - Current {@code renderer} color
-	 */
-	public int getColor() {
-		return color;
-	}
-	
-	/**
-	 * Sets a new value to this' {@code color}
-	 * 
-	 * @param newColor
-	 * - {@code Renderer} new color
-	 */
-	public void setColor(final int newColor) {
-		color = newColor;
-	}
-	
-	/**
-	 * Sets a new value to this' {@code color}
-	 * 
-	 * @param newColor
-	 * - {@code Renderer} new color
-	 */
-	public void setColor(final Color newColor) {
-		color = newColor.getRGB();
-	}
-	
-	/**
-	 * @return
-	 * - Current {@code renderer} clear color
-	 */
-	public int getClearColor() {
-		return clearColor;
-	}
-	
-	/**
-	 * Sets a new value to this' {@code clear color}
-	 * 
-	 * @param newColor
-	 * - {@code Renderer} new color
-	 */
-	public void setClearColor(final int newColor) {
-		clearColor = newColor;
-	}
-	
-	/**
-	 * Sets a new value to this' {@code clear color}
-	 * 
-	 * @param newColor
-	 * - {@code Renderer} new color
-	 */
-	public void setClearColor(final Color newColor) {
-		clearColor = newColor.getRGB();
-	}
+package com.article.gfx;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.article.geom.Triangle3D;
+import com.article.math.Mathf;
+import com.article.math.Vec2;
+
+/**
+ * {@code Renderer} class handles the rendering,
+ * this manipulates individual pixels of an {@code image}
+ * with a specified size
+ * 
+ * @since WIP 1.3
+ * @version 1.0
+ */
+public final class Renderer {
+	// Tiled rendering
+	public static final int TILE_SIZE = 64;
+	
+	// Clearing, buffers with at least this many pixels are cleared in parallel
+	private static final int PARALLEL_CLEAR_THRESHOLD = 1 << 20;
+	private static final int CLEAR_CHUNK_SIZE = 1 << 17;
+	
+	private final BufferedImage screen;
+	private final int[] pixels;
+	
+	// Size
+	private final int width;
+	private final int height;
+	
+	// Depth buffer, null if disabled
+	private float[] depth;
+	
+	// Tiled rendering
+	private boolean tiledRendering = false;
+	private int threadCount = Runtime.getRuntime().availableProcessors();
+	private ForkJoinPool pool;
+	
+	// Deferred triangles [x1, y1, z1, x2, y2, z2, x3, y3, z3] per triangle
+	private float[] queuedPoints = new float[9 * 256];
+	private int[] queuedColors = new int[256];
+	private boolean[] queuedDepthTests = new boolean[256];
+	private int queuedTriangles = 0;
+	
+	// Dirty rectangles
+	private boolean dirtyTracking = false;
+	private int maxDirtyRectangles = 32;
+	private final DirtyRegion drawn = new DirtyRegion(maxDirtyRectangles);		// Changed since the last clear
+	private final DirtyRegion cleared = new DirtyRegion(maxDirtyRectangles);	// Cleared but not presented yet
+	private final DirtyRegion presented = new DirtyRegion(maxDirtyRectangles);
+	private DirtyRegion[] presentHistory = { new DirtyRegion(maxDirtyRectangles) };
+	private int presentHistoryIndex = 0;
+	private boolean fullClear = true;
+	private int fullPresents = 1;
+	private int lastClearColor;
+	
+	// Frame capture
+	private FrameCapture capture;
+	
+	// Line clipping output
+	private int clippedX1, clippedY1, clippedX2, clippedY2;
+	private float clippedStart, clippedEnd;
+	
+	// Bins, triangle indices grouped by tile in submission order
+	private final int tilesX;
+	private final int tilesY;
+	private final int[] binStarts;
+	private int[] bins = new int[256];
+	
+	// Colors
+	private int clearColor = 0xffffffff; // White as default
+	private int color 	   = 0xff000000; // Black as default
+	
+	public Renderer(final int width, final int height) {
+		screen = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		pixels = ((DataBufferInt)screen.getRaster().getDataBuffer()).getData();
+		
+		this.width = width;
+		this.height = height;
+		
+		tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+		tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+		binStarts = new int[tilesX * tilesY + 1];
+		
+		// Fill with black
+		fillScreen();
+	}
+	
+	/**
+	 * Fills the {@code screen} with this' {@code color} value,
+	 * the {@code depth buffer} is cleared as well
+	 * 
+	 * @see #fillScreen(Color)
+	 * @see #fillScreen(int)
+	 */
+	public void fillScreen() {
+		fillScreen(clearColor);
+	}
+	
+	/**
+	 * Fills the {@code screen} with the {@code color} specified,
+	 * the {@code depth buffer} is cleared as well in the same pass
+	 * 
+	 * @param color
+	 * - {@code Fill} color
+	 * 
+	 * @see #fillScreen()
+	 * @see #fillScreen(Color)
+	 */
+	public void fillScreen(final int color) {
+		// Everything queued would be covered anyway
+		queuedTriangles = 0;
+		
+		// Only clear what has been drawn since the last clear
+		if(dirtyTracking && !fullClear && color == lastClearColor) {
+			for(int i = 0; i < drawn.size(); i++)
+				clearRectangle(drawn.getMinX(i), drawn.getMinY(i), drawn.getMaxX(i), drawn.getMaxY(i), color);
+		}
+		else {
+			clear(color, true, depth != null);
+			
+			fullClear = false;
+			fullPresents = presentHistory.length;
+			lastClearColor = color;
+		}
+		
+		cleared.add(drawn);
+		drawn.clear();
+	}
+	
+	/**
+	 * Fills the {@code screen} with the {@code color} specified,
+	 * the {@code depth buffer} is cleared as well
+	 * 
+	 * @param color
+	 * - {@code Fill} color
+	 * 
+	 * @see #fillScreen()
+	 * @see #fillScreen(int)
+	 */
+	public void fillScreen(final Color color) {
+		fillScreen(color.getRGB());
+	}
+	
+	/**
+	 * Resets every value of the {@code depth buffer} to the farthest depth,
+	 * does nothing if the {@code depth buffer} is disabled
+	 */
+	public void clearDepth() {
+		flush();
+		
+		if(depth != null)
+			clear(0, false, true);
+	}
+	
+	/**
+	 * Clears the pixels and the depth buffer inside a rectangle
+	 */
+	private void clearRectangle(final int minX, final int minY, final int maxX, final int maxY, final int color) {
+		for(int y = minY; y < maxY; y++) {
+			final int row = y * width;
+			
+			Arrays.fill(pixels, row + minX, row + maxX, color);
+			if(depth != null) Arrays.fill(depth, row + minX, row + maxX, Float.POSITIVE_INFINITY);
+		}
+	}
+	
+	/**
+	 * Clears the pixels and / or the depth buffer, large buffers are
+	 * split into chunks that are cleared in parallel
+	 */
+	private void clear(final int color, final boolean clearPixels, final boolean clearDepth) {
+		if(threadCount > 1 && pixels.length >= PARALLEL_CLEAR_THRESHOLD) {
+			getPool().invoke(new ClearTask(0, pixels.length, color, clearPixels, clearDepth));
+			return;
+		}
+		
+		if(clearPixels) Arrays.fill(pixels, color);
+		if(clearDepth) Arrays.fill(depth, Float.POSITIVE_INFINITY);
+	}
+	
+	/**
+	 * Renders the {@code screen} image to the screen
+	 * 
+	 * @param graphics
+	 * - {@code Graphics}, to render the image
+	 */
+	public void render(final Graphics2D graphics) {
+		flush();
+		
+		if(!dirtyTracking) {
+			graphics.drawImage(screen, 0, 0, null);
+			return;
+		}
+		
+		// Changes of this frame
+		final DirtyRegion changes = presentHistory[presentHistoryIndex];
+		changes.clear();
+		changes.add(cleared);
+		changes.add(drawn);
+		cleared.clear();
+		
+		presentHistoryIndex = (presentHistoryIndex + 1) % presentHistory.length;
+		
+		// Target has not seen a full frame yet
+		if(fullPresents > 0) {
+			fullPresents--;
+			graphics.drawImage(screen, 0, 0, null);
+			return;
+		}
+		
+		// Every buffer of the target needs the changes it has missed
+		presented.clear();
+		for(final DirtyRegion region : presentHistory)
+			presented.add(region);
+		
+		for(int i = 0; i < presented.size(); i++) {
+			final int minX = presented.getMinX(i), minY = presented.getMinY(i);
+			final int maxX = presented.getMaxX(i), maxY = presented.getMaxY(i);
+			
+			graphics.drawImage(screen, minX, minY, maxX, maxY, minX, minY, maxX, maxY, null);
+		}
+	}
+	
+	/**
+	 * Copies every pixel of the {@code screen} into the array given,
+	 * queued triangles are drawn first
+	 * 
+	 * @param destination
+	 * - {@code Array} with the same size as the screen
+	 */
+	public void copyPixels(final int[] destination) {
+		// Illegal length
+		if(destination.length != pixels.length)
+			throw new IllegalArgumentException("Destination must have the same size as the screen!");
+		
+		flush();
+		
+		System.arraycopy(pixels, 0, destination, 0, pixels.length);
+	}
+	
+	/**
+	 * Hands the current frame to the {@code capture}, if there is one...
+	 * queued triangles are drawn first
+	 * 
+	 * @return
+	 * - {@code true} if the frame has been captured; {@code false} if it has been dropped or there is no capture
+	 * 
+	 * @see #setCapture(FrameCapture)
+	 */
+	public boolean captureFrame() {
+		if(capture == null || capture.isClosed()) return false;
+		
+		return capture.capture(this);
+	}
+	
+	/**
+	 * Marks the whole screen as changed, the next clear and
+	 * the next renders will cover the whole screen... this should
+	 * be called whenever the target lost what has been presented
+	 */
+	public void invalidate() {
+		fullClear = true;
+		fullPresents = presentHistory.length;
+	}
+	
+	/**
+	 * Records a changed rectangle, locked inside the screen
+	 */
+	private void markDirty(final int minX, final int minY, final int maxX, final int maxY) {
+		if(!dirtyTracking) return;
+		
+		drawn.add(Math.max(minX, 0), Math.max(minY, 0), Math.min(maxX, width), Math.min(maxY, height));
+	}
+	
+	/**
+	 * Draws a line that goes from {@code line point A} to {@code line point B},
+	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
+	 * 
+	 * @param linePointA
+	 * - Starting {@code point}
+	 * 
+	 * @param linePointB
+	 * - Ending {@code point}
+	 * 
+	 * @param color
+	 * - {@code Color} of the line
+	 * 
+	 * @see #drawLine(Vec2, Vec2)
+	 * @see #drawLine(int, int, int, int, int)
+	 * @see #drawLine(int, int, int, int)
+	 */
+	public void drawLine(final Vec2 linePointA, final Vec2 linePointB, final int color) {
+		drawLine(linePointA.getX(), linePointA.getY(), linePointB.getX(), linePointB.getY(), color);
+	}
+	
+	/**
+	 * Draws a line that goes from {@code line point A} to {@code line point B},
+	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
+	 * 
+	 * @param linePointA
+	 * - Starting {@code point}
+	 * 
+	 * @param linePointB
+	 * - Ending {@code point}
+	 * 
+	 * @see #drawLine(Vec2, Vec2, int)
+	 * @see #drawLine(int, int, int, int, int)
+	 * @see #drawLine(int, int, int, int)
+	 */
+	public void drawLine(final Vec2 linePointA, final Vec2 linePointB) {
+		drawLine(linePointA, linePointB, color);
+	}
+	
+	/**
+	 * Draws a line that goes from {@code x1 and y1} to {@code x2 and y2},
+	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
+	 * 
+	 * @param x1
+	 * - Starting {@code x}
+	 * 
+	 * @param y1
+	 * - Starting {@code y}
+	 * 
+	 * @param x2
+	 *  Ending {@code x}
+	 * 
+	 * @param y2
+	 * - Ending {@code y}
+	 * 
+	 * @see #drawLine(Vec2, Vec2, int)
+	 * @see #drawLine(Vec2, Vec2)
+	 * @see #drawLine(int, int, int, int)
+	 */
+	public void drawLine(final int x1, final int y1, final int x2, final int y2, final int color) {
+		flush();
+		
+		// Entirely off the screen
+		if(!clipLine(x1, y1, x2, y2)) return;
+		
+		plotLine(clippedX1, clippedY1, 0.0F, clippedX2, clippedY2, 0.0F, color, false);
+	}
+	
+	/**
+	 * Draws a line that goes from {@code x1 and y1} to {@code x2 and y2},
+	 * if the goes out of the {@code screen scale}... it will be <i>clipped</i> out
+	 * 
+	 * @param x1
+	 * - Starting {@code x}
+	 * 
+	 * @param y1
+	 * - Starting {@code y}
+	 * 
+	 * @param x2
+	 *  Ending {@code x}
+	 * 
+	 * @param y2
+	 * - Ending {@code y}
+	 * 
+	 * @see #drawLine(Vec2, Vec2, int)
+	 * @see #drawLine(Vec2, Vec2)
+	 * @see #drawLine(int, int, int, int, int)
+	 */
+	public void drawLine(final int x1, final int y1, final int x2, final int y2) {
+		drawLine(x1, y1, x2, y2, color);
+	}
+	
+	/**
+	 * Draws a batch of lines with the same {@code color}, every line
+	 * takes {@code 4} values from the array: {@code x1, y1, x2} and {@code y2}
+	 * 
+	 * @param coords
+	 * - {@code Coordinates} of the lines
+	 * 
+	 * @param color
+	 * - {@code Color} of the lines
+	 * 
+	 * @see #drawLine(int, int, int, int, int)
+	 */
+	public void drawLines(final int[] coords, final int color) {
+		// Illegal length
+		if((coords.length & 3) != 0)
+			throw new IllegalArgumentException("Coordinates length must be a multiple of 4!");
+		
+		flush();
+		
+		for(int i = 0; i < coords.length; i += 4) {
+			// Entirely off the screen
+			if(!clipLine(coords[i], coords[i + 1], coords[i + 2], coords[i + 3])) continue;
+			
+			plotLine(clippedX1, clippedY1, 0.0F, clippedX2, clippedY2, 0.0F, color, false);
+		}
+	}
+	
+	/**
+	 * Draws a triangle by calling 3 {@code drawLine} method
+	 * 
+	 * @param pointA
+	 * - {@code First} point
+	 * 
+	 * @param pointB
+	 * - {@code Second} point
+	 * 
+	 * @param pointC
+	 * - {@code Third} point
+	 * 
+	 * @param color1
+	 * - {@code First} line color
+	 * 
+	 * @param color2
+	 * - {@code Second} line color
+	 * 
+	 * @param color3
+	 * - {@code Third} line color
+	 */
+	public void drawTriangle(final Vec2 pointA, final Vec2 pointB, final Vec2 pointC, final int color1, final int color2, final int color3) {
+		drawLine(pointA, pointB, color1);
+		drawLine(pointB, pointC, color2);
+		drawLine(pointC, pointA, color3);
+	}
+	
+	/**
+	 * Draws a triangle by calling 3 {@code drawLine} method
+	 * 
+	 * @param pointA
+	 * - {@code First} point
+	 * 
+	 * @param pointB
+	 * - {@code Second} point
+	 * 
+	 * @param pointC
+	 * - {@code Third} point
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 */
+	public void drawTriangle(final Vec2 pointA, final Vec2 pointB, final Vec2 pointC, final int color) {
+		drawTriangle(pointA, pointB, pointC, color, color, color);
+	}
+	
+	/**
+	 * Draws a triangle into the screen
+	 * 
+	 * @param triangle
+	 * - {@code Triangle 3D} to render
+	 * 
+	 * @param color1
+	 * - {@code First} line color
+	 * 
+	 * @param color2
+	 * - {@code Second} line color
+	 * 
+	 * @param color3
+	 * - {@code Third} line color
+	 */
+	public void drawTriangle(final Triangle3D triangle, final int color1, final int color2, final int color3) {
+		drawTriangle(triangle.pointA.toVector2D(), triangle.pointB.toVector2D(), triangle.pointC.toVector2D(), color1, color2, color3);
+	}
+	
+	/**
+	 * Fills a triangle with a solid {@code color}, spans are written
+	 * straight into the {@code pixels} of the screen... parts that
+	 * goes out of the {@code screen scale} will be <i>clipped</i> out
+	 * 
+	 * @param x1
+	 * - {@code First} point x
+	 * 
+	 * @param y1
+	 * - {@code First} point y
+	 * 
+	 * @param x2
+	 * - {@code Second} point x
+	 * 
+	 * @param y2
+	 * - {@code Second} point y
+	 * 
+	 * @param x3
+	 * - {@code Third} point x
+	 * 
+	 * @param y3
+	 * - {@code Third} point y
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 * 
+	 * @see #fillTriangle(int, int, int, int, int, int, int)
+	 * @see #fillTriangle(Vec2, Vec2, Vec2, int)
+	 */
+	public void fillTriangle(final float x1, final float y1, final float x2, final float y2, final float x3, final float y3, final int color) {
+		submitTriangle(x1, y1, 0.0F, x2, y2, 0.0F, x3, y3, 0.0F, color, false);
+	}
+	
+	/**
+	 * Fills a triangle with a solid {@code color}
+	 * 
+	 * @param x1
+	 * - {@code First} point x
+	 * 
+	 * @param y1
+	 * - {@code First} point y
+	 * 
+	 * @param x2
+	 * - {@code Second} point x
+	 * 
+	 * @param y2
+	 * - {@code Second} point y
+	 * 
+	 * @param x3
+	 * - {@code Third} point x
+	 * 
+	 * @param y3
+	 * - {@code Third} point y
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 * 
+	 * @see #fillTriangle(float, float, float, float, float, float, int)
+	 */
+	public void fillTriangle(final int x1, final int y1, final int x2, final int y2, final int x3, final int y3, final int color) {
+		fillTriangle((float)x1, (float)y1, (float)x2, (float)y2, (float)x3, (float)y3, color);
+	}
+	
+	/**
+	 * Fills a triangle with a solid {@code color}
+	 * 
+	 * @param pointA
+	 * - {@code First} point
+	 * 
+	 * @param pointB
+	 * - {@code Second} point
+	 * 
+	 * @param pointC
+	 * - {@code Third} point
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 * 
+	 * @see #fillTriangle(float, float, float, float, float, float, int)
+	 */
+	public void fillTriangle(final Vec2 pointA, final Vec2 pointB, final Vec2 pointC, final int color) {
+		fillTriangle(pointA.getX(), pointA.getY(), pointB.getX(), pointB.getY(), pointC.getX(), pointC.getY(), color);
+	}
+	
+	/**
+	 * Fills a triangle into the screen
+	 * 
+	 * @param triangle
+	 * - {@code Triangle 3D} to render
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 */
+	public void fillTriangle(final Triangle3D triangle, final int color) {
+		fillTriangle(triangle.pointA.getX(), triangle.pointA.getY(),
+					 triangle.pointB.getX(), triangle.pointB.getY(),
+					 triangle.pointC.getX(), triangle.pointC.getY(), color);
+	}
+	
+	/**
+	 * Fills a triangle with a solid {@code color}, testing every pixel against
+	 * the {@code depth buffer}... only pixels that are closer than what has
+	 * already been drawn are written
+	 * <br>
+	 * If the {@code depth buffer} is disabled, this behaves like
+	 * {@link #fillTriangle(float, float, float, float, float, float, int)}
+	 * 
+	 * @param x1
+	 * - {@code First} point x
+	 * 
+	 * @param y1
+	 * - {@code First} point y
+	 * 
+	 * @param z1
+	 * - {@code First} point depth
+	 * 
+	 * @param x2
+	 * - {@code Second} point x
+	 * 
+	 * @param y2
+	 * - {@code Second} point y
+	 * 
+	 * @param z2
+	 * - {@code Second} point depth
+	 * 
+	 * @param x3
+	 * - {@code Third} point x
+	 * 
+	 * @param y3
+	 * - {@code Third} point y
+	 * 
+	 * @param z3
+	 * - {@code Third} point depth
+	 * 
+	 * @param color
+	 * - {@code Triangle} color
+	 * 
+	 * @see #setDepthBuffer(boolean)
+	 */
+	public void fillTriangle(final float x1, final float y1, final float z1,
+							 final float x2, final float y2, final float z2,
+							 final float x3, final float y3, final float z3, final int color) {
+		submitTriangle(x1, y1, z1, x2, y2, z2, x3, y3, z3, color, depth != null);
+	}
+	
+	/**
+	 * Rasterizes the triangle right away, or queues it
+	 * if {@code tiled rendering} is enabled
+	 */
+	private void submitTriangle(final float x1, final float y1, final float z1,
+								final float x2, final float y2, final float z2,
+								final float x3, final float y3, final float z3,
+								final int color, final boolean testDepth) {
+		// Pixels that may be covered
+		if(dirtyTracking)
+			markDirty(ceil(Math.min(x1, Math.min(x2, x3)) - 0.5F), ceil(Math.min(y1, Math.min(y2, y3)) - 0.5F),
+					  ceil(Math.max(x1, Math.max(x2, x3)) - 0.5F), ceil(Math.max(y1, Math.max(y2, y3)) - 0.5F));
+		
+		if(!tiledRendering) {
+			fillTriangle(x1, y1, z1, x2, y2, z2, x3, y3, z3, color, testDepth, 0, 0, width, height);
+			return;
+		}
+		
+		// Grow the queue
+		if(queuedTriangles == queuedColors.length) {
+			final int capacity = queuedTriangles << 1;
+			
+			queuedPoints = Arrays.copyOf(queuedPoints, capacity * 9);
+			queuedColors = Arrays.copyOf(queuedColors, capacity);
+			queuedDepthTests = Arrays.copyOf(queuedDepthTests, capacity);
+		}
+		
+		final int offset = queuedTriangles * 9;
+		queuedPoints[offset]     = x1; queuedPoints[offset + 1] = y1; queuedPoints[offset + 2] = z1;
+		queuedPoints[offset + 3] = x2; queuedPoints[offset + 4] = y2; queuedPoints[offset + 5] = z2;
+		queuedPoints[offset + 6] = x3; queuedPoints[offset + 7] = y3; queuedPoints[offset + 8] = z3;
+		
+		queuedColors[queuedTriangles] = color;
+		queuedDepthTests[queuedTriangles] = testDepth;
+		queuedTriangles++;
+	}
+	
+	/**
+	 * Rasterizes every queued triangle, triangles are binned into
+	 * {@code TILE_SIZE x TILE_SIZE} screen tiles and the tiles are rasterized in parallel...
+	 * each tile only writes its own region of the screen, so no locking is needed
+	 * <br>
+	 * Triangles inside a tile keep their submission order, so the output is
+	 * identical to rasterizing them one by one
+	 * <br>
+	 * This is called automatically before anything else is drawn or rendered
+	 */
+	public void flush() {
+		if(queuedTriangles == 0) return;
+		
+		final int tiles = tilesX * tilesY;
+		Arrays.fill(binStarts, 0);
+		
+		// Count the triangles of every tile
+		int binned = 0;
+		for(int i = 0; i < queuedTriangles; i++) {
+			final int offset = i * 9;
+			
+			final int minTileX = tileX(Math.min(queuedPoints[offset], Math.min(queuedPoints[offset + 3], queuedPoints[offset + 6])));
+			final int maxTileX = tileX(Math.max(queuedPoints[offset], Math.max(queuedPoints[offset + 3], queuedPoints[offset + 6])));
+			final int minTileY = tileY(Math.min(queuedPoints[offset + 1], Math.min(queuedPoints[offset + 4], queuedPoints[offset + 7])));
+			final int maxTileY = tileY(Math.max(queuedPoints[offset + 1], Math.max(queuedPoints[offset + 4], queuedPoints[offset + 7])));
+			
+			for(int tileY = minTileY; tileY <= maxTileY; tileY++)
+				for(int tileX = minTileX; tileX <= maxTileX; tileX++) {
+					binStarts[tileX + tileY * tilesX + 1]++;
+					binned++;
+				}
+		}
+		
+		// Starting index of every bin
+		for(int i = 0; i < tiles; i++)
+			binStarts[i + 1] += binStarts[i];
+		
+		if(bins.length < binned)
+			bins = new int[Math.max(binned, bins.length << 1)];
+		
+		// Fill the bins, binStarts is shifted by one while filling and ends up as the starting index again
+		for(int i = 0; i < queuedTriangles; i++) {
+			final int offset = i * 9;
+			
+			final int minTileX = tileX(Math.min(queuedPoints[offset], Math.min(queuedPoints[offset + 3], queuedPoints[offset + 6])));
+			final int maxTileX = tileX(Math.max(queuedPoints[offset], Math.max(queuedPoints[offset + 3], queuedPoints[offset + 6])));
+			final int minTileY = tileY(Math.min(queuedPoints[offset + 1], Math.min(queuedPoints[offset + 4], queuedPoints[offset + 7])));
+			final int maxTileY = tileY(Math.max(queuedPoints[offset + 1], Math.max(queuedPoints[offset + 4], queuedPoints[offset + 7])));
+			
+			for(int tileY = minTileY; tileY <= maxTileY; tileY++)
+				for(int tileX = minTileX; tileX <= maxTileX; tileX++)
+					bins[binStarts[tileX + tileY * tilesX]++] = i;
+		}
+		
+		for(int i = tiles; i > 0; i--)
+			binStarts[i] = binStarts[i - 1];
+		binStarts[0] = 0;
+		
+		// Rasterize the tiles
+		if(threadCount > 1) getPool().invoke(new TileTask(0, tiles));
+		else for(int tile = 0; tile < tiles; tile++) rasterizeTile(tile);
+		
+		queuedTriangles = 0;
+	}
+	
+	/**
+	 * Rasterizes every binned triangle of the {@code tile}, clipped to the tile
+	 */
+	private void rasterizeTile(final int tile) {
+		final int clipMinX = (tile % tilesX) * TILE_SIZE;
+		final int clipMinY = (tile / tilesX) * TILE_SIZE;
+		final int clipMaxX = Math.min(clipMinX + TILE_SIZE, width);
+		final int clipMaxY = Math.min(clipMinY + TILE_SIZE, height);
+		
+		for(int i = binStarts[tile]; i < binStarts[tile + 1]; i++) {
+			final int triangle = bins[i];
+			final int offset = triangle * 9;
+			
+			fillTriangle(queuedPoints[offset],     queuedPoints[offset + 1], queuedPoints[offset + 2],
+						 queuedPoints[offset + 3], queuedPoints[offset + 4], queuedPoints[offset + 5],
+						 queuedPoints[offset + 6], queuedPoints[offset + 7], queuedPoints[offset + 8],
+						 queuedColors[triangle], queuedDepthTests[triangle], clipMinX, clipMinY, clipMaxX, clipMaxY);
+		}
+	}
+	
+	/**
+	 * @return
+	 * - Column of the tile that contains the {@code x} coordinate, locked inside the screen
+	 */
+	private int tileX(final float x) {
+		return Mathf.lock(0, tilesX - 1, (int)Math.floor(x) / TILE_SIZE);
+	}
+	
+	/**
+	 * @return
+	 * - Row of the tile that contains the {@code y} coordinate, locked inside the screen
+	 */
+	private int tileY(final float y) {
+		return Mathf.lock(0, tilesY - 1, (int)Math.floor(y) / TILE_SIZE);
+	}
+	
+	/**
+	 * @return
+	 * - {@code Pool} used to rasterize tiles, created with this' {@code thread count}
+	 */
+	private ForkJoinPool getPool() {
+		if(pool == null)
+			pool = new ForkJoinPool(threadCount);
+		
+		return pool;
+	}
+	
+	/**
+	 * Splits a range of the buffers in half until it is small enough to be cleared
+	 */
+	private final class ClearTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final int from;
+		private final int to;
+		private final int color;
+		private final boolean clearPixels;
+		private final boolean clearDepth;
+		
+		private ClearTask(final int from, final int to, final int color, final boolean clearPixels, final boolean clearDepth) {
+			this.from = from;
+			this.to = to;
+			this.color = color;
+			this.clearPixels = clearPixels;
+			this.clearDepth = clearDepth;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= CLEAR_CHUNK_SIZE) {
+				if(clearPixels) Arrays.fill(pixels, from, to, color);
+				if(clearDepth) Arrays.fill(depth, from, to, Float.POSITIVE_INFINITY);
+				return;
+			}
+			
+			final int middle = (from + to) >>> 1;
+			invokeAll(new ClearTask(from, middle, color, clearPixels, clearDepth), new ClearTask(middle, to, color, clearPixels, clearDepth));
+		}
+	}
+	
+	/**
+	 * Splits a range of tiles in half until a single tile is left
+	 */
+	private final class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final int startTile;
+		private final int endTile;
+		
+		private TileTask(final int startTile, final int endTile) {
+			this.startTile = startTile;
+			this.endTile = endTile;
+		}
+		
+		@Override
+		protected void compute() {
+			if(endTile - startTile == 1) {
+				rasterizeTile(startTile);
+				return;
+			}
+			
+			final int middleTile = (startTile + endTile) >>> 1;
+			invokeAll(new TileTask(startTile, middleTile), new TileTask(middleTile, endTile));
+		}
+	}
+	
+	/**
+	 * Scanline rasterization of a flat triangle, only pixels
+	 * whose centers are inside the triangle and inside the
+	 * given {@code clip} rectangle are written
+	 * <br>
+	 * Every row and every depth value is computed from the edges and the
+	 * depth plane directly, so the same pixel gets the same coverage
+	 * and depth no matter which clip rectangle is used
+	 */
+	private void fillTriangle(float x1, float y1, float z1, float x2, float y2, float z2, float x3, float y3, float z3,
+							  final int color, final boolean testDepth,
+							  final int clipMinX, final int clipMinY, final int clipMaxX, final int clipMaxY) {
+		// Sort the points from top to bottom
+		float t;
+		if(y2 < y1) { t = x1; x1 = x2; x2 = t; t = y1; y1 = y2; y2 = t; t = z1; z1 = z2; z2 = t; }
+		if(y3 < y1) { t = x1; x1 = x3; x3 = t; t = y1; y1 = y3; y3 = t; t = z1; z1 = z3; z3 = t; }
+		if(y3 < y2) { t = x2; x2 = x3; x3 = t; t = y2; y2 = y3; y3 = t; t = z2; z2 = z3; z3 = t; }
+		
+		// Rows covered by this triangle
+		final int startY = Math.max(ceil(y1 - 0.5F), clipMinY);
+		final int endY   = Math.min(ceil(y3 - 0.5F), clipMaxY);
+		if(startY >= endY) return;
+		
+		// Inverse slopes of the edges
+		final float longSlope   = (x3 - x1) / (y3 - y1);
+		final float topSlope    = y2 > y1 ? (x2 - x1) / (y2 - y1) : 0.0F;
+		final float bottomSlope = y3 > y2 ? (x3 - x2) / (y3 - y2) : 0.0F;
+		
+		// Depth plane
+		// Change in depth per pixel in both axis
+		float depthX = 0.0F, depthY = 0.0F;
+		if(testDepth) {
+			final float area = (x2 - x1) * (y3 - y1) - (x3 - x1) * (y2 - y1);
+			if(area == 0.0F) return;
+			
+			depthX = ((z2 - z1) * (y3 - y1) - (z3 - z1) * (y2 - y1)) / area;
+			depthY = ((x2 - x1) * (z3 - z1) - (x3 - x1) * (z2 - z1)) / area;
+		}
+		
+		for(int y = startY; y < endY; y++) {
+			// Pixel center
+			final float centerY = y + 0.5F;
+			
+			// Edges intersection
+			final float longX  = x1 + (centerY - y1) * longSlope;
+			final float shortX = centerY < y2 ? x1 + (centerY - y1) * topSlope : x2 + (centerY - y2) * bottomSlope;
+			
+			// Horizontal span
+			final int startX = Math.max(ceil((longX < shortX ? longX : shortX) - 0.5F), clipMinX);
+			final int endX   = Math.min(ceil((longX < shortX ? shortX : longX) - 0.5F), clipMaxX);
+			if(startX >= endX) continue;
+			
+			final int row = y * width;
+			
+			// Set the pixels
+			if(!testDepth) {
+				Arrays.fill(pixels, row + startX, row + endX, color);
+				continue;
+			}
+			
+			// Depth at the start of this row
+			final float rowDepth = z1 + (centerY - y1) * depthY - x1 * depthX;
+			
+			for(int x = startX; x < endX; x++) {
+				final float z = rowDepth + (x + 0.5F) * depthX;
+				
+				// Hidden pixel, reject it early
+				if(!(z < depth[row + x])) continue;
+				
+				depth[row + x] = z;
+				pixels[row + x] = color;
+			}
+		}
+	}
+	
+	/**
+	 * Draws a line that goes from {@code x1 and y1} to {@code x2 and y2},
+	 * testing every pixel against the {@code depth buffer}... if the line goes
+	 * out of the {@code screen scale}, it will be <i>clipped</i> out
+	 * <br>
+	 * If the {@code depth buffer} is disabled, the line is drawn
+	 * without any depth test
+	 * 
+	 * @param x1
+	 * - Starting {@code x}
+	 * 
+	 * @param y1
+	 * - Starting {@code y}
+	 * 
+	 * @param z1
+	 * - Starting {@code depth}
+	 * 
+	 * @param x2
+	 * - Ending {@code x}
+	 * 
+	 * @param y2
+	 * - Ending {@code y}
+	 * 
+	 * @param z2
+	 * - Ending {@code depth}
+	 * 
+	 * @param color
+	 * - {@code Color} of the line
+	 * 
+	 * @see #setDepthBuffer(boolean)
+	 */
+	public void drawLine(final int x1, final int y1, final float z1, final int x2, final int y2, final float z2, final int color) {
+		flush();
+		
+		// Entirely off the screen
+		if(!clipLine(x1, y1, x2, y2)) return;
+		
+		// Depth at the clipped points
+		final float deltaZ = z2 - z1;
+		plotLine(clippedX1, clippedY1, z1 + deltaZ * clippedStart, clippedX2, clippedY2, z1 + deltaZ * clippedEnd, color, depth != null);
+	}
+	
+	/**
+	 * Liang - Barsky clipping of a line against the screen,
+	 * the clipped line is stored in {@code clippedX1, clippedY1, clippedX2, clippedY2}
+	 * and the part of the original line that is kept in {@code clippedStart} and {@code clippedEnd}
+	 * 
+	 * @return
+	 * {@code true} if some of the line is inside the screen; {@code false} otherwise
+	 */
+	private boolean clipLine(final int x1, final int y1, final int x2, final int y2) {
+		final double deltaX = (double)x2 - x1;
+		final double deltaY = (double)y2 - y1;
+		
+		double start = 0.0, end = 1.0;
+		
+		// Left, right, top and bottom
+		for(int edge = 0; edge < 4; edge++) {
+			final double p, q;
+			switch(edge) {
+				case 0:  p = -deltaX; q = x1;					break;
+				case 1:  p = deltaX;  q = width - 1.0 - x1;		break;
+				case 2:  p = -deltaY; q = y1;					break;
+				default: p = deltaY;  q = height - 1.0 - y1;	break;
+			}
+			
+			if(p == 0.0) {
+				// Parallel and outside
+				if(q < 0.0) return false;
+				
+				continue;
+			}
+			
+			final double t = q / p;
+			if(p < 0.0) {
+				if(t > end) return false;
+				if(t > start) start = t;
+			}
+			else {
+				if(t < start) return false;
+				if(t < end) end = t;
+			}
+		}
+		
+		clippedStart = (float)start;
+		clippedEnd = (float)end;
+		
+		clippedX1 = start == 0.0 ? x1 : Mathf.lock(0, width - 1, (int)Math.round(x1 + deltaX * start));
+		clippedY1 = start == 0.0 ? y1 : Mathf.lock(0, height - 1, (int)Math.round(y1 + deltaY * start));
+		clippedX2 = end == 1.0 ? x2 : Mathf.lock(0, width - 1, (int)Math.round(x1 + deltaX * end));
+		clippedY2 = end == 1.0 ? y2 : Mathf.lock(0, height - 1, (int)Math.round(y1 + deltaY * end));
+		
+		return true;
+	}
+	
+	/**
+	 * Integer Bresenham line for every octant, both points must be inside the screen
+	 */
+	private void plotLine(final int x1, final int y1, final float z1, final int x2, final int y2, final float z2, final int color, final boolean testDepth) {
+		markDirty(Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2) + 1, Math.max(y1, y2) + 1);
+		
+		// Delta positions (Change in axis)
+		final int deltaX = Math.abs(x2 - x1);
+		final int deltaY = -Math.abs(y2 - y1);
+		
+		// Step direction
+		final int stepX = x1 < x2 ? 1 : -1;
+		final int stepY = y1 < y2 ? width : -width;
+		
+		// Depth change per step
+		final int steps = Math.max(deltaX, -deltaY);
+		final float depthStep = steps == 0 ? 0.0F : (z2 - z1) / steps;
+		
+		float z = z1;
+		int drawIndex = x1 + y1 * width;
+		final int lastIndex = x2 + y2 * width;
+		
+		int error = deltaX + deltaY;
+		while(true) {
+			// Set the pixel
+			if(!testDepth) pixels[drawIndex] = color;
+			else if(z < depth[drawIndex]) {
+				depth[drawIndex] = z;
+				pixels[drawIndex] = color;
+			}
+			
+			if(drawIndex == lastIndex) break;
+			
+			// Move to the next pixel
+			final int error2 = error << 1;
+			if(error2 >= deltaY) { error += deltaY; drawIndex += stepX; }
+			if(error2 <= deltaX) { error += deltaX; drawIndex += stepY; }
+			
+			z += depthStep;
+		}
+	}
+	
+	/**
+	 * @return
+	 * - Smallest {@code integer} that is greater than or equal to the value given
+	 */
+	private static int ceil(final float value) {
+		// Far off values are held inside of the int range, so adding 1 cannot wrap around
+		final float clamped = Math.max(Math.min(value, Integer.MAX_VALUE - 1), Integer.MIN_VALUE + 1);
+		final int truncated = (int)clamped;
+		
+		return clamped > truncated ? truncated + 1 : truncated;
+	}
+	
+	// *****************************************************************************************************
+	// GETTERS AND SETTERS
+	// *****************************************************************************************************
+	
+	/**
+	 * @return
+	 * - {@code Width} of the screen
+	 */
+	public int getWidth() {
+		return width;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Height} of the screen
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the depth buffer is enabled; {@code false} otherwise
+	 */
+	public boolean hasDepthBuffer() {
+		return depth != null;
+	}
+	
+	/**
+	 * Enables or disables the {@code depth buffer}, the buffer has the same
+	 * size as the screen and is cleared every time the screen is filled
+	 * 
+	 * @param enabled
+	 * - {@code true} if depth-tested drawing should be used
+	 */
+	public void setDepthBuffer(final boolean enabled) {
+		flush();
+		
+		if(!enabled) {
+			depth = null;
+			return;
+		}
+		
+		// Already enabled
+		if(depth != null) return;
+		
+		depth = new float[pixels.length];
+		clearDepth();
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if triangles are binned into tiles and rasterized in parallel; {@code false} otherwise
+	 */
+	public boolean isTiledRendering() {
+		return tiledRendering;
+	}
+	
+	/**
+	 * Sets whether triangles should be rendered for {@code throughput}, filled triangles
+	 * are queued and rasterized in parallel tiles when {@link #flush()} is called...
+	 * the output is the same as rendering them right away
+	 * 
+	 * @param tiledRendering
+	 * - {@code true} if tiled rendering should be used
+	 */
+	public void setTiledRendering(final boolean tiledRendering) {
+		flush();
+		
+		this.tiledRendering = tiledRendering;
+	}
+	
+	/**
+	 * @return
+	 * - Number of {@code threads} used by tiled rendering
+	 */
+	public int getThreadCount() {
+		return threadCount;
+	}
+	
+	/**
+	 * Sets the number of {@code threads} used by tiled rendering,
+	 * {@code 1} rasterizes every tile on the calling thread
+	 * 
+	 * @param newThreadCount
+	 * - New {@code thread count}, must be at least 1
+	 */
+	public void setThreadCount(final int newThreadCount) {
+		if(newThreadCount < 1) throw new IllegalArgumentException("Thread count must be at least 1!");
+		
+		// Same pool
+		if(newThreadCount == threadCount) return;
+		
+		flush();
+		
+		if(pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+		
+		threadCount = newThreadCount;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Capture} the frames are handed to, {@code null} if there is none
+	 */
+	public FrameCapture getCapture() {
+		return capture;
+	}
+	
+	/**
+	 * Sets the {@code capture} the frames are handed to by {@link #captureFrame()},
+	 * the capture is not closed when replaced
+	 * 
+	 * @param capture
+	 * - {@code Capture} with the size of the screen, {@code null} to stop capturing
+	 */
+	public void setCapture(final FrameCapture capture) {
+		this.capture = capture;
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if changed rectangles are tracked; {@code false} otherwise
+	 */
+	public boolean isDirtyTracking() {
+		return dirtyTracking;
+	}
+	
+	/**
+	 * Sets whether every drawing should be tracked as a changed {@code rectangle},
+	 * clearing the screen then only clears what has been drawn and rendering
+	 * only presents what has changed
+	 * 
+	 * @param dirtyTracking
+	 * - {@code true} if changed rectangles should be tracked
+	 */
+	public void setDirtyTracking(final boolean dirtyTracking) {
+		this.dirtyTracking = dirtyTracking;
+		
+		drawn.clear();
+		cleared.clear();
+		invalidate();
+	}
+	
+	/**
+	 * Sets the maximum number of changed {@code rectangles} per frame, small rectangles
+	 * are merged into bigger ones after that... a lower value keeps the
+	 * tracking cheap, a higher value clears and presents less pixels
+	 * 
+	 * @param newMaxDirtyRectangles
+	 * - New maximum, must be at least 1
+	 */
+	public void setMaxDirtyRectangles(final int newMaxDirtyRectangles) {
+		drawn.setMaxRectangles(newMaxDirtyRectangles);
+		maxDirtyRectangles = newMaxDirtyRectangles;
+		
+		cleared.setMaxRectangles(newMaxDirtyRectangles);
+		presented.setMaxRectangles(newMaxDirtyRectangles);
+		for(final DirtyRegion region : presentHistory)
+			region.setMaxRectangles(newMaxDirtyRectangles);
+	}
+	
+	/**
+	 * @return
+	 * - Maximum number of changed {@code rectangles} per frame
+	 */
+	public int getMaxDirtyRectangles() {
+		return maxDirtyRectangles;
+	}
+	
+	/**
+	 * Sets the number of buffers of the render target, a target with several buffers
+	 * (like a {@code BufferStrategy}) gets the changes of the last frames
+	 * that each of its buffers has missed
+	 * 
+	 * @param bufferCount
+	 * - Number of {@code buffers}, must be at least 1
+	 */
+	public void setPresentBufferCount(final int bufferCount) {
+		if(bufferCount < 1) throw new IllegalArgumentException("Buffer count must be at least 1!");
+		
+		presentHistory = new DirtyRegion[bufferCount];
+		for(int i = 0; i < bufferCount; i++)
+			presentHistory[i] = new DirtyRegion(maxDirtyRectangles);
+		
+		presentHistoryIndex = 0;
+		invalidate();
+	}
+	
+	/**
+	 * @return
+	 * - Current {@code renderer} color
+	 */
+	public int getColor() {
+		return color;
+	}
+	
+	/**
+	 * Sets a new value to this' {@code color}
+	 * 
+	 * @param newColor
+	 * - {@code Renderer} new color
+	 */
+	public void setColor(final int newColor) {
+		color = newColor;
+	}
+	
+	/**
+	 * Sets a new value to this' {@code color}
+	 * 
+	 * @param newColor
+	 * - {@code Renderer} new color
+	 */
+	public void setColor(final Color newColor) {
+		color = newColor.getRGB();
+	}
+	
+	/**
+	 * @return
+	 * - Current {@code renderer} clear color
+	 */
+	public int getClearColor() {
+		return clearColor;
+	}
+	
+	/**
+	 * Sets a new value to this' {@code clear color}
+	 * 
+	 * @param newColor
+	 * - {@code Renderer} new color
+	 */
+	public void setClearColor(final int newColor) {
+		clearColor = newColor;
+	}
+	
+	/**
+	 * Sets a new value to this' {@code clear color}
+	 * 
+	 * @param newColor
+	 * - {@code Renderer} new color
+	 */
+	public void setClearColor(final Color newColor) {
+		clearColor = newColor.getRGB();
+	}
 }
\ No newline at end of file
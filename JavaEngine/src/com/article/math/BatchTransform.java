@@ -0,0 +1,278 @@
+package com.article.math;
+
+/**
+ * Transforms whole arrays of points by a {@link Mat4f}, the points are stored as flat
+ * {@code x}, {@code y}, {@code z} and {@code w} arrays instead of one {@link Vec4F} each
+ * <br>
+ * <br>
+ * {@link #get()} returns the fastest transform available... the {@code FloatVector} lanes live in
+ * the optional {@code src-vector} source root, which is compiled on top of {@code src} with
+ * {@code --add-modules jdk.incubator.vector}. When those classes are there and the module is added
+ * to the run the points go through the lanes, otherwise through the plain loops of this class. Both
+ * give the exact same floats, as every lane does the same multiplications and additions in the same order
+ * <br>
+ * <br>
+ * The output arrays may be the input arrays, every point is read before it is written
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public class BatchTransform {
+	// Plain loops, always available
+	private static final BatchTransform SCALAR = new BatchTransform();
+	
+	// Fastest one available
+	private static final BatchTransform BEST = loadVectorized();
+	
+	/**
+	 * Only this package provides transforms
+	 */
+	BatchTransform() {}
+	
+	/**
+	 * @return
+	 * - Fastest {@code BatchTransform} available on this run
+	 */
+	public static BatchTransform get() {
+		return BEST;
+	}
+	
+	/**
+	 * @return
+	 * - {@code BatchTransform} that always uses plain loops
+	 */
+	public static BatchTransform scalar() {
+		return SCALAR;
+	}
+	
+	/**
+	 * Loads the {@code FloatVector} transform by name, so {@code src} builds and runs
+	 * without the incubator module and without the {@code src-vector} classes
+	 */
+	private static BatchTransform loadVectorized() {
+		// Module has to be added to the run
+		if(!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) return SCALAR;
+		
+		try {
+			final BatchTransform transform = (BatchTransform)Class.forName("com.article.math.VectorBatchTransform").getDeclaredConstructor().newInstance();
+			
+			return transform.isVectorized() ? transform : SCALAR;
+		} catch(final ReflectiveOperationException | LinkageError e) {
+			return SCALAR;
+		}
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the points go through vector lanes; {@code false} otherwise
+	 */
+	public boolean isVectorized() {
+		return false;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of points transformed at once
+	 */
+	public int getLanes() {
+		return 1;
+	}
+	
+	// ******************************************************
+	// Transforms
+	// ******************************************************
+	
+	/**
+	 * Transforms the points {@code [from, to)} by the {@code matrix}, without dividing them
+	 * 
+	 * @param matrix
+	 * - {@code Matrix} to transform by
+	 * 
+	 * @param x
+	 * - {@code X} of every point, same for {@code y}, {@code z} and {@code w}
+	 * 
+	 * @param outX
+	 * - {@code X} of every transformed point, same for {@code outY}, {@code outZ} and {@code outW}
+	 * 
+	 * @param from
+	 * - First {@code point}
+	 * 
+	 * @param to
+	 * - Last {@code point}, exclusive
+	 */
+	public final void transform(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+								final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+								final int from, final int to) {
+		checkRange(matrix, from, to);
+		checkArrays(to, x, y, z, w);
+		checkArrays(to, outX, outY, outZ, outW);
+		
+		transformRange(matrix, x, y, z, w, outX, outY, outZ, outW, from, to);
+	}
+	
+	/**
+	 * Same as {@link #transform(Mat4f, float[], float[], float[], float[], float[], float[], float[], float[], int, int)}
+	 * for points that have a {@code w} of {@code 1}, such as the vertices of a mesh
+	 * 
+	 * @param matrix
+	 * - {@code Matrix} to transform by
+	 * 
+	 * @param x
+	 * - {@code X} of every point, same for {@code y} and {@code z}
+	 * 
+	 * @param outX
+	 * - {@code X} of every transformed point, same for {@code outY}, {@code outZ} and {@code outW}
+	 * 
+	 * @param from
+	 * - First {@code point}
+	 * 
+	 * @param to
+	 * - Last {@code point}, exclusive
+	 */
+	public final void transformPoints(final Mat4f matrix, final float[] x, final float[] y, final float[] z,
+									  final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+									  final int from, final int to) {
+		checkRange(matrix, from, to);
+		checkArrays(to, x, y, z);
+		checkArrays(to, outX, outY, outZ, outW);
+		
+		transformPointsRange(matrix, x, y, z, outX, outY, outZ, outW, from, to);
+	}
+	
+	/**
+	 * Transforms the points {@code [from, to)} by the {@code matrix}, divides them by their
+	 * {@code w} and scales them to the screen:
+	 * <br>
+	 * <br>
+	 * {@code screenX = (x / w + offsetX) * halfWidth}
+	 * <br>
+	 * {@code screenY = (y / w + offsetY) * halfHeight}
+	 * <br>
+	 * {@code depth = z / w}
+	 * <br>
+	 * <br>
+	 * Points are not clipped, so the matrix should keep them in front of the camera
+	 * 
+	 * @param matrix
+	 * - {@code Matrix} to transform by, usually model, view and projection
+	 * 
+	 * @param x
+	 * - {@code X} of every point, same for {@code y}, {@code z} and {@code w}
+	 * 
+	 * @param screenX
+	 * - {@code X} on the screen of every point, same for {@code screenY}
+	 * 
+	 * @param depth
+	 * - {@code Depth} of every point
+	 * 
+	 * @param from
+	 * - First {@code point}
+	 * 
+	 * @param to
+	 * - Last {@code point}, exclusive
+	 * 
+	 * @param offsetX
+	 * - Offset added to the divided {@code x}, same for {@code offsetY}
+	 * 
+	 * @param halfWidth
+	 * - {@code Half} of the width of the screen, same for {@code halfHeight}
+	 */
+	public final void project(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+							  final float[] screenX, final float[] screenY, final float[] depth,
+							  final int from, final int to,
+							  final float offsetX, final float offsetY, final float halfWidth, final float halfHeight) {
+		checkRange(matrix, from, to);
+		checkArrays(to, x, y, z, w);
+		checkArrays(to, screenX, screenY, depth);
+		
+		projectRange(matrix, x, y, z, w, screenX, screenY, depth, from, to, offsetX, offsetY, halfWidth, halfHeight);
+	}
+	
+	/**
+	 * Throws if the {@code matrix} is missing or the range {@code [from, to)} is invalid
+	 */
+	private static void checkRange(final Mat4f matrix, final int from, final int to) {
+		if(matrix == null) throw new IllegalArgumentException("Matrix must not be null!");
+		if(from < 0 || from > to) throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")!");
+	}
+	
+	/**
+	 * Throws if any of the {@code arrays} can't hold {@code to} points
+	 */
+	private static void checkArrays(final int to, final float[] a, final float[] b, final float[] c) {
+		if(a == null || b == null || c == null) throw new IllegalArgumentException("Arrays must not be null!");
+		if(a.length < to || b.length < to || c.length < to) throw new IllegalArgumentException("Arrays can't hold " + to + " points!");
+	}
+	
+	/**
+	 * Throws if any of the {@code arrays} can't hold {@code to} points
+	 */
+	private static void checkArrays(final int to, final float[] a, final float[] b, final float[] c, final float[] d) {
+		if(a == null || b == null || c == null || d == null) throw new IllegalArgumentException("Arrays must not be null!");
+		if(a.length < to || b.length < to || c.length < to || d.length < to) throw new IllegalArgumentException("Arrays can't hold " + to + " points!");
+	}
+	
+	// ******************************************************
+	// Plain loops, the vector lanes finish their tails with them
+	// ******************************************************
+	
+	void transformRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+						final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+						final int from, final int to) {
+		final float m00 = matrix.m00, m01 = matrix.m01, m02 = matrix.m02, m03 = matrix.m03;
+		final float m10 = matrix.m10, m11 = matrix.m11, m12 = matrix.m12, m13 = matrix.m13;
+		final float m20 = matrix.m20, m21 = matrix.m21, m22 = matrix.m22, m23 = matrix.m23;
+		final float m30 = matrix.m30, m31 = matrix.m31, m32 = matrix.m32, m33 = matrix.m33;
+		
+		for(int i = from; i < to; i++) {
+			final float pointX = x[i], pointY = y[i], pointZ = z[i], pointW = w[i];
+			
+			outX[i] = pointX * m00 + pointY * m10 + pointZ * m20 + pointW * m30;
+			outY[i] = pointX * m01 + pointY * m11 + pointZ * m21 + pointW * m31;
+			outZ[i] = pointX * m02 + pointY * m12 + pointZ * m22 + pointW * m32;
+			outW[i] = pointX * m03 + pointY * m13 + pointZ * m23 + pointW * m33;
+		}
+	}
+	
+	void transformPointsRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z,
+							  final float[] outX, final float[] outY, final float[] outZ, final float[] outW,
+							  final int from, final int to) {
+		final float m00 = matrix.m00, m01 = matrix.m01, m02 = matrix.m02, m03 = matrix.m03;
+		final float m10 = matrix.m10, m11 = matrix.m11, m12 = matrix.m12, m13 = matrix.m13;
+		final float m20 = matrix.m20, m21 = matrix.m21, m22 = matrix.m22, m23 = matrix.m23;
+		final float m30 = matrix.m30, m31 = matrix.m31, m32 = matrix.m32, m33 = matrix.m33;
+		
+		for(int i = from; i < to; i++) {
+			final float pointX = x[i], pointY = y[i], pointZ = z[i];
+			
+			outX[i] = pointX * m00 + pointY * m10 + pointZ * m20 + m30;
+			outY[i] = pointX * m01 + pointY * m11 + pointZ * m21 + m31;
+			outZ[i] = pointX * m02 + pointY * m12 + pointZ * m22 + m32;
+			outW[i] = pointX * m03 + pointY * m13 + pointZ * m23 + m33;
+		}
+	}
+	
+	void projectRange(final Mat4f matrix, final float[] x, final float[] y, final float[] z, final float[] w,
+					  final float[] screenX, final float[] screenY, final float[] depth,
+					  final int from, final int to,
+					  final float offsetX, final float offsetY, final float halfWidth, final float halfHeight) {
+		final float m00 = matrix.m00, m01 = matrix.m01, m02 = matrix.m02, m03 = matrix.m03;
+		final float m10 = matrix.m10, m11 = matrix.m11, m12 = matrix.m12, m13 = matrix.m13;
+		final float m20 = matrix.m20, m21 = matrix.m21, m22 = matrix.m22, m23 = matrix.m23;
+		final float m30 = matrix.m30, m31 = matrix.m31, m32 = matrix.m32, m33 = matrix.m33;
+		
+		for(int i = from; i < to; i++) {
+			final float pointX = x[i], pointY = y[i], pointZ = z[i], pointW = w[i];
+			
+			final float clipX = pointX * m00 + pointY * m10 + pointZ * m20 + pointW * m30;
+			final float clipY = pointX * m01 + pointY * m11 + pointZ * m21 + pointW * m31;
+			final float clipZ = pointX * m02 + pointY * m12 + pointZ * m22 + pointW * m32;
+			final float clipW = pointX * m03 + pointY * m13 + pointZ * m23 + pointW * m33;
+			
+			// Perspective divide, then the screen
+			screenX[i] = (clipX / clipW + offsetX) * halfWidth;
+			screenY[i] = (clipY / clipW + offsetY) * halfHeight;
+			depth[i] = clipZ / clipW;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.article.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Flat run of floats behind {@link Vec3FArray} and {@link Vec4FArray}, either a
+ * {@code float[]} on the heap or a direct {@code FloatBuffer} outside of it... the
+ * off heap floats are never scanned nor moved by the garbage collector
+ * <br>
+ * <br>
+ * Every bulk operation uses the absolute methods of the buffer, so the position
+ * of the buffer is never touched and storages can be read from several threads
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+abstract class FloatStorage {
+	/**
+	 * @param length
+	 * - {@code Number} of floats
+	 * 
+	 * @return
+	 * - {@code Storage} backed by a new {@code float[]}
+	 */
+	static FloatStorage heap(final int length) {
+		if(length < 0) throw new IllegalArgumentException("Length cannot be less than zero!");
+		
+		return new Heap(new float[length]);
+	}
+	
+	/**
+	 * @param values
+	 * - {@code Floats} to use, they are not copied
+	 * 
+	 * @return
+	 * - {@code Storage} backed by the given {@code float[]}
+	 */
+	static FloatStorage wrap(final float[] values) {
+		if(values == null) throw new IllegalArgumentException("Values must not be null!");
+		
+		return new Heap(values);
+	}
+	
+	/**
+	 * @param length
+	 * - {@code Number} of floats
+	 * 
+	 * @return
+	 * - {@code Storage} backed by a new direct buffer, in the native byte order
+	 */
+	static FloatStorage offHeap(final int length) {
+		if(length < 0) throw new IllegalArgumentException("Length cannot be less than zero!");
+		if(length > Integer.MAX_VALUE / Float.BYTES) throw new IllegalArgumentException("Length is too big for a direct buffer!");
+		
+		return new OffHeap(ByteBuffer.allocateDirect(length * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer());
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the floats live outside of the heap; {@code false} otherwise
+	 */
+	abstract boolean isOffHeap();
+	
+	abstract float get(int index);
+	
+	abstract void set(int index, float value);
+	
+	/**
+	 * Copies {@code length} floats from {@code index} into the {@code destination}
+	 */
+	abstract void get(int index, float[] destination, int offset, int length);
+	
+	/**
+	 * Copies {@code length} floats of the {@code source} to {@code index}
+	 */
+	abstract void set(int index, float[] source, int offset, int length);
+	
+	/**
+	 * Copies {@code length} floats between two storages, which may be the same one
+	 * with overlapping ranges
+	 */
+	static void copy(final FloatStorage source, final int sourceIndex, final FloatStorage destination, final int destinationIndex, final int length) {
+		if(source instanceof Heap) {
+			destination.set(destinationIndex, ((Heap)source).values, sourceIndex, length);
+		} else if(destination instanceof Heap) {
+			source.get(sourceIndex, ((Heap)destination).values, destinationIndex, length);
+		} else {
+			// Direct buffers move the bytes as a memmove does
+			((OffHeap)destination).buffer.put(destinationIndex, ((OffHeap)source).buffer, sourceIndex, length);
+		}
+	}
+	
+	/**
+	 * Floats of a {@code float[]}
+	 */
+	private static final class Heap extends FloatStorage {
+		private final float[] values;
+		
+		private Heap(final float[] values) {
+			this.values = values;
+		}
+		
+		@Override
+		boolean isOffHeap() {
+			return false;
+		}
+		
+		@Override
+		float get(final int index) {
+			return values[index];
+		}
+		
+		@Override
+		void set(final int index, final float value) {
+			values[index] = value;
+		}
+		
+		@Override
+		void get(final int index, final float[] destination, final int offset, final int length) {
+			System.arraycopy(values, index, destination, offset, length);
+		}
+		
+		@Override
+		void set(final int index, final float[] source, final int offset, final int length) {
+			System.arraycopy(source, offset, values, index, length);
+		}
+	}
+	
+	/**
+	 * Floats of a direct {@code FloatBuffer}
+	 */
+	private static final class OffHeap extends FloatStorage {
+		private final FloatBuffer buffer;
+		
+		private OffHeap(final FloatBuffer buffer) {
+			this.buffer = buffer;
+		}
+		
+		@Override
+		boolean isOffHeap() {
+			return true;
+		}
+		
+		@Override
+		float get(final int index) {
+			return buffer.get(index);
+		}
+		
+		@Override
+		void set(final int index, final float value) {
+			buffer.put(index, value);
+		}
+		
+		@Override
+		void get(final int index, final float[] destination, final int offset, final int length) {
+			buffer.get(index, destination, offset, length);
+		}
+		
+		@Override
+		void set(final int index, final float[] source, final int offset, final int length) {
+			buffer.put(index, source, offset, length);
+		}
+	}
+}
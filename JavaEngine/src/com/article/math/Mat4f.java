@@ -0,0 +1,526 @@
+package com.article.math;
+
+/**
+ * A {@code 4 by 4} matrix of floats held in sixteen fields, with the same Row - Column
+ * order as {@link MatrixF}... points are row vectors multiplied on the left, so the
+ * translation lives in the last row
+ * <br>
+ * <br>
+ * Every operation is unrolled and has a variant that writes into a {@code destination},
+ * which may be one of the operands, so transforms can run without creating objects.
+ * The setters build the same values as the matrices of {@code com.article.math.matrix}
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public final class Mat4f {
+	public float m00, m01, m02, m03;
+	public float m10, m11, m12, m13;
+	public float m20, m21, m22, m23;
+	public float m30, m31, m32, m33;
+	
+	/**
+	 * Creates an {@code identity} matrix
+	 */
+	public Mat4f() {
+		identity();
+	}
+	
+	/**
+	 * @param matrix
+	 * - {@code Matrix} to copy
+	 */
+	public Mat4f(final Mat4f matrix) {
+		set(matrix);
+	}
+	
+	/**
+	 * @param matrix
+	 * - {@code Matrix 4x4} to copy
+	 */
+	public Mat4f(final MatrixF matrix) {
+		set(matrix);
+	}
+	
+	// ******************************************************
+	// Setters
+	// ******************************************************
+	
+	/**
+	 * Sets this matrix to the {@code identity}
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f identity() {
+		return set(1.0F, 0.0F, 0.0F, 0.0F,
+				   0.0F, 1.0F, 0.0F, 0.0F,
+				   0.0F, 0.0F, 1.0F, 0.0F,
+				   0.0F, 0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * Sets every value, row by row
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f set(final float m00, final float m01, final float m02, final float m03,
+					 final float m10, final float m11, final float m12, final float m13,
+					 final float m20, final float m21, final float m22, final float m23,
+					 final float m30, final float m31, final float m32, final float m33) {
+		this.m00 = m00; this.m01 = m01; this.m02 = m02; this.m03 = m03;
+		this.m10 = m10; this.m11 = m11; this.m12 = m12; this.m13 = m13;
+		this.m20 = m20; this.m21 = m21; this.m22 = m22; this.m23 = m23;
+		this.m30 = m30; this.m31 = m31; this.m32 = m32; this.m33 = m33;
+		
+		return this;
+	}
+	
+	/**
+	 * Copies every value of another {@code matrix}
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f set(final Mat4f matrix) {
+		return set(matrix.m00, matrix.m01, matrix.m02, matrix.m03,
+				   matrix.m10, matrix.m11, matrix.m12, matrix.m13,
+				   matrix.m20, matrix.m21, matrix.m22, matrix.m23,
+				   matrix.m30, matrix.m31, matrix.m32, matrix.m33);
+	}
+	
+	/**
+	 * Copies every value of a {@code Matrix 4x4}, such as the rotation,
+	 * projection and point at matrices
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f set(final MatrixF matrix) {
+		// Invalid size
+		if(matrix.size() != 4) throw new IllegalArgumentException("Matrix must be 4x4!");
+		
+		final float[][] values = matrix.values;
+		return set(values[0][0], values[0][1], values[0][2], values[0][3],
+				   values[1][0], values[1][1], values[1][2], values[1][3],
+				   values[2][0], values[2][1], values[2][2], values[2][3],
+				   values[3][0], values[3][1], values[3][2], values[3][3]);
+	}
+	
+	/**
+	 * Sets this matrix to a rotation around the {@code x axis},
+	 * same as {@code XRotationMatrix}
+	 * 
+	 * @param theta
+	 * - {@code Angle} in radians
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setRotationX(final float theta) {
+		final float cos = (float)Math.cos(theta), sin = (float)Math.sin(theta);
+		
+		return set(1.0F, 0.0F, 0.0F, 0.0F,
+				   0.0F, cos,  sin,  0.0F,
+				   0.0F, -sin, cos,  0.0F,
+				   0.0F, 0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * Sets this matrix to a rotation around the {@code y axis},
+	 * same as {@code YRotationMatrix}
+	 * 
+	 * @param theta
+	 * - {@code Angle} in radians
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setRotationY(final float theta) {
+		final float cos = (float)Math.cos(theta), sin = (float)Math.sin(theta);
+		
+		return set(cos,  0.0F, sin,  0.0F,
+				   0.0F, 1.0F, 0.0F, 0.0F,
+				   -sin, 0.0F, cos,  0.0F,
+				   0.0F, 0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * Sets this matrix to a rotation around the {@code z axis},
+	 * same as {@code ZRotationMatrix}
+	 * 
+	 * @param theta
+	 * - {@code Angle} in radians
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setRotationZ(final float theta) {
+		final float cos = (float)Math.cos(theta), sin = (float)Math.sin(theta);
+		
+		return set(cos,  sin,  0.0F, 0.0F,
+				   -sin, cos,  0.0F, 0.0F,
+				   0.0F, 0.0F, 1.0F, 0.0F,
+				   0.0F, 0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * Sets this matrix to a {@code translation}
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setTranslation(final float x, final float y, final float z) {
+		return set(1.0F, 0.0F, 0.0F, 0.0F,
+				   0.0F, 1.0F, 0.0F, 0.0F,
+				   0.0F, 0.0F, 1.0F, 0.0F,
+				   x,    y,    z,    1.0F);
+	}
+	
+	/**
+	 * Sets this matrix to a {@code projection}, same as {@code ProjectionMatrix}
+	 * 
+	 * @param FOV
+	 * - {@code Field of view} in degrees
+	 * 
+	 * @param aspectRatio
+	 * - {@code Height} of the screen divided by its width
+	 * 
+	 * @param nearPlane
+	 * - Location of the {@code near plane}
+	 * 
+	 * @param farPlane
+	 * - Location of the {@code far plane}
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setProjection(final float FOV, final float aspectRatio, final float nearPlane, final float farPlane) {
+		final float inverseTangent = 1 / (float)Math.tan(FOV * 0.5F / 180 * 3.14159F);
+		
+		return set(aspectRatio * inverseTangent, 0.0F, 0.0F, 0.0F,
+				   0.0F, inverseTangent, 0.0F, 0.0F,
+				   0.0F, 0.0F, farPlane / (farPlane - nearPlane), 1.0F,
+				   0.0F, 0.0F, -(farPlane * nearPlane) / (farPlane - nearPlane), 0.0F);
+	}
+	
+	/**
+	 * Sets this matrix to look from a position to a destination, same as {@code PointAtMatrix3D}
+	 * 
+	 * @return
+	 * - This matrix
+	 */
+	public Mat4f setPointAt(final float positionX, final float positionY, final float positionZ,
+							final float destinationX, final float destinationY, final float destinationZ,
+							final float upX, final float upY, final float upZ) {
+		// New Forward vector calculation
+		float forwardX = destinationX - positionX, forwardY = destinationY - positionY, forwardZ = destinationZ - positionZ;
+		float length = (float)Math.sqrt(forwardX * forwardX + forwardY * forwardY + forwardZ * forwardZ);
+		if(length == 0.0) {
+			forwardX = forwardY = forwardZ = 0.0F;
+		} else {
+			forwardX /= length; forwardY /= length; forwardZ /= length;
+		}
+		
+		// New Up vector calculation
+		final float dot = upX * forwardX + upY * forwardY + upZ * forwardZ;
+		float newUpX = upX - forwardX * dot, newUpY = upY - forwardY * dot, newUpZ = upZ - forwardZ * dot;
+		length = (float)Math.sqrt(newUpX * newUpX + newUpY * newUpY + newUpZ * newUpZ);
+		if(length == 0.0) {
+			newUpX = newUpY = newUpZ = 0.0F;
+		} else {
+			newUpX /= length; newUpY /= length; newUpZ /= length;
+		}
+		
+		// Right vector is the cross product of up and forward
+		return set(newUpY * forwardZ - newUpZ * forwardY, newUpZ * forwardX - newUpX * forwardZ, newUpX * forwardY - newUpY * forwardX, 0.0F,
+				   newUpX, newUpY, newUpZ, 0.0F,
+				   forwardX, forwardY, forwardZ, 0.0F,
+				   positionX, positionY, positionZ, 1.0F);
+	}
+	
+	// ******************************************************
+	// Operations
+	// ******************************************************
+	
+	/**
+	 * Multiplies this matrix by another, {@code this * matrix}
+	 * 
+	 * @param matrix
+	 * - {@code Matrix} on the right
+	 * 
+	 * @return
+	 * - {@code New matrix} with the product
+	 */
+	public Mat4f multiply(final Mat4f matrix) {
+		return multiply(matrix, new Mat4f());
+	}
+	
+	/**
+	 * Multiplies this matrix by another, {@code this * matrix}, into a {@code destination}...
+	 * the destination may be either operand
+	 * 
+	 * @param matrix
+	 * - {@code Matrix} on the right
+	 * 
+	 * @param destination
+	 * - {@code Matrix} to store the product in
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public Mat4f multiply(final Mat4f matrix, final Mat4f destination) {
+		final Mat4f b = matrix;
+		
+		return destination.set(
+				m00 * b.m00 + m01 * b.m10 + m02 * b.m20 + m03 * b.m30,
+				m00 * b.m01 + m01 * b.m11 + m02 * b.m21 + m03 * b.m31,
+				m00 * b.m02 + m01 * b.m12 + m02 * b.m22 + m03 * b.m32,
+				m00 * b.m03 + m01 * b.m13 + m02 * b.m23 + m03 * b.m33,
+				
+				m10 * b.m00 + m11 * b.m10 + m12 * b.m20 + m13 * b.m30,
+				m10 * b.m01 + m11 * b.m11 + m12 * b.m21 + m13 * b.m31,
+				m10 * b.m02 + m11 * b.m12 + m12 * b.m22 + m13 * b.m32,
+				m10 * b.m03 + m11 * b.m13 + m12 * b.m23 + m13 * b.m33,
+				
+				m20 * b.m00 + m21 * b.m10 + m22 * b.m20 + m23 * b.m30,
+				m20 * b.m01 + m21 * b.m11 + m22 * b.m21 + m23 * b.m31,
+				m20 * b.m02 + m21 * b.m12 + m22 * b.m22 + m23 * b.m32,
+				m20 * b.m03 + m21 * b.m13 + m22 * b.m23 + m23 * b.m33,
+				
+				m30 * b.m00 + m31 * b.m10 + m32 * b.m20 + m33 * b.m30,
+				m30 * b.m01 + m31 * b.m11 + m32 * b.m21 + m33 * b.m31,
+				m30 * b.m02 + m31 * b.m12 + m32 * b.m22 + m33 * b.m32,
+				m30 * b.m03 + m31 * b.m13 + m32 * b.m23 + m33 * b.m33);
+	}
+	
+	/**
+	 * Transforms a {@code vector}, {@code vector * this}
+	 * 
+	 * @param vector
+	 * - {@code Vector 4D float} to transform
+	 * 
+	 * @return
+	 * - {@code New vector} with the result
+	 */
+	public Vec4F transform(final Vec4F vector) {
+		return transform(vector, new Vec4F());
+	}
+	
+	/**
+	 * Transforms a {@code vector}, {@code vector * this}, into a {@code destination}...
+	 * the destination may be the vector itself
+	 * 
+	 * @param vector
+	 * - {@code Vector 4D float} to transform
+	 * 
+	 * @param destination
+	 * - {@code Vector 4D float} to store the result in
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public Vec4F transform(final Vec4F vector, final Vec4F destination) {
+		final float x = vector.x, y = vector.y, z = vector.z, w = vector.w;
+		
+		destination.x = x * m00 + y * m10 + z * m20 + w * m30;
+		destination.y = x * m01 + y * m11 + z * m21 + w * m31;
+		destination.z = x * m02 + y * m12 + z * m22 + w * m32;
+		destination.w = x * m03 + y * m13 + z * m23 + w * m33;
+		
+		return destination;
+	}
+	
+	/**
+	 * Transforms a {@code point}, its {@code w} is taken as 1
+	 * 
+	 * @param point
+	 * - {@code Vector 3D float} to transform
+	 * 
+	 * @param destination
+	 * - {@code Vector 4D float} to store the result in
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public Vec4F transformPoint(final Vec3F point, final Vec4F destination) {
+		final float x = point.x, y = point.y, z = point.z;
+		
+		destination.x = x * m00 + y * m10 + z * m20 + m30;
+		destination.y = x * m01 + y * m11 + z * m21 + m31;
+		destination.z = x * m02 + y * m12 + z * m22 + m32;
+		destination.w = x * m03 + y * m13 + z * m23 + m33;
+		
+		return destination;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Determinant} of this matrix
+	 */
+	public float determinant() {
+		final float s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+		final float s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+		
+		final float c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+		final float c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+		
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+	
+	/**
+	 * @return
+	 * - {@code New matrix} with the inverse; {@code null} if this matrix cannot be inverted
+	 */
+	public Mat4f invert() {
+		return invert(new Mat4f());
+	}
+	
+	/**
+	 * Inverts this matrix into a {@code destination}, through the 2x2 minors of
+	 * the top and bottom rows... the destination may be this matrix
+	 * 
+	 * @param destination
+	 * - {@code Matrix} to store the inverse in
+	 * 
+	 * @return
+	 * - {@code destination}; {@code null} if this matrix cannot be inverted, the destination is left untouched
+	 */
+	public Mat4f invert(final Mat4f destination) {
+		final float s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+		final float s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+		
+		final float c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+		final float c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+		
+		final float determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+		
+		// Singular
+		if(determinant == 0.0F || Float.isNaN(determinant)) return null;
+		
+		final float d = 1.0F / determinant;
+		return destination.set(
+				( m11 * c5 - m12 * c4 + m13 * c3) * d,
+				(-m01 * c5 + m02 * c4 - m03 * c3) * d,
+				( m31 * s5 - m32 * s4 + m33 * s3) * d,
+				(-m21 * s5 + m22 * s4 - m23 * s3) * d,
+				
+				(-m10 * c5 + m12 * c2 - m13 * c1) * d,
+				( m00 * c5 - m02 * c2 + m03 * c1) * d,
+				(-m30 * s5 + m32 * s2 - m33 * s1) * d,
+				( m20 * s5 - m22 * s2 + m23 * s1) * d,
+				
+				( m10 * c4 - m11 * c2 + m13 * c0) * d,
+				(-m00 * c4 + m01 * c2 - m03 * c0) * d,
+				( m30 * s4 - m31 * s2 + m33 * s0) * d,
+				(-m20 * s4 + m21 * s2 - m23 * s0) * d,
+				
+				(-m10 * c3 + m11 * c1 - m12 * c0) * d,
+				( m00 * c3 - m01 * c1 + m02 * c0) * d,
+				(-m30 * s3 + m31 * s1 - m32 * s0) * d,
+				( m20 * s3 - m21 * s1 + m22 * s0) * d);
+	}
+	
+	/**
+	 * Inverts a matrix made of a rotation and a translation only, such as a
+	 * point at matrix, by transposing the rotation... much cheaper than {@link #invert(Mat4f)}
+	 * 
+	 * @param destination
+	 * - {@code Matrix} to store the inverse in, may be this matrix
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public Mat4f invertRigid(final Mat4f destination) {
+		final float x = m30, y = m31, z = m32;
+		
+		return destination.set(
+				m00, m10, m20, 0.0F,
+				m01, m11, m21, 0.0F,
+				m02, m12, m22, 0.0F,
+				-(x * m00 + y * m01 + z * m02),
+				-(x * m10 + y * m11 + z * m12),
+				-(x * m20 + y * m21 + z * m22),
+				1.0F);
+	}
+	
+	/**
+	 * Transposes this matrix into a {@code destination}
+	 * 
+	 * @param destination
+	 * - {@code Matrix} to store the transpose in, may be this matrix
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public Mat4f transpose(final Mat4f destination) {
+		return destination.set(
+				m00, m10, m20, m30,
+				m01, m11, m21, m31,
+				m02, m12, m22, m32,
+				m03, m13, m23, m33);
+	}
+	
+	// ******************************************************
+	// Conversion
+	// ******************************************************
+	
+	/**
+	 * @param row
+	 * - Row of the {@code value}
+	 * 
+	 * @param column
+	 * - Column of the {@code value}
+	 * 
+	 * @return
+	 *  - {@code value} at the specified location
+	 */
+	public float get(final int row, final int column) {
+		switch((row << 2) | column) {
+			case 0:  return m00; case 1:  return m01; case 2:  return m02; case 3:  return m03;
+			case 4:  return m10; case 5:  return m11; case 6:  return m12; case 7:  return m13;
+			case 8:  return m20; case 9:  return m21; case 10: return m22; case 11: return m23;
+			case 12: return m30; case 13: return m31; case 14: return m32; case 15: return m33;
+			default: throw new IllegalArgumentException("Row and column must be between 0 and 3!");
+		}
+	}
+	
+	/**
+	 * Copies every value into a {@code Matrix 4x4}
+	 * 
+	 * @param destination
+	 * - {@code Matrix 4x4} to write to
+	 * 
+	 * @return
+	 * - {@code destination}
+	 */
+	public MatrixF toMatrixF(final MatrixF destination) {
+		// Invalid size
+		if(destination.size() != 4) throw new IllegalArgumentException("Matrix must be 4x4!");
+		
+		final float[][] values = destination.values;
+		values[0][0] = m00; values[0][1] = m01; values[0][2] = m02; values[0][3] = m03;
+		values[1][0] = m10; values[1][1] = m11; values[1][2] = m12; values[1][3] = m13;
+		values[2][0] = m20; values[2][1] = m21; values[2][2] = m22; values[2][3] = m23;
+		values[3][0] = m30; values[3][1] = m31; values[3][2] = m32; values[3][3] = m33;
+		
+		return destination;
+	}
+	
+	/**
+	 * @return
+	 * - {@code New Matrix 4x4} with the same values
+	 */
+	public MatrixF toMatrixF() {
+		return toMatrixF(new MatrixF(4));
+	}
+	
+	@Override
+	public String toString() {
+		return "[" + m00 + ", " + m01 + ", " + m02 + ", " + m03 + "]\n"
+			 + "[" + m10 + ", " + m11 + ", " + m12 + ", " + m13 + "]\n"
+			 + "[" + m20 + ", " + m21 + ", " + m22 + ", " + m23 + "]\n"
+			 + "[" + m30 + ", " + m31 + ", " + m32 + ", " + m33 + "]";
+	}
+}
@@ -1,179 +1,378 @@
-package com.article.math;
-
-public final class Mathf {
-	private Mathf() {}
-	
-	/**
-	 * Checks whether {@code value} is {@code greater than} maximum value or
-	 * {@code less than} minimum value
-	 * 
-	 * @param minimumValue
-	 * - Minimum value for {@code value} given
-	 * 
-	 * @param maximumValue
-	 * - Maximum value for {@code value} given
-	 * 
-	 * @param value
-	 * - Value to {@code examine}
-	 * 
-	 * @return
-	 * {@code value} if it is somewhere in the middle
-	 */
-	public static int lock(final int minimumValue, final int maximumValue, final int value) {
-		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
-	}
-	
-	/**
-	 * Checks whether {@code value} is {@code greater than} maximum value or
-	 * {@code less than} minimum value
-	 * 
-	 * @param minimumValue
-	 * - Minimum value for {@code value} given
-	 * 
-	 * @param maximumValue
-	 * - Maximum value for {@code value} given
-	 * 
-	 * @param value
-	 * - Value to {@code examine}
-	 * 
-	 * @return
-	 * {@code value} if it is somewhere in the middle
-	 */
-	public static float lock(final float minimumValue, final float maximumValue, final float value) {
-		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
-	}
-	
-	/**
-	 * Checks whether {@code value} is {@code greater than} maximum value or
-	 * {@code less than} minimum value
-	 * 
-	 * @param minimumValue
-	 * - Minimum value for {@code value} given
-	 * 
-	 * @param maximumValue
-	 * - Maximum value for {@code value} given
-	 * 
-	 * @param value
-	 * - Value to {@code examine}
-	 * 
-	 * @return
-	 * {@code value} if it is somewhere in the middle
-	 */
-	public static double lock(final double minimumValue, final double maximumValue, final double value) {
-		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
-	}
-	
-	/**
-	 * <strong>LERP</strong> {@code [Linear Interpolation]}
-	 * <br>
-	 * <br>
-	 * Returns a {@code float} based on the values given
-	 * <hr>
-	 * <em>FORMULA:</em> <br>
-	 * <p style="font-size: 1.5em">	Start + Percentage * (End - Start) </p>
-	 * This returns a value between {@code START} and {@code END} if {@code PERCENTAGE}
-	 * is between {@code 0} and {@code 1}
-	 * 
-	 * @param start
-	 * - Beginning {@code number}
-	 * 
-	 * @param end
-	 * - Ending {@code number}
-	 * 
-	 * @param percentage
-	 * - {@code LERP} percentage
-	 * 
-	 * @return
-	 * - {@code Output} value
-	 * 
-	 * @since WIP 1.2
-	 */
-	public static float lerp(final float start, final float end, final float percentage) {
-		return start + percentage * (end - start);
-	}
-	
-	/**
-	 * <strong>LERP</strong> {@code [Linear Interpolation]}
-	 * <br>
-	 * <br>
-	 * Returns a {@code double} based on the values given
-	 * <hr>
-	 * <em>FORMULA:</em> <br>
-	 * <p style="font-size: 1.5em">	Start + Percentage * (End - Start) </p>
-	 * This returns a value between {@code START} and {@code END} if {@code PERCENTAGE}
-	 * is between {@code 0} and {@code 1}
-	 * 
-	 * @param start
-	 * - Beginning {@code number}
-	 * 
-	 * @param end
-	 * - Ending {@code number}
-	 * 
-	 * @param percentage
-	 * - {@code LERP} percentage
-	 * 
-	 * @return
-	 * - {@code Output} value
-	 * 
-	 * @since WIP 1.2
-	 */
-	public static double lerp(final double start, final double end, final double percentage) {
-		return start + percentage * (end - start);
-	}
-	
-	/**
-	 * Perform {@code matrix multiplication} between two matrices
-	 * 
-	 * @param matrix1
-	 * - {@code Matrix} to multiply
-	 * 
-	 * @param matrix2
-	 * - {@code Matrix} to multiply
-	 * 
-	 * @return
-	 * {@code Output} if operation is successful; {@code null} if not
-	 */
-	public static Matrix multiplyMatrix(final Matrix matrix1, final Matrix matrix2) {
-		// Invalid size
-		if(matrix1.size() != matrix2.size()) return null;
-		
-		// Size of the matrix
-		final int size = matrix1.size();
-		
-		// Matrix to return
-		final Matrix outputMatrix = new Matrix(size);
-		
-		// Perform Matrix multiplication
-		for(int i = 0; i < size; i++)   
-			for(int j = 0; j < size; j++)
-				for(int k = 0; k < size; k++)  
-					outputMatrix.set(i, j, outputMatrix.get(i, j) + matrix1.get(i, k) * matrix2.get(k, j));
-		
-		return outputMatrix;
-	}
-	
-	/**
-	 * Fast Inverse Square root - <strong>Java implementation of</strong> {@code Q_rsqrt()}
-	 * <hr>
-	 * This method returns the {@code inverse} of the square root of a number
-	 * <p style="font-size: 2em">1 / squareRootOf->X</p>
-	 * 
-	 * @param number
-	 * - Number to get the {@code inverse square root} of
-	 * 
-	 * @return
-	 * - Inverse square root of the given {@code number}
-	 */
-	public static float fastInverseSqrt(float number) {
-		// Evil floating point bit level hacking
-	    int i = Float.floatToIntBits(number);
-	    
-	    // What the
-	    i = 0x5f3759df - (i >> 1);
-	    number = Float.intBitsToFloat(i);
-	    
-	    // 1st iteration
-	    number *= (1.5f - (number * 0.5F) * number * number);
-	    return number;
-	}
+package com.article.math;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class Mathf {
+	// Rows and columns of the blocks of a matrix product, 64 x 64 floats fill 16 KB of cache
+	public static final int MATRIX_BLOCK_SIZE = 64;
+	
+	// Matrices at least this big are multiplied on several threads
+	public static final int PARALLEL_MATRIX_SIZE = 256;
+	
+	private Mathf() {}
+	
+	/**
+	 * Checks whether {@code value} is {@code greater than} maximum value or
+	 * {@code less than} minimum value
+	 * 
+	 * @param minimumValue
+	 * - Minimum value for {@code value} given
+	 * 
+	 * @param maximumValue
+	 * - Maximum value for {@code value} given
+	 * 
+	 * @param value
+	 * - Value to {@code examine}
+	 * 
+	 * @return
+	 * {@code value} if it is somewhere in the middle
+	 */
+	public static int lock(final int minimumValue, final int maximumValue, final int value) {
+		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
+	}
+	
+	/**
+	 * Checks whether {@code value} is {@code greater than} maximum value or
+	 * {@code less than} minimum value
+	 * 
+	 * @param minimumValue
+	 * - Minimum value for {@code value} given
+	 * 
+	 * @param maximumValue
+	 * - Maximum value for {@code value} given
+	 * 
+	 * @param value
+	 * - Value to {@code examine}
+	 * 
+	 * @return
+	 * {@code value} if it is somewhere in the middle
+	 */
+	public static float lock(final float minimumValue, final float maximumValue, final float value) {
+		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
+	}
+	
+	/**
+	 * Checks whether {@code value} is {@code greater than} maximum value or
+	 * {@code less than} minimum value
+	 * 
+	 * @param minimumValue
+	 * - Minimum value for {@code value} given
+	 * 
+	 * @param maximumValue
+	 * - Maximum value for {@code value} given
+	 * 
+	 * @param value
+	 * - Value to {@code examine}
+	 * 
+	 * @return
+	 * {@code value} if it is somewhere in the middle
+	 */
+	public static double lock(final double minimumValue, final double maximumValue, final double value) {
+		return value > maximumValue ? maximumValue : (value < minimumValue ? minimumValue : value);
+	}
+	
+	/**
+	 * <strong>LERP</strong> {@code [Linear Interpolation]}
+	 * <br>
+	 * <br>
+	 * Returns a {@code float} based on the values given
+	 * <hr>
+	 * <em>FORMULA:</em> <br>
+	 * <p style="font-size: 1.5em">	Start + Percentage * (End - Start) </p>
+	 * This returns a value between {@code START} and {@code END} if {@code PERCENTAGE}
+	 * is between {@code 0} and {@code 1}
+	 * 
+	 * @param start
+	 * - Beginning {@code number}
+	 * 
+	 * @param end
+	 * - Ending {@code number}
+	 * 
+	 * @param percentage
+	 * - {@code LERP} percentage
+	 * 
+	 * @return
+	 * - {@code Output} value
+	 * 
+	 * @since WIP 1.2
+	 */
+	public static float lerp(final float start, final float end, final float percentage) {
+		return start + percentage * (end - start);
+	}
+	
+	/**
+	 * <strong>LERP</strong> {@code [Linear Interpolation]}
+	 * <br>
+	 * <br>
+	 * Returns a {@code double} based on the values given
+	 * <hr>
+	 * <em>FORMULA:</em> <br>
+	 * <p style="font-size: 1.5em">	Start + Percentage * (End - Start) </p>
+	 * This returns a value between {@code START} and {@code END} if {@code PERCENTAGE}
+	 * is between {@code 0} and {@code 1}
+	 * 
+	 * @param start
+	 * - Beginning {@code number}
+	 * 
+	 * @param end
+	 * - Ending {@code number}
+	 * 
+	 * @param percentage
+	 * - {@code LERP} percentage
+	 * 
+	 * @return
+	 * - {@code Output} value
+	 * 
+	 * @since WIP 1.2
+	 */
+	public static double lerp(final double start, final double end, final double percentage) {
+		return start + percentage * (end - start);
+	}
+	
+	/**
+	 * Perform {@code matrix multiplication} between two matrices
+	 * 
+	 * @param matrix1
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param matrix2
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @return
+	 * {@code Output} if operation is successful; {@code null} if not
+	 */
+	public static Matrix multiplyMatrix(final Matrix matrix1, final Matrix matrix2) {
+		// Invalid size
+		if(matrix1.size() != matrix2.size()) return null;
+		
+		return multiplyMatrix(matrix1, matrix2, new Matrix(matrix1.size()));
+	}
+	
+	/**
+	 * Perform {@code matrix multiplication} between two matrices,
+	 * the product is written into {@code outputMatrix}
+	 * 
+	 * @param matrix1
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param matrix2
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param outputMatrix
+	 * - {@code Matrix} to write to, cannot be one of the matrices to multiply
+	 * 
+	 * @return
+	 * {@code outputMatrix} if operation is successful; {@code null} if not
+	 */
+	public static Matrix multiplyMatrix(final Matrix matrix1, final Matrix matrix2, final Matrix outputMatrix) {
+		// Size of the matrix
+		final int size = matrix1.size();
+		
+		// Invalid size
+		if(matrix2.size() != size || outputMatrix.size() != size) return null;
+		if(outputMatrix == matrix1 || outputMatrix == matrix2) throw new IllegalArgumentException("Output matrix cannot be multiplied!");
+		
+		// Perform Matrix multiplication
+		// Rows of the second matrix are walked in order, i - k - j
+		for(int i = 0; i < size; i++) {
+			final int[] row1 = matrix1.values[i];
+			final int[] outputRow = outputMatrix.values[i];
+			Arrays.fill(outputRow, 0);
+			
+			for(int k = 0; k < size; k++) {
+				final int value = row1[k];
+				final int[] row2 = matrix2.values[k];
+				
+				for(int j = 0; j < size; j++)
+					outputRow[j] += value * row2[j];
+			}
+		}
+		
+		return outputMatrix;
+	}
+	
+	/**
+	 * Perform {@code matrix multiplication} between two matrices
+	 * 
+	 * @param matrix1
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param matrix2
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @return
+	 * {@code Output} if operation is successful; {@code null} if not
+	 * 
+	 * @see #multiplyMatrix(MatrixF, MatrixF, MatrixF)
+	 */
+	public static MatrixF multiplyMatrix(final MatrixF matrix1, final MatrixF matrix2) {
+		// Invalid size
+		if(matrix1.size() != matrix2.size()) return null;
+		
+		return multiplyMatrix(matrix1, matrix2, new MatrixF(matrix1.size()));
+	}
+	
+	/**
+	 * Perform {@code matrix multiplication} between two matrices,
+	 * the product is written into {@code outputMatrix}
+	 * 
+	 * @param matrix1
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param matrix2
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @param outputMatrix
+	 * - {@code Matrix} to write to, cannot be one of the matrices to multiply
+	 * 
+	 * @return
+	 * {@code outputMatrix} if operation is successful; {@code null} if not
+	 */
+	public static MatrixF multiplyMatrix(final MatrixF matrix1, final MatrixF matrix2, final MatrixF outputMatrix) {
+		// Size of the matrix
+		final int size = matrix1.size();
+		
+		// Invalid size
+		if(matrix2.size() != size || outputMatrix.size() != size) return null;
+		if(outputMatrix == matrix1 || outputMatrix == matrix2) throw new IllegalArgumentException("Output matrix cannot be multiplied!");
+		
+		final float[][] values1 = matrix1.values, values2 = matrix2.values, outputValues = outputMatrix.values;
+		
+		// Perform Matrix multiplication
+		if(size == 4) {
+			multiply4(values1, values2, outputValues);
+		} else if(size == 3) {
+			multiply3(values1, values2, outputValues);
+		} else if(size >= PARALLEL_MATRIX_SIZE && ForkJoinPool.getCommonPoolParallelism() > 1) {
+			ForkJoinPool.commonPool().invoke(new MultiplyTask(values1, values2, outputValues, 0, size));
+		} else {
+			multiplyRows(values1, values2, outputValues, 0, size);
+		}
+		
+		return outputMatrix;
+	}
+	
+	/**
+	 * Unrolled product of two {@code 4x4} matrices
+	 */
+	private static void multiply4(final float[][] values1, final float[][] values2, final float[][] outputValues) {
+		final float[] b0 = values2[0], b1 = values2[1], b2 = values2[2], b3 = values2[3];
+		
+		for(int i = 0; i < 4; i++) {
+			final float[] a = values1[i], output = outputValues[i];
+			final float a0 = a[0], a1 = a[1], a2 = a[2], a3 = a[3];
+			
+			output[0] = a0 * b0[0] + a1 * b1[0] + a2 * b2[0] + a3 * b3[0];
+			output[1] = a0 * b0[1] + a1 * b1[1] + a2 * b2[1] + a3 * b3[1];
+			output[2] = a0 * b0[2] + a1 * b1[2] + a2 * b2[2] + a3 * b3[2];
+			output[3] = a0 * b0[3] + a1 * b1[3] + a2 * b2[3] + a3 * b3[3];
+		}
+	}
+	
+	/**
+	 * Unrolled product of two {@code 3x3} matrices
+	 */
+	private static void multiply3(final float[][] values1, final float[][] values2, final float[][] outputValues) {
+		final float[] b0 = values2[0], b1 = values2[1], b2 = values2[2];
+		
+		for(int i = 0; i < 3; i++) {
+			final float[] a = values1[i], output = outputValues[i];
+			final float a0 = a[0], a1 = a[1], a2 = a[2];
+			
+			output[0] = a0 * b0[0] + a1 * b1[0] + a2 * b2[0];
+			output[1] = a0 * b0[1] + a1 * b1[1] + a2 * b2[1];
+			output[2] = a0 * b0[2] + a1 * b1[2] + a2 * b2[2];
+		}
+	}
+	
+	/**
+	 * Computes the rows {@code [from, to)} of the product in {@code i - k - j} order, so the
+	 * rows of the second matrix are read one after the other... large matrices are walked
+	 * in blocks of {@link #MATRIX_BLOCK_SIZE} so a block of the second matrix stays in cache
+	 * while every row uses it. Every value is still summed in the order of {@code k}
+	 */
+	private static void multiplyRows(final float[][] values1, final float[][] values2, final float[][] outputValues, final int from, final int to) {
+		final int size = values2.length;
+		
+		for(int i = from; i < to; i++)
+			Arrays.fill(outputValues[i], 0.0F);
+		
+		for(int blockK = 0; blockK < size; blockK += MATRIX_BLOCK_SIZE) {
+			final int endK = Math.min(blockK + MATRIX_BLOCK_SIZE, size);
+			
+			for(int blockJ = 0; blockJ < size; blockJ += MATRIX_BLOCK_SIZE) {
+				final int endJ = Math.min(blockJ + MATRIX_BLOCK_SIZE, size);
+				
+				for(int i = from; i < to; i++) {
+					final float[] row1 = values1[i];
+					final float[] outputRow = outputValues[i];
+					
+					for(int k = blockK; k < endK; k++) {
+						final float value = row1[k];
+						final float[] row2 = values2[k];
+						
+						for(int j = blockJ; j < endJ; j++)
+							outputRow[j] += value * row2[j];
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Splits the rows of a product in halves until few enough are left
+	 */
+	private static final class MultiplyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final float[][] values1, values2, outputValues;
+		private final int from, to;
+		
+		private MultiplyTask(final float[][] values1, final float[][] values2, final float[][] outputValues, final int from, final int to) {
+			this.values1 = values1;
+			this.values2 = values2;
+			this.outputValues = outputValues;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= MATRIX_BLOCK_SIZE) {
+				multiplyRows(values1, values2, outputValues, from, to);
+				return;
+			}
+			
+			final int middle = (from + to) >>> 1;
+			invokeAll(new MultiplyTask(values1, values2, outputValues, from, middle),
+					  new MultiplyTask(values1, values2, outputValues, middle, to));
+		}
+	}
+	
+	/**
+	 * Fast Inverse Square root - <strong>Java implementation of</strong> {@code Q_rsqrt()}
+	 * <hr>
+	 * This method returns the {@code inverse} of the square root of a number
+	 * <p style="font-size: 2em">1 / squareRootOf->X</p>
+	 * 
+	 * @param number
+	 * - Number to get the {@code inverse square root} of
+	 * 
+	 * @return
+	 * - Inverse square root of the given {@code number}
+	 */
+	public static float fastInverseSqrt(float number) {
+		// Evil floating point bit level hacking
+	    int i = Float.floatToIntBits(number);
+	    
+	    // What the
+	    i = 0x5f3759df - (i >> 1);
+	    number = Float.intBitsToFloat(i);
+	    
+	    // 1st iteration
+	    number *= (1.5f - (number * 0.5F) * number * number);
+	    return number;
+	}
 }
\ No newline at end of file
@@ -1,191 +1,220 @@
-package com.article.math;
-
-/**
- * An {@code N by N} matrix with Row - Column order
- * 
- * <br>
- * This {@code Matrix} holds {@code N^2} floats
- */
-public class MatrixF {
-	protected final float[][] values;
-	
-	/**
-	 * Creates an {@code N by N} matrix	 
-	 * 
-	 * @param size
-	 * - Size of the {@code matrix}
-	 */
-	public MatrixF(final int size) {
-		values = new float[size][size];
-	}
-	
-	/**
-	 * Creates a {@code 1 by 1} matrix
-	 * 
-	 * @see #MatrixF(int)
-	 */
-	public MatrixF() {
-		this(1);
-	}
-	
-	/**
-	 * @return
-	 * {@code size} of this matrix
-	 */
-	public final int size() {
-		return values.length;
-	}
-	
-	/**
-	 * @param row
-	 * - Row of the {@code value}
-	 * 
-	 * @param column
-	 * - Column of the {@code value}
-	 * 
-	 * @return
-	 *  - {@code value} at the specified location
-	 */
-	public float get(final int row, final int column) {
-		return values[row][column];
-	}
-	
-	/**
-	 * Checks whether {@code row} or {@code column} is a valid index
-	 * 
-	 * @param row
-	 * - Row of the {@code value}
-	 * 
-	 * @param column
-	 * - Column of the {@code value}
-	 * 
-	 * @return
-	 * - {@code value} at the specified location
-	 */
-	public float checkedGet(final int row, final int column) {
-		return values[Mathf.lock(0, values.length, row)][Mathf.lock(0, values.length, column)];
-	}
-	
-	/**
-	 * Sets a {@code new value} at a specific location
-	 * 
-	 * @param row
-	 * - Row of the {@code value}
-	 * 
-	 * @param column
-	 * - Column of the {@code value}
-	 * 
-	 * @param value
-	 * - {@code new value}
-	 */
-	public void set(final int row, final int column, final float value) {
-		values[row][column] = value;
-	}
-	
-	/**
-	 * Sets a {@code new value} at a specific location;
-	 * Checks whether {@code row} or {@code column} is a valid index
-	 * 
-	 * @param row
-	 * - Row of the {@code value}
-	 * 
-	 * @param column
-	 * - Column of the {@code value}
-	 * 
-	 * @param value
-	 * - {@code new value}
-	 */
-	public void checkedSet(final int row, final int column, final float value) {
-		values[Mathf.lock(0, values.length, row)][Mathf.lock(0, values.length, column)] = value;
-	}
-	
-	/**
-	 * Adds two {@code matrices} together
-	 * 
-	 * @param mat
-	 * - {@code Matrix} to add
-	 * 
-	 * @return
-	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
-	 */
-	public MatrixF add(final MatrixF mat) {
-		final int size = size();
-		
-		// Invalid size
-		if(mat.size() != size) return null;
-		
-		final MatrixF outputMatrix = new MatrixF(size);
-		
-		for(int row = 0; row < size; row++)
-			for(int column = 0; column < size; column++)
-				outputMatrix.values[row][column] = mat.values[row][column] + values[row][column];
-		
-		return outputMatrix;
-	}
-	
-	/**
-	 * Subtracts two {@code matrices} together
-	 * 
-	 * @param mat
-	 * - {@code Matrix} to subtract
-	 * 
-	 * @return
-	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
-	 */
-	public MatrixF subtract(final MatrixF mat) {
-		final int size = size();
-		
-		// Invalid size
-		if(mat.size() != size) return null;
-		
-		final MatrixF outputMatrix = new MatrixF(size);
-		
-		for(int row = 0; row < size; row++)
-			for(int column = 0; column < size; column++)
-				outputMatrix.values[row][column] = mat.values[row][column] - values[row][column];
-		
-		return outputMatrix;
-	}
-	
-	/**
-	 * Multiplies two {@code matrices} together
-	 * 
-	 * @param mat
-	 * - {@code Matrix} to multiply
-	 * 
-	 * @return
-	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
-	 */
-	@Deprecated
-	public MatrixF multiply(final MatrixF mat) {
-		final int size = size();
-		
-		// Invalid size
-		if(mat.size() != size) return null;
-		
-		final MatrixF outputMatrix = new MatrixF(size);
-		
-		for(int row = 0; row < size; row++)
-			for(int column = 0; column < size; column++)
-				outputMatrix.values[row][column] += mat.values[row][column] * values[row][column];
-		
-		return outputMatrix;
-	}
-	
-	// TODO: Remove this
-	protected static final MatrixF inverse(final MatrixF matrix) {
-		// Matrix to return
-		final MatrixF outputMatrix = new MatrixF(matrix.size());
-		
-		outputMatrix.values[0][0] = matrix.values[0][0]; outputMatrix.values[0][1] = matrix.values[1][0]; outputMatrix.values[0][2] = matrix.values[2][0]; outputMatrix.values[0][3] = 0.0F;
-		outputMatrix.values[1][0] = matrix.values[0][1]; outputMatrix.values[1][1] = matrix.values[1][1]; outputMatrix.values[1][2] = matrix.values[2][1]; outputMatrix.values[1][3] = 0.0F;
-		outputMatrix.values[2][0] = matrix.values[0][2]; outputMatrix.values[2][1] = matrix.values[1][2]; outputMatrix.values[2][2] = matrix.values[2][2]; outputMatrix.values[2][3] = 0.0F;
-	
-		outputMatrix.values[3][0] = -(matrix.values[3][0] * outputMatrix.values[0][0] + matrix.values[3][1] * outputMatrix.values[1][0] + matrix.values[3][2] * outputMatrix.values[2][0]);
-		outputMatrix.values[3][1] = -(matrix.values[3][0] * outputMatrix.values[0][1] + matrix.values[3][1] * outputMatrix.values[1][1] + matrix.values[3][2] * outputMatrix.values[2][1]);
-		outputMatrix.values[3][2] = -(matrix.values[3][0] * outputMatrix.values[0][2] + matrix.values[3][1] * outputMatrix.values[1][2] + matrix.values[3][2] * outputMatrix.values[2][2]);
-		outputMatrix.values[3][3] = 0.0F;
-		
-		return outputMatrix;
-	}
+package com.article.math;
+
+/**
+ * An {@code N by N} matrix with Row - Column order
+ * 
+ * <br>
+ * This {@code Matrix} holds {@code N^2} floats
+ */
+public class MatrixF {
+	protected final float[][] values;
+	
+	/**
+	 * Creates an {@code N by N} matrix	 
+	 * 
+	 * @param size
+	 * - Size of the {@code matrix}
+	 */
+	public MatrixF(final int size) {
+		values = new float[size][size];
+	}
+	
+	/**
+	 * Creates a {@code 1 by 1} matrix
+	 * 
+	 * @see #MatrixF(int)
+	 */
+	public MatrixF() {
+		this(1);
+	}
+	
+	/**
+	 * @return
+	 * {@code size} of this matrix
+	 */
+	public final int size() {
+		return values.length;
+	}
+	
+	/**
+	 * @param row
+	 * - Row of the {@code value}
+	 * 
+	 * @param column
+	 * - Column of the {@code value}
+	 * 
+	 * @return
+	 *  - {@code value} at the specified location
+	 */
+	public float get(final int row, final int column) {
+		return values[row][column];
+	}
+	
+	/**
+	 * Checks whether {@code row} or {@code column} is a valid index
+	 * 
+	 * @param row
+	 * - Row of the {@code value}
+	 * 
+	 * @param column
+	 * - Column of the {@code value}
+	 * 
+	 * @return
+	 * - {@code value} at the specified location
+	 */
+	public float checkedGet(final int row, final int column) {
+		return values[Mathf.lock(0, values.length, row)][Mathf.lock(0, values.length, column)];
+	}
+	
+	/**
+	 * Sets a {@code new value} at a specific location
+	 * 
+	 * @param row
+	 * - Row of the {@code value}
+	 * 
+	 * @param column
+	 * - Column of the {@code value}
+	 * 
+	 * @param value
+	 * - {@code new value}
+	 */
+	public void set(final int row, final int column, final float value) {
+		values[row][column] = value;
+	}
+	
+	/**
+	 * Sets a {@code new value} at a specific location;
+	 * Checks whether {@code row} or {@code column} is a valid index
+	 * 
+	 * @param row
+	 * - Row of the {@code value}
+	 * 
+	 * @param column
+	 * - Column of the {@code value}
+	 * 
+	 * @param value
+	 * - {@code new value}
+	 */
+	public void checkedSet(final int row, final int column, final float value) {
+		values[Mathf.lock(0, values.length, row)][Mathf.lock(0, values.length, column)] = value;
+	}
+	
+	/**
+	 * Copies every {@code value} of another matrix into this one
+	 * 
+	 * @param mat
+	 * - {@code Matrix} with the same size to copy
+	 */
+	public void set(final MatrixF mat) {
+		// Invalid size
+		if(mat.size() != size()) throw new IllegalArgumentException("Matrices must have the same size!");
+		
+		for(int row = 0; row < values.length; row++)
+			System.arraycopy(mat.values[row], 0, values[row], 0, values.length);
+	}
+	
+	/**
+	 * Copies every {@code value} of a {@code Mat4f} into this matrix
+	 * 
+	 * @param mat
+	 * - {@code Matrix} to copy, this matrix must be 4x4
+	 */
+	public void set(final Mat4f mat) {
+		mat.toMatrixF(this);
+	}
+	
+	/**
+	 * Adds two {@code matrices} together
+	 * 
+	 * @param mat
+	 * - {@code Matrix} to add
+	 * 
+	 * @return
+	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
+	 */
+	public MatrixF add(final MatrixF mat) {
+		final int size = size();
+		
+		// Invalid size
+		if(mat.size() != size) return null;
+		
+		final MatrixF outputMatrix = new MatrixF(size);
+		
+		for(int row = 0; row < size; row++)
+			for(int column = 0; column < size; column++)
+				outputMatrix.values[row][column] = mat.values[row][column] + values[row][column];
+		
+		return outputMatrix;
+	}
+	
+	/**
+	 * Subtracts two {@code matrices} together
+	 * 
+	 * @param mat
+	 * - {@code Matrix} to subtract
+	 * 
+	 * @return
+	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
+	 */
+	public MatrixF subtract(final MatrixF mat) {
+		final int size = size();
+		
+		// Invalid size
+		if(mat.size() != size) return null;
+		
+		final MatrixF outputMatrix = new MatrixF(size);
+		
+		for(int row = 0; row < size; row++)
+			for(int column = 0; column < size; column++)
+				outputMatrix.values[row][column] = mat.values[row][column] - values[row][column];
+		
+		return outputMatrix;
+	}
+	
+	/**
+	 * Multiplies two {@code matrices} together
+	 * 
+	 * @param mat
+	 * - {@code Matrix} to multiply
+	 * 
+	 * @return
+	 * - {@code Output Matrix} if operation is successful and both {@code matrices} has the same dimension; {@code null} otherwise
+	 * 
+	 * @deprecated
+	 * Multiplies every value by the value at the same place, which is not a {@code matrix product}...
+	 * use {@link Mathf#multiplyMatrix(MatrixF, MatrixF, MatrixF)} instead
+	 */
+	@Deprecated
+	public MatrixF multiply(final MatrixF mat) {
+		final int size = size();
+		
+		// Invalid size
+		if(mat.size() != size) return null;
+		
+		final MatrixF outputMatrix = new MatrixF(size);
+		
+		for(int row = 0; row < size; row++)
+			for(int column = 0; column < size; column++)
+				outputMatrix.values[row][column] += mat.values[row][column] * values[row][column];
+		
+		return outputMatrix;
+	}
+	
+	// TODO: Remove this
+	protected static final MatrixF inverse(final MatrixF matrix) {
+		return inverse(matrix, new MatrixF(matrix.size()));
+	}
+	
+	protected static final MatrixF inverse(final MatrixF matrix, final MatrixF outputMatrix) {
+		outputMatrix.values[0][0] = matrix.values[0][0]; outputMatrix.values[0][1] = matrix.values[1][0]; outputMatrix.values[0][2] = matrix.values[2][0]; outputMatrix.values[0][3] = 0.0F;
+		outputMatrix.values[1][0] = matrix.values[0][1]; outputMatrix.values[1][1] = matrix.values[1][1]; outputMatrix.values[1][2] = matrix.values[2][1]; outputMatrix.values[1][3] = 0.0F;
+		outputMatrix.values[2][0] = matrix.values[0][2]; outputMatrix.values[2][1] = matrix.values[1][2]; outputMatrix.values[2][2] = matrix.values[2][2]; outputMatrix.values[2][3] = 0.0F;
+	
+		outputMatrix.values[3][0] = -(matrix.values[3][0] * outputMatrix.values[0][0] + matrix.values[3][1] * outputMatrix.values[1][0] + matrix.values[3][2] * outputMatrix.values[2][0]);
+		outputMatrix.values[3][1] = -(matrix.values[3][0] * outputMatrix.values[0][1] + matrix.values[3][1] * outputMatrix.values[1][1] + matrix.values[3][2] * outputMatrix.values[2][1]);
+		outputMatrix.values[3][2] = -(matrix.values[3][0] * outputMatrix.values[0][2] + matrix.values[3][1] * outputMatrix.values[1][2] + matrix.values[3][2] * outputMatrix.values[2][2]);
+		outputMatrix.values[3][3] = 1.0F;
+		
+		return outputMatrix;
+	}
 }
\ No newline at end of file
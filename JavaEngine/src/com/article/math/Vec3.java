@@ -1,496 +1,780 @@
-package com.article.math;
-
-/**
- * {@code Vector 3D Float} class holds 3 floats, being <em>x</em>, <em>y</em> and <em>z</em>
- * <hr>
- * This class could be treated as a coordinate or a {@code math vector} having no coordinates
- * 
- * @version 1.8
- * @since 1.0
- */
-public class Vec3 {
-	protected int x;
-	protected int y;
-	protected int z;
-	
-	/**
-	 * @param x
-	 * - {@code X} value
-	 * 
-	 * @param y
-	 * - {@code Y} value
-	 * 
-	 * @param z
-	 * - {@code Z} value
-	 */
-	public Vec3(final int x, final int y, final int z) {
-		this.x = x;
-		this.y = y;
-		this.z = z;
-	}
-	
-	/**
-	 * @param value
-	 * - Value for {@code x}, {@code y} and {@code z}
-	 * 
-	 * @see #Vec3(int, int, int)
-	 */
-	public Vec3(final int value) {
-		this(value, value, value);
-	}
-	
-	/**
-	 * Sets {@code x, y and z} to {@code 0}
-	 * 
-	 * @see #Vec3(int)
-	 * @see #Vec3(int, int, int)
-	 */
-	public Vec3() {
-		this(0);
-	}
-	
-	/**
-	 * Sets {@code all the value} of this vector to {@code all the value} of the given vector
-	 * 
-	 * @param vector
-	 * - {@code Vector} values
-	 */
-	public Vec3(final Vec3 vector) {
-		x = vector.x;
-		y = vector.y;
-		z = vector.z;
-	}
-	
-	/**
-	 * @return
-	 * the {@code length} or {@code magnitude} of this 3D vector,
-	 * this is achieved through Pythagoras theorem
-	 */
-	public final int length() {
-		return (int)Math.sqrt(x * x + y * y + z * z);
-	}
-	
-	/**
-	 * Returns the {@code sine} of this vector by dividing {@code x}[Adjacent] over
-	 * {@code length}[Hypotenuse]
-	 * 
-	 * @return
-	 * Adjacent {@code over} Hypotenuse
-	 */
-	public final int sin() {
-		return x / length();
-	}
-	
-	/**
-	 * Returns the {@code cosine} of this vector by dividing {@code y}[Opposite] over
-	 * {@code length}[Hypotenuse]
-	 * 
-	 * @return
-	 * Opposite {@code over} Hypotenuse
-	 */
-	public final int cos() {
-		return y / length();
-	}
-	
-	/**
-	 * Returns the {@code tangent} of this vector by dividing {@code y}[Opposite] over
-	 * {@code x}[Adjacent]
-	 * 
-	 * @return
-	 * Opposite {@code over} Adjacent
-	 * 
-	 * @see #slope()
-	 */
-	public final int tan() {
-		return y / x;
-	}
-	
-	/**
-	 * Normalizes this {@code vector 3D}
-	 * 
-	 * @return
-	 * Normalized vector
-	 * 
-	 * @see #fastNormalize()
-	 */
-	public final Vec3 normalize() {
-		// Hypoteneuse_
-		final int length = length();
-		
-		// Vector 2D to return
-		final Vec3 newVec3 = new Vec3();
-		
-		// Prevents division by zero
-		if(length == 0) return newVec3;
-		
-		// Normalize
-		newVec3.x = x / length;
-		newVec3.y = y / length;
-		newVec3.z = z / length;
-		
-		return newVec3;
-	}
-	
-	/**
-	 * Normalizes this {@code vector 3D}
-	 * 
-	 * @return
-	 * Normalized vector
-	 * 
-	 * @see #normalize()
-	 */
-	public final Vec3 fastNormalize() {
-		// Vector 3D to return
-		final Vec3 newVec3 = new Vec3();
-		
-		// Get the inverse square root of length
-		final float inverseSquareRoot = Mathf.fastInverseSqrt(x * x + y * y + z * z);
-		
-		// Sets the value
-		newVec3.x = (int)(x * inverseSquareRoot);
-		newVec3.y = (int)(y * inverseSquareRoot);
-		newVec3.z = (int)(z * inverseSquareRoot);
-		
-		return newVec3;
-	}
-	
-	/**
-	 * Performs {@code cross product} multiplication between this vector
-	 * and {@code another vector specified}
-	 * 
-	 * @param anotherVec3
-	 * - {@code Another vector} to multiply
-	 * 
-	 * @return
-	 * {@code result or output} of the operation
-	 */
-	public Vec3 crossProduct(final Vec3 anotherVec3) {
-		// Vector to return
-		final Vec3 outputVector = new Vec3();
-		
-		// Perform cross product multiplication
-		outputVector.x = y * anotherVec3.z - z * anotherVec3.y;
-		outputVector.y = z * anotherVec3.x - x * anotherVec3.z;
-		outputVector.z = x * anotherVec3.y - y * anotherVec3.x;
-		
-		return outputVector;
-	}
-	
-	/**
-	 * Perform {@code dot product} multiplication between this vector
-	 * and {@code another vector specified}
-	 * 
-	 * @param anotherVec3
-	 * - {@code Another vector} to multiply
-	 * 
-	 * @return
-	 * {@code result of output} of the operation
-	 */
-	public int dotProduct(final Vec3 anotherVec3) {
-		// Value to return
-		int outputValue = 0;
-		
-		// Perform dot product multiplication
-		outputValue = x * anotherVec3.x;
-		outputValue += y * anotherVec3.y;
-		outputValue += z * anotherVec3.z;
-		
-		return outputValue;
-	}
-	
-	/**
-	 * Adds {@code every value} of this vector to all the value of the {@code given vector}
-	 *  
-	 * @param anotherVec3
-	 * - {@code vector} to add 
-	 * 
-	 * @return
-	 * {@code Added} Vec3
-	 * 
-	 * @see #add(int)
-	 */
-	public Vec3 add(final Vec3 anotherVec3) {
-		return new Vec3(anotherVec3.x + x, anotherVec3.y + y, anotherVec3.z + z);
-	}
-	
-	/**
-	 * Adds {@code every value} of this vector to the value given
-	 *  
-	 * @param value
-	 * - {@code value} to add
-	 * 
-	 * @return
-	 * {@code Added} value
-	 * 
-	 * @see #add(Vec3)
-	 */
-	public Vec3 add(final int value) {
-		return add(new Vec3(value));
-	}
-	
-	/**
-	 * Subtracts {@code every value} of this vector to all the value of the {@code given vector}
-	 *  
-	 * @param anotherVec3
-	 * - {@code vector} to subtract 
-	 * 
-	 * @return
-	 * {@code Subtracted} Vec3
-	 */
-	public Vec3 subtract(final Vec3 anotherVec3) {
-		return new Vec3(x - anotherVec3.x, y - anotherVec3.y, z - anotherVec3.z);
-	}
-	
-	/**
-	 * Multiplies {@code every value} of this vector to the scalar given
-	 * 
-	 * @param scalar
-	 * - {@code Scalar} value to multiply
-	 * 
-	 * @return
-	 * {@code Multiplied} Vector3
-	 * 
-	 * @see #multiply(Vec3)
-	 */
-	public Vec3 multiply(final int scalar) {
-		return new Vec3(x * scalar, y * scalar, z * scalar);
-	}
-	
-	/**
-	 * Multiplies {@code every value} of this vector to every value of the {@code vector} given
-	 * 
-	 * @param anotherVec3
-	 * - {@code Vector3} value to multiply
-	 * 
-	 * @return
-	 * {@code Multiplied} Vector3
-	 * 
-	 * @see #multiply(int)
-	 */
-	public Vec3 multiply(final Vec3 anotherVec3) {
-		return new Vec3(x * anotherVec3.x, y * anotherVec3.y, z * anotherVec3.z);
-	}
-	
-	/**
-	 * Divides {@code every value} of this vector to every value of the {@code vector} given
-	 * 
-	 * @param anotherVec3
-	 * - Another {@code vector} to divide
-	 * 
-	 * @return
-	 * {@code Output} vector
-	 * 
-	 * @see #divide(int)
-	 */
-	public Vec3 divide(final Vec3 anotherVec3) {
-		return new Vec3(x / anotherVec3.x,
-						y / anotherVec3.y,
-						z / anotherVec3.z);
-	}
-	
-	/**
-	 * Divides {@code every value} of this vector to the {@code value} given
-	 * 
-	 * @param value
-	 * - {@code value} to divide
-	 * 
-	 * @return
-	 * {@code Output} vector
-	 */
-	public Vec3 divide(final int value) {
-		return divide(new Vec3(value));
-	}
-	
-	/**
-	 * @return
-	 * {@code Half} of every value of this {@code vector}
-	 */
-	public Vec3 half() {
-		return new Vec3( x >> 1, y >> 1, z >> 1 );
-	}
-	
-	/**
-	 * @return
-	 * {@code slope} of this vector
-	 * <br>
-	 * calculation:
-	 * <br>
-	 * <br>
-	 * {@code y / x}
-	 */
-	public final int slope() {
-		return y / x;
-	}
-	
-	/**
-	 * Sets this' {@code x}, {@code y} and {@code z} value
-	 * 
-	 * @param newValue
-	 * - {@code Vector 3D} that contains the new value
-	 * 
-	 * @return
-	 * {@code this} vector
-	 */
-	public Vec3 set(final Vec3 newValue) {
-		x = newValue.x;
-		y = newValue.y;
-		z = newValue.z;
-		
-		return this;
-	}
-	
-	@Override
-	public Vec3 clone() {
-		return new Vec3(x, y, z);
-	}
-	
-	@Override
-	public String toString() {
-		return "[x  : " + x + ", y : " + y + ", z  : " + z + "]";
-	}
-	
-	/**
-	 * @return
-	 * - {@code 3D matrix} representation of this {@code vector}
-	 */
-	public Matrix toMatrix3D() {
-		// 3D matrix
-		final Matrix matrix = new Matrix(3);
-		
-		matrix.set(0, 0, x);
-		matrix.set(1, 1, y);
-		matrix.set(2, 2, z);
-		
-		return matrix;
-	}
-	
-	/**
-	 * @return
-	 * - {@code 4D matrix} representation of this {@code vector}
-	 */
-	public Matrix toMatrix4D() {
-		// 4D matrix
-		final Matrix matrix = new Matrix(4);
-		
-		matrix.set(0, 0, x);
-		matrix.set(1, 1, y);
-		matrix.set(2, 2, z);
-		matrix.set(3, 3, 1); // w
-		
-		return matrix;
-	}
-	
-	/**
-	 * @return
-	 * {@code Vector 4D} equivalence of this {@code vector} containing
-	 * this' {@code x, y} and {@code z} components having {@code w} set to 1.0F
-	 */
-	public Vec4F toVector4DFloat() {
-		return new Vec4F(x, y, z, 1.0F);
-	}
-	
-	/**
-	 * @return
-	 * {@code Vector 3D Float} with this' {@code x}, {@code y} and {@code z} value
-	 */
-	public Vec3F toVector3DF() {
-		return new Vec3F(x, y, z);
-	}
-	
-	/**
-	 * Returns whether {@code this} and {@code another Vector 3D} has the same {@code x}, {@code y} and {@code z} value
-	 * 
-	 * @param anotherVec3
-	 * - Another Vector 3D to examine
-	 * 
-	 * @return
-	 * {@code true} if values are equal; {@code false} otherwise
-	 */
-	public boolean equals(final Vec3 anotherVec3) {
-		return x == anotherVec3.x && y == anotherVec3.y && z == anotherVec3.z;
-	}
-	
-	/**
-	 * @return
-	 * {@code true} if values are zero; {@code false} otherwise
-	 */
-	public boolean isZero() {
-		return x == 0 && y == 0 && z == 0;
-	}
-	
-	/**
-	 * @return
-	 * {@code x} value
-	 */
-	public int getX() {
-		return x;
-	}
-
-	/**
-	 * Sets new {@code x} value
-	 * 
-	 * @param x
-	 * - new Value for {@code x}
-	 */
-	public void setX(int x) {
-		this.x = x;
-	}
-	
-	/**
-	 * @return
-	 * {@code y} value
-	 */
-	public int getY() {
-		return y;
-	}
-	
-	/**
-	 * Sets new {@code y} value
-	 * 
-	 * @param y
-	 * - new Value for {@code y}
-	 */
-	public void setY(int y) {
-		this.y = y;
-	}
-	
-	/**
-	 * @return
-	 * {@code z} value
-	 */
-	public int getZ() {
-		return z;
-	}
-	
-	/**
-	 * Sets new {@code z} value
-	 * 
-	 * @param z
-	 * - new Value for {@code z}
-	 */
-	public void setZ(int z) {
-		this.z = z;
-	}
-
-	// ***************************************************************************
-	// STATIC METHODS
-	// ***************************************************************************
-	
-	/**
-	 * Swaps the value of two given vectors
-	 * 
-	 * @param vector1
-	 * - {@code first} vector
-	 * 
-	 * @param vector2
-	 * - {@code second} vector
-	 * 
-	 * @since WIP 1.3
-	 */
-	public static final void swapVector(final Vec3 vector1, final Vec3 vector2) {
-		final Vec3 storedVector1 = vector1.clone();
-		
-		vector1.set( vector2 );
-		vector2.set( storedVector1 );
-	}
+package com.article.math;
+
+/**
+ * {@code Vector 3D Float} class holds 3 floats, being <em>x</em>, <em>y</em> and <em>z</em>
+ * <hr>
+ * This class could be treated as a coordinate or a {@code math vector} having no coordinates
+ * 
+ * @version 1.8
+ * @since 1.0
+ */
+public class Vec3 {
+	protected int x;
+	protected int y;
+	protected int z;
+	
+	/**
+	 * @param x
+	 * - {@code X} value
+	 * 
+	 * @param y
+	 * - {@code Y} value
+	 * 
+	 * @param z
+	 * - {@code Z} value
+	 */
+	public Vec3(final int x, final int y, final int z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+	
+	/**
+	 * @param value
+	 * - Value for {@code x}, {@code y} and {@code z}
+	 * 
+	 * @see #Vec3(int, int, int)
+	 */
+	public Vec3(final int value) {
+		this(value, value, value);
+	}
+	
+	/**
+	 * Sets {@code x, y and z} to {@code 0}
+	 * 
+	 * @see #Vec3(int)
+	 * @see #Vec3(int, int, int)
+	 */
+	public Vec3() {
+		this(0);
+	}
+	
+	/**
+	 * Sets {@code all the value} of this vector to {@code all the value} of the given vector
+	 * 
+	 * @param vector
+	 * - {@code Vector} values
+	 */
+	public Vec3(final Vec3 vector) {
+		x = vector.x;
+		y = vector.y;
+		z = vector.z;
+	}
+	
+	/**
+	 * @return
+	 * the {@code length} or {@code magnitude} of this 3D vector,
+	 * this is achieved through Pythagoras theorem
+	 */
+	public final int length() {
+		return (int)Math.sqrt(x * x + y * y + z * z);
+	}
+	
+	/**
+	 * Returns the {@code sine} of this vector by dividing {@code x}[Adjacent] over
+	 * {@code length}[Hypotenuse]
+	 * 
+	 * @return
+	 * Adjacent {@code over} Hypotenuse
+	 */
+	public final int sin() {
+		return x / length();
+	}
+	
+	/**
+	 * Returns the {@code cosine} of this vector by dividing {@code y}[Opposite] over
+	 * {@code length}[Hypotenuse]
+	 * 
+	 * @return
+	 * Opposite {@code over} Hypotenuse
+	 */
+	public final int cos() {
+		return y / length();
+	}
+	
+	/**
+	 * Returns the {@code tangent} of this vector by dividing {@code y}[Opposite] over
+	 * {@code x}[Adjacent]
+	 * 
+	 * @return
+	 * Opposite {@code over} Adjacent
+	 * 
+	 * @see #slope()
+	 */
+	public final int tan() {
+		return y / x;
+	}
+	
+	/**
+	 * Normalizes this {@code vector 3D}
+	 * 
+	 * @return
+	 * Normalized vector
+	 * 
+	 * @see #fastNormalize()
+	 */
+	public final Vec3 normalize() {
+		// Hypoteneuse_
+		final int length = length();
+		
+		// Vector 2D to return
+		final Vec3 newVec3 = new Vec3();
+		
+		// Prevents division by zero
+		if(length == 0) return newVec3;
+		
+		// Normalize
+		newVec3.x = x / length;
+		newVec3.y = y / length;
+		newVec3.z = z / length;
+		
+		return newVec3;
+	}
+	
+	/**
+	 * Normalizes this {@code vector 3D}
+	 * 
+	 * @return
+	 * Normalized vector
+	 * 
+	 * @see #normalize()
+	 */
+	public final Vec3 fastNormalize() {
+		// Vector 3D to return
+		final Vec3 newVec3 = new Vec3();
+		
+		// Get the inverse square root of length
+		final float inverseSquareRoot = Mathf.fastInverseSqrt(x * x + y * y + z * z);
+		
+		// Sets the value
+		newVec3.x = (int)(x * inverseSquareRoot);
+		newVec3.y = (int)(y * inverseSquareRoot);
+		newVec3.z = (int)(z * inverseSquareRoot);
+		
+		return newVec3;
+	}
+	
+	/**
+	 * Performs {@code cross product} multiplication between this vector
+	 * and {@code another vector specified}
+	 * 
+	 * @param anotherVec3
+	 * - {@code Another vector} to multiply
+	 * 
+	 * @return
+	 * {@code result or output} of the operation
+	 */
+	public Vec3 crossProduct(final Vec3 anotherVec3) {
+		// Vector to return
+		final Vec3 outputVector = new Vec3();
+		
+		// Perform cross product multiplication
+		outputVector.x = y * anotherVec3.z - z * anotherVec3.y;
+		outputVector.y = z * anotherVec3.x - x * anotherVec3.z;
+		outputVector.z = x * anotherVec3.y - y * anotherVec3.x;
+		
+		return outputVector;
+	}
+	
+	/**
+	 * Perform {@code dot product} multiplication between this vector
+	 * and {@code another vector specified}
+	 * 
+	 * @param anotherVec3
+	 * - {@code Another vector} to multiply
+	 * 
+	 * @return
+	 * {@code result of output} of the operation
+	 */
+	public int dotProduct(final Vec3 anotherVec3) {
+		// Value to return
+		int outputValue = 0;
+		
+		// Perform dot product multiplication
+		outputValue = x * anotherVec3.x;
+		outputValue += y * anotherVec3.y;
+		outputValue += z * anotherVec3.z;
+		
+		return outputValue;
+	}
+	
+	/**
+	 * Adds {@code every value} of this vector to all the value of the {@code given vector}
+	 *  
+	 * @param anotherVec3
+	 * - {@code vector} to add 
+	 * 
+	 * @return
+	 * {@code Added} Vec3
+	 * 
+	 * @see #add(int)
+	 */
+	public Vec3 add(final Vec3 anotherVec3) {
+		return new Vec3(anotherVec3.x + x, anotherVec3.y + y, anotherVec3.z + z);
+	}
+	
+	/**
+	 * Adds {@code every value} of this vector to the value given
+	 *  
+	 * @param value
+	 * - {@code value} to add
+	 * 
+	 * @return
+	 * {@code Added} value
+	 * 
+	 * @see #add(Vec3)
+	 */
+	public Vec3 add(final int value) {
+		return add(new Vec3(value));
+	}
+	
+	/**
+	 * Subtracts {@code every value} of this vector to all the value of the {@code given vector}
+	 *  
+	 * @param anotherVec3
+	 * - {@code vector} to subtract 
+	 * 
+	 * @return
+	 * {@code Subtracted} Vec3
+	 */
+	public Vec3 subtract(final Vec3 anotherVec3) {
+		return new Vec3(x - anotherVec3.x, y - anotherVec3.y, z - anotherVec3.z);
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to the scalar given
+	 * 
+	 * @param scalar
+	 * - {@code Scalar} value to multiply
+	 * 
+	 * @return
+	 * {@code Multiplied} Vector3
+	 * 
+	 * @see #multiply(Vec3)
+	 */
+	public Vec3 multiply(final int scalar) {
+		return new Vec3(x * scalar, y * scalar, z * scalar);
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to every value of the {@code vector} given
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector3} value to multiply
+	 * 
+	 * @return
+	 * {@code Multiplied} Vector3
+	 * 
+	 * @see #multiply(int)
+	 */
+	public Vec3 multiply(final Vec3 anotherVec3) {
+		return new Vec3(x * anotherVec3.x, y * anotherVec3.y, z * anotherVec3.z);
+	}
+	
+	/**
+	 * Divides {@code every value} of this vector to every value of the {@code vector} given
+	 * 
+	 * @param anotherVec3
+	 * - Another {@code vector} to divide
+	 * 
+	 * @return
+	 * {@code Output} vector
+	 * 
+	 * @see #divide(int)
+	 */
+	public Vec3 divide(final Vec3 anotherVec3) {
+		return new Vec3(x / anotherVec3.x,
+						y / anotherVec3.y,
+						z / anotherVec3.z);
+	}
+	
+	/**
+	 * Divides {@code every value} of this vector to the {@code value} given
+	 * 
+	 * @param value
+	 * - {@code value} to divide
+	 * 
+	 * @return
+	 * {@code Output} vector
+	 */
+	public Vec3 divide(final int value) {
+		return divide(new Vec3(value));
+	}
+	
+	/**
+	 * @return
+	 * {@code Half} of every value of this {@code vector}
+	 */
+	public Vec3 half() {
+		return new Vec3( x >> 1, y >> 1, z >> 1 );
+	}
+	
+	/**
+	 * @return
+	 * {@code slope} of this vector
+	 * <br>
+	 * calculation:
+	 * <br>
+	 * <br>
+	 * {@code y / x}
+	 */
+	public final int slope() {
+		return y / x;
+	}
+	
+	/**
+	 * Sets this' {@code x}, {@code y} and {@code z} value
+	 * 
+	 * @param newValue
+	 * - {@code Vector 3D} that contains the new value
+	 * 
+	 * @return
+	 * {@code this} vector
+	 */
+	public Vec3 set(final Vec3 newValue) {
+		x = newValue.x;
+		y = newValue.y;
+		z = newValue.z;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets this' {@code x}, {@code y} and {@code z} value without creating a vector
+	 * 
+	 * @param x
+	 * - New {@code x} value
+	 * 
+	 * @param y
+	 * - New {@code y} value
+	 * 
+	 * @param z
+	 * - New {@code z} value
+	 * 
+	 * @return
+	 * {@code this} vector
+	 */
+	public Vec3 set(final int x, final int y, final int z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		
+		return this;
+	}
+	
+	/**
+	 * Adds {@code every value} of this vector to all the value of the {@code given vector}, in place
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to add
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #add(Vec3)
+	 */
+	public Vec3 addLocal(final Vec3 anotherVec3) {
+		x += anotherVec3.x;
+		y += anotherVec3.y;
+		z += anotherVec3.z;
+		
+		return this;
+	}
+	
+	/**
+	 * Subtracts {@code every value} of this vector to all the value of the {@code given vector}, in place
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to subtract
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #subtract(Vec3)
+	 */
+	public Vec3 subtractLocal(final Vec3 anotherVec3) {
+		x -= anotherVec3.x;
+		y -= anotherVec3.y;
+		z -= anotherVec3.z;
+		
+		return this;
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to the scalar given, in place
+	 * 
+	 * @param scalar
+	 * - {@code Scalar} value to multiply
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #multiply(int)
+	 */
+	public Vec3 multiplyLocal(final int scalar) {
+		x *= scalar;
+		y *= scalar;
+		z *= scalar;
+		
+		return this;
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to every value of the {@code vector} given, in place
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to multiply
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #multiply(Vec3)
+	 */
+	public Vec3 multiplyLocal(final Vec3 anotherVec3) {
+		x *= anotherVec3.x;
+		y *= anotherVec3.y;
+		z *= anotherVec3.z;
+		
+		return this;
+	}
+	
+	/**
+	 * Divides {@code every value} of this vector to the {@code value} given, in place
+	 * 
+	 * @param value
+	 * - {@code Value} to divide
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #divide(int)
+	 */
+	public Vec3 divideLocal(final int value) {
+		x /= value;
+		y /= value;
+		z /= value;
+		
+		return this;
+	}
+	
+	/**
+	 * Normalizes this {@code vector 3D} in place
+	 * 
+	 * @return
+	 * {@code this} vector
+	 * 
+	 * @see #normalize()
+	 */
+	public final Vec3 normalizeLocal() {
+		// Hypoteneuse_
+		final int length = length();
+		
+		// Prevents division by zero
+		if(length == 0) {
+			x = y = z = 0;
+			return this;
+		}
+		
+		// Normalize
+		x /= length;
+		y /= length;
+		z /= length;
+		
+		return this;
+	}
+	
+	/**
+	 * Adds {@code every value} of this vector to all the value of the {@code given vector}, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to add
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #add(Vec3)
+	 */
+	public Vec3 add(final Vec3 anotherVec3, final Vec3 destination) {
+		destination.x = x + anotherVec3.x;
+		destination.y = y + anotherVec3.y;
+		destination.z = z + anotherVec3.z;
+		
+		return destination;
+	}
+	
+	/**
+	 * Subtracts {@code every value} of this vector to all the value of the {@code given vector}, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to subtract
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #subtract(Vec3)
+	 */
+	public Vec3 subtract(final Vec3 anotherVec3, final Vec3 destination) {
+		destination.x = x - anotherVec3.x;
+		destination.y = y - anotherVec3.y;
+		destination.z = z - anotherVec3.z;
+		
+		return destination;
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to the scalar given, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param scalar
+	 * - {@code Scalar} value to multiply
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #multiply(int)
+	 */
+	public Vec3 multiply(final int scalar, final Vec3 destination) {
+		destination.x = x * scalar;
+		destination.y = y * scalar;
+		destination.z = z * scalar;
+		
+		return destination;
+	}
+	
+	/**
+	 * Multiplies {@code every value} of this vector to every value of the {@code vector} given, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param anotherVec3
+	 * - {@code Vector} to multiply
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #multiply(Vec3)
+	 */
+	public Vec3 multiply(final Vec3 anotherVec3, final Vec3 destination) {
+		destination.x = x * anotherVec3.x;
+		destination.y = y * anotherVec3.y;
+		destination.z = z * anotherVec3.z;
+		
+		return destination;
+	}
+	
+	/**
+	 * Divides {@code every value} of this vector to the {@code value} given, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param value
+	 * - {@code Value} to divide
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #divide(int)
+	 */
+	public Vec3 divide(final int value, final Vec3 destination) {
+		destination.x = x / value;
+		destination.y = y / value;
+		destination.z = z / value;
+		
+		return destination;
+	}
+	
+	/**
+	 * Performs {@code cross product} multiplication between this vector
+	 * and {@code another vector specified}, into the {@code destination}
+	 * which may be this vector or the operand
+	 * 
+	 * @param anotherVec3
+	 * - {@code Another vector} to multiply
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the result
+	 * 
+	 * @return
+	 * {@code destination} vector
+	 * 
+	 * @see #crossProduct(Vec3)
+	 */
+	public Vec3 crossProduct(final Vec3 anotherVec3, final Vec3 destination) {
+		// Read before writing, the destination may be an operand
+		final int newX = y * anotherVec3.z - z * anotherVec3.y;
+		final int newY = z * anotherVec3.x - x * anotherVec3.z;
+		final int newZ = x * anotherVec3.y - y * anotherVec3.x;
+		
+		return destination.set(newX, newY, newZ);
+	}
+	
+	@Override
+	public Vec3 clone() {
+		return new Vec3(x, y, z);
+	}
+	
+	@Override
+	public String toString() {
+		return "[x  : " + x + ", y : " + y + ", z  : " + z + "]";
+	}
+	
+	/**
+	 * @return
+	 * - {@code 3D matrix} representation of this {@code vector}
+	 */
+	public Matrix toMatrix3D() {
+		// 3D matrix
+		final Matrix matrix = new Matrix(3);
+		
+		matrix.set(0, 0, x);
+		matrix.set(1, 1, y);
+		matrix.set(2, 2, z);
+		
+		return matrix;
+	}
+	
+	/**
+	 * @return
+	 * - {@code 4D matrix} representation of this {@code vector}
+	 */
+	public Matrix toMatrix4D() {
+		// 4D matrix
+		final Matrix matrix = new Matrix(4);
+		
+		matrix.set(0, 0, x);
+		matrix.set(1, 1, y);
+		matrix.set(2, 2, z);
+		matrix.set(3, 3, 1); // w
+		
+		return matrix;
+	}
+	
+	/**
+	 * @return
+	 * {@code Vector 4D} equivalence of this {@code vector} containing
+	 * this' {@code x, y} and {@code z} components having {@code w} set to 1.0F
+	 */
+	public Vec4F toVector4DFloat() {
+		return new Vec4F(x, y, z, 1.0F);
+	}
+	
+	/**
+	 * @return
+	 * {@code Vector 3D Float} with this' {@code x}, {@code y} and {@code z} value
+	 */
+	public Vec3F toVector3DF() {
+		return new Vec3F(x, y, z);
+	}
+	
+	/**
+	 * Returns whether {@code this} and {@code another Vector 3D} has the same {@code x}, {@code y} and {@code z} value
+	 * 
+	 * @param anotherVec3
+	 * - Another Vector 3D to examine
+	 * 
+	 * @return
+	 * {@code true} if values are equal; {@code false} otherwise
+	 */
+	public boolean equals(final Vec3 anotherVec3) {
+		return x == anotherVec3.x && y == anotherVec3.y && z == anotherVec3.z;
+	}
+	
+	/**
+	 * @return
+	 * {@code true} if values are zero; {@code false} otherwise
+	 */
+	public boolean isZero() {
+		return x == 0 && y == 0 && z == 0;
+	}
+	
+	/**
+	 * @return
+	 * {@code x} value
+	 */
+	public int getX() {
+		return x;
+	}
+
+	/**
+	 * Sets new {@code x} value
+	 * 
+	 * @param x
+	 * - new Value for {@code x}
+	 */
+	public void setX(int x) {
+		this.x = x;
+	}
+	
+	/**
+	 * @return
+	 * {@code y} value
+	 */
+	public int getY() {
+		return y;
+	}
+	
+	/**
+	 * Sets new {@code y} value
+	 * 
+	 * @param y
+	 * - new Value for {@code y}
+	 */
+	public void setY(int y) {
+		this.y = y;
+	}
+	
+	/**
+	 * @return
+	 * {@code z} value
+	 */
+	public int getZ() {
+		return z;
+	}
+	
+	/**
+	 * Sets new {@code z} value
+	 * 
+	 * @param z
+	 * - new Value for {@code z}
+	 */
+	public void setZ(int z) {
+		this.z = z;
+	}
+
+	// ***************************************************************************
+	// STATIC METHODS
+	// ***************************************************************************
+	
+	/**
+	 * Swaps the value of two given vectors
+	 * 
+	 * @param vector1
+	 * - {@code first} vector
+	 * 
+	 * @param vector2
+	 * - {@code second} vector
+	 * 
+	 * @since WIP 1.3
+	 */
+	public static final void swapVector(final Vec3 vector1, final Vec3 vector2) {
+		final Vec3 storedVector1 = vector1.clone();
+		
+		vector1.set( vector2 );
+		vector2.set( storedVector1 );
+	}
 }
\ No newline at end of file
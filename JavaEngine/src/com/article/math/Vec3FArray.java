@@ -0,0 +1,358 @@
+package com.article.math;
+
+/**
+ * Fixed number of {@code 3D float vectors} packed one after the other as
+ * {@code x, y, z, x, y, z...} in a single run of floats, instead of one {@link Vec3F}
+ * object each... the floats live either in a {@code float[]} or {@code off heap}
+ * in a direct buffer, for data sets the garbage collector should not scan
+ * <br>
+ * <br>
+ * A {@link #view(int, int)} shares the floats of the array it was made from, so
+ * changes through one are seen through the other
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ * 
+ * @see Vec4FArray
+ */
+public final class Vec3FArray {
+	// Floats per vector
+	private static final int STRIDE = 3;
+	
+	private final FloatStorage storage;
+	
+	// First float and number of vectors
+	private final int start;
+	private final int size;
+	
+	/**
+	 * Creates {@code size} zero vectors in a {@code float[]}
+	 * 
+	 * @param size
+	 * - {@code Number} of vectors
+	 */
+	public Vec3FArray(final int size) {
+		this(FloatStorage.heap(checkSize(size) * STRIDE), 0, size);
+	}
+	
+	/**
+	 * Copies the given {@code vectors} into a {@code float[]}
+	 * 
+	 * @param vectors
+	 * - {@code Vectors} to copy
+	 */
+	public Vec3FArray(final Vec3F[] vectors) {
+		this(vectors.length);
+		
+		copyFrom(vectors, 0, 0, vectors.length);
+	}
+	
+	private Vec3FArray(final FloatStorage storage, final int start, final int size) {
+		this.storage = storage;
+		this.start = start;
+		this.size = size;
+	}
+	
+	/**
+	 * Creates {@code size} zero vectors in a direct buffer, outside of the heap
+	 * 
+	 * @param size
+	 * - {@code Number} of vectors
+	 * 
+	 * @return
+	 * - New {@code off heap} array
+	 */
+	public static Vec3FArray offHeap(final int size) {
+		return new Vec3FArray(FloatStorage.offHeap(checkSize(size) * STRIDE), 0, size);
+	}
+	
+	/**
+	 * Uses the given {@code floats} as {@code x, y, z...}, they are not copied
+	 * 
+	 * @param values
+	 * - {@code Floats} of the vectors, a multiple of 3
+	 * 
+	 * @return
+	 * - Array backed by the {@code values}
+	 */
+	public static Vec3FArray wrap(final float[] values) {
+		if(values == null) throw new IllegalArgumentException("Values must not be null!");
+		if(values.length % STRIDE != 0) throw new IllegalArgumentException("Values must be a multiple of " + STRIDE + "!");
+		
+		return new Vec3FArray(FloatStorage.wrap(values), 0, values.length / STRIDE);
+	}
+	
+	private static int checkSize(final int size) {
+		if(size < 0) throw new IllegalArgumentException("Size cannot be less than zero!");
+		if(size > Integer.MAX_VALUE / STRIDE) throw new IllegalArgumentException("Size is too big!");
+		
+		return size;
+	}
+	
+	/**
+	 * @return
+	 * - Index of the first float of the vector at {@code index}
+	 */
+	private int floatIndex(final int index) {
+		if(index < 0 || index >= size) throw new IllegalArgumentException("Index " + index + " is outside of [0, " + size + ")!");
+		
+		return start + index * STRIDE;
+	}
+	
+	/**
+	 * Throws if {@code [index, index + count)} is not inside of this array
+	 */
+	private void checkRange(final int index, final int count) {
+		if(count < 0) throw new IllegalArgumentException("Count cannot be less than zero!");
+		if(index < 0 || index > size - count) throw new IllegalArgumentException("Range [" + index + ", " + (index + count) + ") is outside of [0, " + size + ")!");
+	}
+	
+	// ******************************************************
+	// Vectors
+	// ******************************************************
+	
+	/**
+	 * @return
+	 * - {@code x} of the vector at {@code index}
+	 */
+	public float getX(final int index) {
+		return storage.get(floatIndex(index));
+	}
+	
+	/**
+	 * @return
+	 * - {@code y} of the vector at {@code index}
+	 */
+	public float getY(final int index) {
+		return storage.get(floatIndex(index) + 1);
+	}
+	
+	/**
+	 * @return
+	 * - {@code z} of the vector at {@code index}
+	 */
+	public float getZ(final int index) {
+		return storage.get(floatIndex(index) + 2);
+	}
+	
+	/**
+	 * Copies the vector at {@code index} into the {@code destination}
+	 * 
+	 * @param index
+	 * - Index of the {@code vector}
+	 * 
+	 * @param destination
+	 * - {@code Vector} that receives the values
+	 * 
+	 * @return
+	 * - {@code destination} vector
+	 */
+	public Vec3F get(final int index, final Vec3F destination) {
+		final int i = floatIndex(index);
+		
+		return destination.set(storage.get(i), storage.get(i + 1), storage.get(i + 2));
+	}
+	
+	/**
+	 * @param index
+	 * - Index of the {@code vector}
+	 * 
+	 * @return
+	 * - New {@code Vec3F} with the values of the vector at {@code index}
+	 */
+	public Vec3F get(final int index) {
+		return get(index, new Vec3F());
+	}
+	
+	/**
+	 * Sets the {@code x} of the vector at {@code index}
+	 */
+	public void setX(final int index, final float x) {
+		storage.set(floatIndex(index), x);
+	}
+	
+	/**
+	 * Sets the {@code y} of the vector at {@code index}
+	 */
+	public void setY(final int index, final float y) {
+		storage.set(floatIndex(index) + 1, y);
+	}
+	
+	/**
+	 * Sets the {@code z} of the vector at {@code index}
+	 */
+	public void setZ(final int index, final float z) {
+		storage.set(floatIndex(index) + 2, z);
+	}
+	
+	/**
+	 * Sets every value of the vector at {@code index}
+	 */
+	public void set(final int index, final float x, final float y, final float z) {
+		final int i = floatIndex(index);
+		
+		storage.set(i, x);
+		storage.set(i + 1, y);
+		storage.set(i + 2, z);
+	}
+	
+	/**
+	 * Copies the values of the {@code vector} to {@code index}
+	 * 
+	 * @param index
+	 * - Index of the {@code vector}
+	 * 
+	 * @param vector
+	 * - {@code Vector} that contains the new values
+	 */
+	public void set(final int index, final Vec3F vector) {
+		set(index, vector.x, vector.y, vector.z);
+	}
+	
+	// ******************************************************
+	// Bulk copies
+	// ******************************************************
+	
+	/**
+	 * Copies {@code count} vectors from {@code index} into another array, of either
+	 * storage... the two ranges may overlap, such as two views of the same array
+	 * 
+	 * @param index
+	 * - First {@code vector} to copy
+	 * 
+	 * @param destination
+	 * - {@code Array} that receives the vectors
+	 * 
+	 * @param destinationIndex
+	 * - First {@code vector} of the destination to write
+	 * 
+	 * @param count
+	 * - {@code Number} of vectors to copy
+	 */
+	public void copyTo(final int index, final Vec3FArray destination, final int destinationIndex, final int count) {
+		checkRange(index, count);
+		destination.checkRange(destinationIndex, count);
+		
+		FloatStorage.copy(storage, start + index * STRIDE, destination.storage, destination.start + destinationIndex * STRIDE, count * STRIDE);
+	}
+	
+	/**
+	 * Copies {@code count} vectors from {@code index} into a {@code float[]} as {@code x, y, z...}
+	 * 
+	 * @param index
+	 * - First {@code vector} to copy
+	 * 
+	 * @param destination
+	 * - {@code Floats} that receive the vectors
+	 * 
+	 * @param offset
+	 * - First {@code float} of the destination to write
+	 * 
+	 * @param count
+	 * - {@code Number} of vectors to copy
+	 */
+	public void copyTo(final int index, final float[] destination, final int offset, final int count) {
+		checkRange(index, count);
+		if(offset < 0 || offset > destination.length - count * STRIDE) throw new IllegalArgumentException("Destination can't hold " + count + " vectors!");
+		
+		storage.get(start + index * STRIDE, destination, offset, count * STRIDE);
+	}
+	
+	/**
+	 * Copies {@code count} vectors of a {@code float[]}, stored as {@code x, y, z...}, to {@code index}
+	 * 
+	 * @param source
+	 * - {@code Floats} of the vectors
+	 * 
+	 * @param offset
+	 * - First {@code float} of the source to read
+	 * 
+	 * @param index
+	 * - First {@code vector} to write
+	 * 
+	 * @param count
+	 * - {@code Number} of vectors to copy
+	 */
+	public void copyFrom(final float[] source, final int offset, final int index, final int count) {
+		checkRange(index, count);
+		if(offset < 0 || offset > source.length - count * STRIDE) throw new IllegalArgumentException("Source doesn't hold " + count + " vectors!");
+		
+		storage.set(start + index * STRIDE, source, offset, count * STRIDE);
+	}
+	
+	/**
+	 * Copies {@code count} vectors of the {@code source} to {@code index}
+	 * 
+	 * @param source
+	 * - {@code Vectors} to copy
+	 * 
+	 * @param sourceIndex
+	 * - First {@code vector} of the source to read
+	 * 
+	 * @param index
+	 * - First {@code vector} to write
+	 * 
+	 * @param count
+	 * - {@code Number} of vectors to copy
+	 */
+	public void copyFrom(final Vec3F[] source, final int sourceIndex, final int index, final int count) {
+		checkRange(index, count);
+		if(sourceIndex < 0 || sourceIndex > source.length - count) throw new IllegalArgumentException("Source doesn't hold " + count + " vectors!");
+		
+		for(int i = 0; i < count; i++) set(index + i, source[sourceIndex + i]);
+	}
+	
+	/**
+	 * @return
+	 * - New {@code float[]} with every vector as {@code x, y, z...}
+	 */
+	public float[] toFloatArray() {
+		final float[] values = new float[size * STRIDE];
+		copyTo(0, values, 0, size);
+		
+		return values;
+	}
+	
+	// ******************************************************
+	// Getters
+	// ******************************************************
+	
+	/**
+	 * Creates an array of the vectors {@code [from, to)} that shares the floats of this one
+	 * 
+	 * @param from
+	 * - First {@code vector}
+	 * 
+	 * @param to
+	 * - Last {@code vector}, exclusive
+	 * 
+	 * @return
+	 * - {@code View} of the range
+	 */
+	public Vec3FArray view(final int from, final int to) {
+		checkRange(from, to - from);
+		
+		return new Vec3FArray(storage, start + from * STRIDE, to - from);
+	}
+	
+	/**
+	 * @return
+	 * - {@code Number} of vectors
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @return
+	 * - {@code true} if the vectors live outside of the heap; {@code false} otherwise
+	 */
+	public boolean isOffHeap() {
+		return storage.isOffHeap();
+	}
+	
+	@Override
+	public String toString() {
+		return "Vec3FArray[size : " + size + ", off heap : " + isOffHeap() + "]";
+	}
+}
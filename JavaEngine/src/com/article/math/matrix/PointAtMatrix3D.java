@@ -1,49 +1,76 @@
-package com.article.math.matrix;
-
-import com.article.math.MatrixF;
-import com.article.math.Vec3F;
-
-public final class PointAtMatrix3D extends MatrixF {
-	public PointAtMatrix3D(final Vec3F originalPosition, final Vec3F destination, final Vec3F upDirection) {
-		// 4x4 matrix
-		super(4);
-		
-		// New Forward vector calculation
-		final Vec3F newForwardVector = destination.subtract(originalPosition).normalize();
-		
-		// New Up vector calculation
-		final Vec3F newUpVector = upDirection.subtract(newForwardVector.multiply(upDirection.dotProduct(newForwardVector))).normalize();
-		
-		// New Right vector calculation
-		final Vec3F newRightVector = newUpVector.crossProduct(newForwardVector);
-		
-		// Set all the value
-		values[0][0] = newRightVector.getX();
-		values[0][1] = newRightVector.getY();
-		values[0][2] = newRightVector.getZ();
-		values[0][3] = 0.0F;
-		
-		values[1][0] = newUpVector.getX();
-		values[1][1] = newUpVector.getY();
-		values[1][2] = newUpVector.getZ();
-		values[1][3] = 0.0F;
-		
-		values[2][0] = newForwardVector.getX();
-		values[2][1] = newForwardVector.getY();
-		values[2][2] = newForwardVector.getZ();
-		values[2][3] = 0.0F;
-		
-		values[3][0] = originalPosition.getX();
-		values[3][1] = originalPosition.getY();
-		values[3][2] = originalPosition.getZ();
-		values[3][3] = 1.0F;
-	}
-	
-	/**
-	 * @return
-	 * {@code Inverse} of this matrix
-	 */
-	public MatrixF inverse() {
-		return inverse(this);
-	}
-}
\ No newline at end of file
+package com.article.math.matrix;
+
+import com.article.math.Mat4f;
+import com.article.math.MatrixF;
+import com.article.math.Vec3F;
+
+public final class PointAtMatrix3D extends MatrixF {
+	// Values are built here
+	private final Mat4f pointAt = new Mat4f();
+	
+	public PointAtMatrix3D(final Vec3F originalPosition, final Vec3F destination, final Vec3F upDirection) {
+		// 4x4 matrix
+		super(4);
+		
+		set(originalPosition.getX(), originalPosition.getY(), originalPosition.getZ(),
+			destination.getX(), destination.getY(), destination.getZ(),
+			upDirection.getX(), upDirection.getY(), upDirection.getZ());
+	}
+	
+	/**
+	 * Recomputes this matrix in place, without creating any {@code vectors}
+	 * 
+	 * @param positionX
+	 * - {@code x} of the original position
+	 * 
+	 * @param positionY
+	 * - {@code y} of the original position
+	 * 
+	 * @param positionZ
+	 * - {@code z} of the original position
+	 * 
+	 * @param destinationX
+	 * - {@code x} of the destination
+	 * 
+	 * @param destinationY
+	 * - {@code y} of the destination
+	 * 
+	 * @param destinationZ
+	 * - {@code z} of the destination
+	 * 
+	 * @param upX
+	 * - {@code x} of the up direction
+	 * 
+	 * @param upY
+	 * - {@code y} of the up direction
+	 * 
+	 * @param upZ
+	 * - {@code z} of the up direction
+	 */
+	public void set(final float positionX, final float positionY, final float positionZ,
+					final float destinationX, final float destinationY, final float destinationZ,
+					final float upX, final float upY, final float upZ) {
+		set(pointAt.setPointAt(positionX, positionY, positionZ, destinationX, destinationY, destinationZ, upX, upY, upZ));
+	}
+	
+	/**
+	 * @return
+	 * {@code Inverse} of this matrix
+	 */
+	public MatrixF inverse() {
+		return inverse(this);
+	}
+	
+	/**
+	 * Writes the {@code inverse} of this matrix into another matrix
+	 * 
+	 * @param destination
+	 * - {@code 4x4 Matrix} to write to
+	 * 
+	 * @return
+	 * {@code destination}
+	 */
+	public MatrixF inverseInto(final MatrixF destination) {
+		return inverse(this, destination);
+	}
+}
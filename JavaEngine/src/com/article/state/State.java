@@ -1,6 +1,6 @@
-package com.article.state;
-
-import com.article.Obj;
-
-public interface State extends Obj {
+package com.article.state;
+
+import com.article.Obj;
+
+public interface State extends Obj {
 }
\ No newline at end of file
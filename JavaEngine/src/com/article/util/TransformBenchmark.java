@@ -0,0 +1,179 @@
+package com.article.util;
+
+import com.article.math.BatchTransform;
+import com.article.math.Mat4f;
+import com.article.math.Vec4F;
+
+/**
+ * Compares the time it takes to project points one {@link Vec4F} at a time against
+ * the flat arrays of {@link BatchTransform}, with and without vector lanes
+ * <br>
+ * <br>
+ * Every path transforms the same points by the same matrix, divides them by {@code w}
+ * and scales them to the screen... each one is warmed up before it is measured with
+ * {@link Benchmark}. Build the {@code src-vector} root and run it with
+ * {@code --add-modules jdk.incubator.vector} to measure the vector lanes too
+ * 
+ * @since WIP 1.6
+ * @version 1.0
+ */
+public final class TransformBenchmark {
+	// Points of every path, so small counts still get compiled before they are measured
+	private static final int WARMUP_POINTS = 1 << 25;
+	private static final int MEASURED_POINTS = 1 << 24;
+	
+	// Screen
+	private static final float OFFSET = 1.0F;
+	private static final float HALF_WIDTH = 320.0F;
+	private static final float HALF_HEIGHT = 240.0F;
+	
+	private final int count;
+	private final int warmupRuns;
+	private final int measuredRuns;
+	private final Mat4f matrix = new Mat4f();
+	
+	// Points as objects
+	private final Vec4F[] points;
+	private final Vec4F[] projected;
+	private final Vec4F offset = new Vec4F(OFFSET, OFFSET, 0.0F, 0.0F);
+	private final Vec4F screen = new Vec4F(HALF_WIDTH, HALF_HEIGHT, 1.0F, 1.0F);
+	
+	// Points as arrays
+	private final float[] x, y, z, w;
+	private final float[] screenX, screenY, depth;
+	
+	// Keeps the results alive
+	private float checksum;
+	
+	/**
+	 * @param count
+	 * - {@code Number} of points to transform every run
+	 */
+	public TransformBenchmark(final int count) {
+		if(count <= 0) throw new IllegalArgumentException("Count must be positive!");
+		
+		this.count = count;
+		warmupRuns = Math.max(WARMUP_POINTS / count, 10);
+		measuredRuns = Math.max(MEASURED_POINTS / count, 10);
+		
+		// Model, view and projection of a point in front of the camera
+		final Mat4f model = new Mat4f().setRotationY(0.5F).multiply(new Mat4f().setTranslation(0.0F, 0.0F, 8.0F));
+		model.multiply(new Mat4f().setProjection(90.0F, 0.75F, 0.1F, 1000.0F), matrix);
+		
+		points = new Vec4F[count];
+		projected = new Vec4F[count];
+		x = new float[count]; y = new float[count]; z = new float[count]; w = new float[count];
+		screenX = new float[count]; screenY = new float[count]; depth = new float[count];
+		
+		// Points spread on a unit cube
+		for(int i = 0; i < count; i++) {
+			x[i] = (i % 17) / 8.0F - 1.0F;
+			y[i] = (i % 13) / 6.0F - 1.0F;
+			z[i] = (i % 11) / 5.0F - 1.0F;
+			w[i] = 1.0F;
+			
+			points[i] = new Vec4F(x[i], y[i], z[i], w[i]);
+		}
+	}
+	
+	/**
+	 * Projects every point as an object, the way the meshes did it
+	 */
+	private void runObjects() {
+		for(int i = 0; i < count; i++) {
+			final Vec4F clip = matrix.transform(points[i]);
+			
+			projected[i] = clip.divide(clip.getW()).add(offset).multiply(screen);
+		}
+		
+		checksum += projected[count - 1].getX();
+	}
+	
+	/**
+	 * Projects every point through the flat arrays
+	 */
+	private void runArrays(final BatchTransform transform) {
+		transform.project(matrix, x, y, z, w, screenX, screenY, depth, 0, count, OFFSET, OFFSET, HALF_WIDTH, HALF_HEIGHT);
+		
+		checksum += screenX[count - 1];
+	}
+	
+	/**
+	 * @return
+	 * - Average {@code nanoseconds} per point of the objects path
+	 */
+	public double measureObjects() {
+		for(int run = 0; run < warmupRuns; run++) runObjects();
+		
+		final Benchmark benchmark = new Benchmark();
+		for(int run = 0; run < measuredRuns; run++) runObjects();
+		
+		return benchmark.end() / (double)measuredRuns / count;
+	}
+	
+	/**
+	 * @param transform
+	 * - {@code BatchTransform} to measure
+	 * 
+	 * @return
+	 * - Average {@code nanoseconds} per point of the arrays path
+	 */
+	public double measureArrays(final BatchTransform transform) {
+		for(int run = 0; run < warmupRuns; run++) runArrays(transform);
+		
+		final Benchmark benchmark = new Benchmark();
+		for(int run = 0; run < measuredRuns; run++) runArrays(transform);
+		
+		return benchmark.end() / (double)measuredRuns / count;
+	}
+	
+	/**
+	 * @return
+	 * - {@code Greatest} difference between the screen points of the objects and the arrays paths
+	 */
+	public float compareResults() {
+		runObjects();
+		runArrays(BatchTransform.get());
+		
+		float difference = 0.0F;
+		for(int i = 0; i < count; i++) {
+			difference = Math.max(difference, Math.abs(projected[i].getX() - screenX[i]));
+			difference = Math.max(difference, Math.abs(projected[i].getY() - screenY[i]));
+			difference = Math.max(difference, Math.abs(projected[i].getZ() - depth[i]));
+		}
+		
+		return difference;
+	}
+	
+	/**
+	 * @return
+	 * - Sum of results, only read so the runs are not removed
+	 */
+	public float getChecksum() {
+		return checksum;
+	}
+	
+	/**
+	 * Prints the nanoseconds per point of every path
+	 * 
+	 * @param args
+	 * - Optional {@code number} of points, {@code 65536} by default
+	 */
+	public static void main(final String[] args) {
+		final int count = args.length > 0 ? Integer.parseInt(args[0]) : 65536;
+		final TransformBenchmark benchmark = new TransformBenchmark(count);
+		
+		System.out.println("Points     : " + count);
+		System.out.println("Objects    : " + benchmark.measureObjects() + " ns / point");
+		System.out.println("Scalar     : " + benchmark.measureArrays(BatchTransform.scalar()) + " ns / point");
+		
+		final BatchTransform vectorized = BatchTransform.get();
+		if(vectorized.isVectorized()) {
+			System.out.println("Vector x" + vectorized.getLanes() + " : " + benchmark.measureArrays(vectorized) + " ns / point");
+		} else {
+			System.out.println("Vector     : unavailable, build src-vector and run with --add-modules jdk.incubator.vector");
+		}
+		
+		System.out.println("Difference : " + benchmark.compareResults() + " (checksum " + benchmark.getChecksum() + ")");
+	}
+}
@@ -0,0 +1,131 @@
+package com.article.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@code TripleBuffer} hands values from one {@code producer} thread to one
+ * {@code consumer} thread without locking... the producer always has a back
+ * buffer to write, the consumer always has a front buffer to read and the
+ * middle buffer is swapped between them with a single atomic operation
+ * <br>
+ * <br>
+ * The consumer always gets the latest published value, values it did not
+ * get to in time are skipped... it can poll with {@link #consume()} or park
+ * in {@link #await()} until the producer publishes
+ * 
+ * @param <T>
+ * - Type of the {@code buffers}
+ * 
+ * @version 1.0
+ * @since WIP 1.6
+ */
+public final class TripleBuffer<T> {
+	// Set on the middle index when it holds a value the consumer has not seen
+	private static final int FRESH = 4;
+	private static final int INDEX = 3;
+	
+	private final Object[] buffers;
+	
+	// Owned by the producer
+	private int back = 0;
+	
+	// Owned by the consumer
+	private int front = 1;
+	
+	// Shared
+	private final AtomicInteger middle = new AtomicInteger(2);
+	
+	// Consumer parked in await(), woken by publish()
+	private volatile Thread waiting;
+	
+	/**
+	 * @param back
+	 * - {@code Buffer} the producer starts writing to
+	 * 
+	 * @param front
+	 * - {@code Buffer} the consumer starts reading from
+	 * 
+	 * @param middle
+	 * - {@code Buffer} in between
+	 */
+	public TripleBuffer(final T back, final T front, final T middle) {
+		buffers = new Object[] { back, front, middle };
+	}
+	
+	/**
+	 * <b>Producer only</b>
+	 * 
+	 * @return
+	 * - {@code Buffer} to write the next value to
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		return (T)buffers[back];
+	}
+	
+	/**
+	 * <b>Producer only</b>
+	 * <br>
+	 * Publishes the back buffer, the producer gets a new back buffer
+	 * and a consumer parked in {@link #await()} is woken up
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX;
+		
+		final Thread consumer = waiting;
+		if(consumer != null) LockSupport.unpark(consumer);
+	}
+	
+	/**
+	 * <b>Consumer only</b>
+	 * <br>
+	 * Takes the latest published buffer as the front buffer, if there is one
+	 * 
+	 * @return
+	 * {@code true} if the front buffer has changed; {@code false} otherwise
+	 */
+	public boolean consume() {
+		// Nothing new
+		if((middle.get() & FRESH) == 0) return false;
+		
+		front = middle.getAndSet(front) & INDEX;
+		return true;
+	}
+	
+	/**
+	 * <b>Consumer only</b>
+	 * <br>
+	 * Same as {@link #consume()}, but parks the consumer until a buffer
+	 * is published instead of returning without one
+	 * 
+	 * @return
+	 * {@code true} if the front buffer has changed; {@code false} if the consumer was interrupted
+	 */
+	public boolean await() {
+		// Set before checking, so a publish in between still unparks
+		waiting = Thread.currentThread();
+		try {
+			while(!consume()) {
+				if(Thread.interrupted()) return false;
+				
+				LockSupport.park(this);
+			}
+			
+			return true;
+		} finally {
+			waiting = null;
+		}
+	}
+	
+	/**
+	 * <b>Consumer only</b>
+	 * 
+	 * @return
+	 * - {@code Buffer} to read the latest consumed value from
+	 */
+	@SuppressWarnings("unchecked")
+	public T getFront() {
+		return (T)buffers[front];
+	}
+}